@@ -0,0 +1,163 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Immutable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import lombok.ToString;
+
+/**
+ * Archive of a repository at some ref, a tarball or a zipball.
+ *
+ * <p>The whole tree comes in one request. It is either saved to the file
+ * or read entry by entry, as it arrives, without being buffered in memory
+ * or on disk:
+ *
+ * <pre> try (Archive.Entries entries = repo.tarball("master").entries()) {
+ *   while (entries.hasNext()) {
+ *     final Archive.Entry entry = entries.next();
+ *     if (!entry.directory()) {
+ *       index(entry.path(), entry.content());
+ *     }
+ *   }
+ * }</pre>
+ *
+ * <p>Paths of all entries start with the directory GitHub puts the tree
+ * into, for example {@code jcabi-jcabi-github-a1b2c3d/}.
+ *
+ * @since 2.0
+ * @see <a href="https://docs.github.com/en/rest/repos/contents#download-a-repository-archive-tar">Download a repository archive</a>
+ */
+@Immutable
+public interface Archive {
+
+    /**
+     * The repo we're in.
+     * @return Repo
+     */
+    Repo repo();
+
+    /**
+     * The ref it is made of: branch, tag or commit SHA.
+     * @return Ref
+     */
+    String ref();
+
+    /**
+     * Raw content of the archive, as it arrives.
+     * @return Stream, which must be closed
+     * @throws IOException If there is any I/O problem
+     */
+    InputStream raw() throws IOException;
+
+    /**
+     * Save the archive to the file, replacing its content.
+     * @param path The file
+     * @return Number of bytes saved
+     * @throws IOException If there is any I/O problem
+     */
+    long save(Path path) throws IOException;
+
+    /**
+     * Entries of the archive, read as they arrive.
+     * @return Entries, which must be closed
+     * @throws IOException If there is any I/O problem
+     */
+    Archive.Entries entries() throws IOException;
+
+    /**
+     * Entries of the archive, in the order they come.
+     *
+     * <p>I/O problems during the iteration are thrown as
+     * {@link IllegalStateException}.
+     * @since 2.0
+     */
+    interface Entries extends Iterator<Archive.Entry>, Closeable {
+    }
+
+    /**
+     * Entry of the archive.
+     *
+     * <p>Its content is read from the stream of the archive, so it is
+     * only available until the next entry is taken. Its size is -1 when
+     * the archive doesn't tell it before the content, like a zip entry
+     * with a data descriptor; count the bytes of the content to get it.
+     * @since 2.0
+     */
+    @ToString(of = { "name", "length", "folder" })
+    final class Entry {
+        /**
+         * Path inside the archive.
+         */
+        private final transient String name;
+
+        /**
+         * Size in bytes, or -1 if unknown.
+         */
+        private final transient long length;
+
+        /**
+         * Is it a directory?
+         */
+        private final transient boolean folder;
+
+        /**
+         * Content.
+         */
+        private final transient InputStream body;
+
+        /**
+         * Ctor, for implementations of {@link Archive}.
+         * @param path Path inside the archive
+         * @param size Size in bytes, or -1 if unknown
+         * @param directory Is it a directory
+         * @param content Content
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        public Entry(final String path, final long size,
+            final boolean directory, final InputStream content) {
+            this.name = path;
+            this.length = size;
+            this.folder = directory;
+            this.body = content;
+        }
+
+        /**
+         * Path inside the archive, directories end with a slash.
+         * @return Path
+         */
+        public String path() {
+            return this.name;
+        }
+
+        /**
+         * Size of the content.
+         * @return Size in bytes, or -1 if unknown
+         */
+        public long size() {
+            return this.length;
+        }
+
+        /**
+         * Is it a directory?
+         * @return TRUE if it is
+         */
+        public boolean directory() {
+            return this.folder;
+        }
+
+        /**
+         * Content, which ends where the entry ends.
+         * @return Stream, which doesn't need to be closed
+         */
+        public InputStream content() {
+            return this.body;
+        }
+    }
+}
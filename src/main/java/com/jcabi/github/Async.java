@@ -0,0 +1,323 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Asynchronous facade of GitHub.
+ *
+ * <p>Every call runs the same {@link Request}, through the same chain
+ * of wires, on the given {@link Executor} and returns
+ * a {@link CompletableFuture} immediately, so the calling thread is never
+ * blocked on I/O:
+ *
+ * <pre> Async async = new RtGitHub(oauthKey).async();
+ * CompletableFuture&lt;JsonObject&gt; json = async.json(
+ *   async.github().repos().get(new Coordinates.Simple("jcabi/jcabi-github"))
+ * );</pre>
+ *
+ * <p>By default calls run on a shared pool of at most 16 daemon threads,
+ * other calls wait in the queue for a free thread. Idle threads die
+ * after a minute. Provide your own executor to size it differently.
+ *
+ * @since 2.0
+ */
+@ToString(of = "ghub")
+@EqualsAndHashCode(of = { "ghub", "executor" })
+public final class Async {
+
+    /**
+     * Maximum number of default threads.
+     */
+    private static final int MAX = 16;
+
+    /**
+     * Default threads.
+     */
+    private static final Executor THREADS = Async.threads();
+
+    /**
+     * GitHub.
+     */
+    private final transient GitHub ghub;
+
+    /**
+     * Executor to run calls on.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Public ctor.
+     * @param github GitHub
+     */
+    public Async(final GitHub github) {
+        this(github, Async.THREADS);
+    }
+
+    /**
+     * Public ctor.
+     * @param github GitHub
+     * @param exec Executor to run calls on
+     */
+    public Async(final GitHub github, final Executor exec) {
+        this.ghub = github;
+        this.executor = exec;
+    }
+
+    /**
+     * GitHub we're in.
+     * @return GitHub
+     */
+    public GitHub github() {
+        return this.ghub;
+    }
+
+    /**
+     * Read JSON of the item.
+     * @param item Item to read
+     * @return JSON, in the future
+     */
+    public CompletableFuture<JsonObject> json(final JsonReadable item) {
+        return this.submit(item::json);
+    }
+
+    /**
+     * Patch the item.
+     * @param item Item to patch
+     * @param json JSON to use for patching
+     * @return Completion of the patch
+     */
+    public CompletableFuture<Void> patch(final JsonPatchable item,
+        final JsonObject json) {
+        return this.submit(
+            () -> {
+                item.patch(json);
+                return null;
+            }
+        );
+    }
+
+    /**
+     * Fetch the request.
+     * @param request Request to fetch
+     * @return Response, in the future
+     */
+    public CompletableFuture<Response> fetch(final Request request) {
+        return this.submit(request::fetch);
+    }
+
+    /**
+     * Iterate pages asynchronously.
+     * @param pagination Pagination to iterate
+     * @param <T> Type of iterable objects
+     * @param <P> Type of source objects
+     * @return Pages
+     */
+    public <T, P extends JsonValue> Async.Pages<T, P> pages(
+        final RtValuePagination<T, P> pagination
+    ) {
+        return new Async.Pages<>(
+            this, pagination.request(), pagination.mapping(),
+            pagination.source()
+        );
+    }
+
+    /**
+     * Iterate pages asynchronously.
+     * @param pagination Pagination to iterate
+     * @param <T> Type of iterable objects
+     * @return Pages
+     */
+    public <T> Async.Pages<T, JsonObject> pages(
+        final RtPagination<T> pagination
+    ) {
+        return new Async.Pages<>(
+            this, pagination.request(), pagination.mapping(),
+            pagination.source()
+        );
+    }
+
+    /**
+     * Run the call on the executor.
+     * @param call Call to run
+     * @param <T> Type of result
+     * @return Result, in the future
+     */
+    private <T> CompletableFuture<T> submit(final Async.Call<T> call) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        this.executor.execute(
+            () -> {
+                try {
+                    future.complete(call.call());
+                } catch (final IOException | RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                }
+            }
+        );
+        return future;
+    }
+
+    /**
+     * Make the default pool of threads.
+     * @return Executor
+     */
+    private static Executor threads() {
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            Async.MAX, Async.MAX, 1L, TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("jcabi-github-async-%d")
+                .build()
+        );
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Blocking call.
+     * @param <T> Type of result
+     * @since 2.0
+     */
+    private interface Call<T> {
+        /**
+         * Make the call.
+         * @return Result
+         * @throws IOException If fails
+         */
+        T call() throws IOException;
+    }
+
+    /**
+     * Asynchronous iterator of pages.
+     *
+     * <p>Every {@link #next()} returns the items of the next page. As soon
+     * as a page arrives, the one after it is requested, so the caller
+     * normally finds the next page already fetched. An empty list means
+     * that there are no more pages:
+     *
+     * <pre> Async.Pages&lt;Issue, JsonObject&gt; pages = async.pages(
+     *   new RtPagination&lt;&gt;(request, mapping)
+     * );
+     * pages.next().thenAccept(issues -&gt; ...);</pre>
+     *
+     * @param <T> Type of iterable objects
+     * @param <P> Type of source objects
+     * @since 2.0
+     */
+    @ToString(of = "start")
+    @SuppressWarnings("PMD.ConstructorShouldDoInitialization")
+    public static final class Pages<T, P extends JsonValue> {
+        /**
+         * Async we're in.
+         */
+        private final transient Async async;
+
+        /**
+         * Request of the first page.
+         */
+        private final transient Request start;
+
+        /**
+         * Mapping to use.
+         */
+        private final transient RtValuePagination.Mapping<T, P> mapping;
+
+        /**
+         * Source of pages.
+         */
+        private final transient RtValuePagination.Pages<P> source;
+
+        /**
+         * Page that will be returned next, NULL before the first one.
+         */
+        private transient CompletableFuture<RtValuePagination.Page<P>> cursor;
+
+        /**
+         * Ctor.
+         * @param asc Async
+         * @param req Request of the first page
+         * @param mpp Mapping
+         * @param src Source of pages
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Pages(final Async asc, final Request req,
+            final RtValuePagination.Mapping<T, P> mpp,
+            final RtValuePagination.Pages<P> src) {
+            this.async = asc;
+            this.start = req;
+            this.mapping = mpp;
+            this.source = src;
+        }
+
+        /**
+         * Items of the next page.
+         * @return Items, empty if there are no more pages
+         */
+        public CompletableFuture<List<T>> next() {
+            final CompletableFuture<RtValuePagination.Page<P>> current;
+            synchronized (this) {
+                if (this.cursor == null) {
+                    this.cursor = this.async.submit(
+                        () -> this.source.fetch(this.start)
+                    );
+                }
+                current = this.cursor;
+                this.cursor = current.thenCompose(this::following);
+            }
+            return current.thenApply(this::items);
+        }
+
+        /**
+         * Fetch the page after the given one.
+         * @param page Page
+         * @return Next page, in the future
+         */
+        private CompletableFuture<RtValuePagination.Page<P>> following(
+            final RtValuePagination.Page<P> page
+        ) {
+            final CompletableFuture<RtValuePagination.Page<P>> next;
+            if (page.last()) {
+                next = CompletableFuture.completedFuture(
+                    new RtValuePagination.Page<>(Collections.emptyList(), null)
+                );
+            } else {
+                next = this.async.submit(
+                    () -> this.source.fetch(page.next())
+                );
+            }
+            return next;
+        }
+
+        /**
+         * Map values of the page.
+         * @param page Page
+         * @return Items
+         */
+        private List<T> items(final RtValuePagination.Page<P> page) {
+            final List<T> items = new ArrayList<>(page.values().size());
+            for (final P value : page.values()) {
+                items.add(this.mapping.map(value));
+            }
+            return items;
+        }
+    }
+}
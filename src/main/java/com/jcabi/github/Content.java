@@ -12,6 +12,8 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import javax.xml.bind.DatatypeConverter;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -45,6 +47,24 @@ public interface Content extends Comparable<Content>,
      */
     InputStream raw() throws IOException;
 
+    /**
+     * Save the raw contents to the file, replacing its content.
+     * @param file The file
+     * @return Number of bytes saved
+     * @throws IOException If an IO error occurs
+     * @since 2.0
+     */
+    long raw(Path file) throws IOException;
+
+    /**
+     * Write the raw contents to the channel.
+     * @param channel The channel, which is not closed
+     * @return Number of bytes written
+     * @throws IOException If an IO error occurs
+     * @since 2.0
+     */
+    long raw(WritableByteChannel channel) throws IOException;
+
     /**
      * Smart Content with extra features.
      * @since 0.8
@@ -196,5 +216,15 @@ public interface Content extends Comparable<Content>,
         public InputStream raw() throws IOException {
             return this.content.raw();
         }
+
+        @Override
+        public long raw(final Path file) throws IOException {
+            return this.content.raw(file);
+        }
+
+        @Override
+        public long raw(final WritableByteChannel channel) throws IOException {
+            return this.content.raw(channel);
+        }
     }
 }
@@ -0,0 +1,483 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Fan-out of a blocking action over many items.
+ *
+ * <p>Runs the action for every item concurrently, but never more than
+ * {@code total} at once and never more than {@code per} at once for items
+ * with the same key (for example, the same GitHub host). Results come back
+ * in the order of completion, as soon as they are ready:
+ *
+ * <pre> try (FanOut.Results&lt;Integer&gt; counts = new FanOut&lt;Repo, Integer&gt;(
+ *   repo -&gt; Iterables.size(repo.issues().iterate(params)), 32
+ * ).apply(org.repos())) {
+ *   while (counts.hasNext()) {
+ *     total += counts.next();
+ *   }
+ * }</pre>
+ *
+ * <p>The first failure cancels all other running and pending actions at
+ * once, when it happens, and is rethrown from {@link Results#next()} as
+ * {@link IllegalStateException}, after the results which were ready
+ * before it. {@link Results#close()} cancels everything as well. Cancellation
+ * interrupts the threads, which wakes up the ones sleeping in
+ * {@link com.jcabi.github.wire.CarefulWire} until the rate limit reset.
+ *
+ * <p>By default actions run on a shared pool of daemon threads, which
+ * grows on demand. On Java 21 and later you can run them on virtual
+ * threads with {@code Executors.newVirtualThreadPerTaskExecutor()}.
+ * Items are iterated on a thread of their own, not on the executor, so
+ * even a fixed pool of one thread is enough.
+ *
+ * @param <T> Type of items
+ * @param <R> Type of results
+ * @since 2.0
+ */
+@ToString(of = { "total", "per" })
+@EqualsAndHashCode(of = { "action", "executor", "total", "per", "key" })
+public final class FanOut<T, R> {
+
+    /**
+     * Default threads.
+     */
+    private static final ExecutorService THREADS = Executors.newCachedThreadPool(
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("jcabi-github-fanout-%d")
+            .build()
+    );
+
+    /**
+     * Threads that iterate items.
+     */
+    private static final ThreadFactory FEEDERS = new ThreadFactoryBuilder()
+        .setDaemon(true)
+        .setNameFormat("jcabi-github-fanout-feeder-%d")
+        .build();
+
+    /**
+     * Action to run.
+     */
+    private final transient FanOut.Action<T, R> action;
+
+    /**
+     * Executor to run actions on.
+     */
+    private final transient ExecutorService executor;
+
+    /**
+     * Maximum number of actions running at once.
+     */
+    private final transient int total;
+
+    /**
+     * Maximum number of actions running at once, per key.
+     */
+    private final transient int per;
+
+    /**
+     * Key of the item.
+     */
+    private final transient FanOut.Key<T> key;
+
+    /**
+     * Public ctor.
+     * @param act Action to run for every item
+     * @param max Maximum number of actions running at once
+     */
+    public FanOut(final FanOut.Action<T, R> act, final int max) {
+        this(act, FanOut.THREADS, max, max, item -> "");
+    }
+
+    /**
+     * Public ctor.
+     * @param act Action to run for every item
+     * @param exec Executor to run actions on
+     * @param max Maximum number of actions running at once
+     * @param limit Maximum number of actions running at once, per key
+     * @param group Key of the item, for example its host
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public FanOut(final FanOut.Action<T, R> act, final ExecutorService exec,
+        final int max, final int limit, final FanOut.Key<T> group) {
+        if (max <= 0 || limit <= 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Concurrency must be positive: %d total, %d per key",
+                    max, limit
+                )
+            );
+        }
+        this.action = act;
+        this.executor = exec;
+        this.total = max;
+        this.per = limit;
+        this.key = group;
+    }
+
+    /**
+     * Run the action for all items.
+     *
+     * <p>Items are iterated on a separate thread, so it is safe to pass
+     * a lazy pagination, which fetches its pages over the network, and
+     * the iteration never takes a thread of the executor from the actions.
+     * @param items Items
+     * @return Results, in the order of completion
+     */
+    public FanOut.Results<R> apply(final Iterable<T> items) {
+        final FanOut.Results<R> results = new FanOut.Results<>();
+        final FutureTask<Void> feeder = new FutureTask<>(
+            () -> this.feed(items, results), null
+        );
+        results.track(feeder);
+        FanOut.FEEDERS.newThread(feeder).start();
+        return results;
+    }
+
+    /**
+     * Submit actions for all items.
+     * @param items Items
+     * @param results Results to report to
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void feed(final Iterable<T> items, final FanOut.Results<R> results) {
+        final Semaphore all = new Semaphore(this.total);
+        final ConcurrentMap<String, Semaphore> keys = new ConcurrentHashMap<>(0);
+        int count = 0;
+        try {
+            for (final T item : items) {
+                final Semaphore one = keys.computeIfAbsent(
+                    this.key.key(item), name -> new Semaphore(this.per)
+                );
+                all.acquire();
+                try {
+                    one.acquire();
+                } catch (final InterruptedException ex) {
+                    all.release();
+                    throw ex;
+                }
+                if (results.cancelled()) {
+                    break;
+                }
+                results.track(
+                    this.executor.submit(
+                        () -> {
+                            try {
+                                results.done(this.action.apply(item));
+                            } catch (final IOException | RuntimeException ex) {
+                                results.failed(ex);
+                            } finally {
+                                one.release();
+                                all.release();
+                            }
+                        }
+                    )
+                );
+                ++count;
+            }
+            results.fed(count);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            results.failed(ex);
+        } catch (final RuntimeException ex) {
+            results.failed(ex);
+        }
+    }
+
+    /**
+     * Action to run for one item.
+     * @param <T> Type of item
+     * @param <R> Type of result
+     * @since 2.0
+     */
+    public interface Action<T, R> {
+        /**
+         * Run it.
+         * @param item The item
+         * @return Result
+         * @throws IOException If fails
+         */
+        R apply(T item) throws IOException;
+    }
+
+    /**
+     * Key of the item, to limit concurrency per key.
+     * @param <T> Type of item
+     * @since 2.0
+     */
+    public interface Key<T> {
+        /**
+         * Get the key.
+         * @param item The item
+         * @return Key, for example a host name
+         */
+        String key(T item);
+    }
+
+    /**
+     * Results of fan-out, in the order of completion.
+     * @param <R> Type of results
+     * @since 2.0
+     */
+    @SuppressWarnings("PMD.ConstructorShouldDoInitialization")
+    public static final class Results<R> implements Iterator<R>, Closeable {
+        /**
+         * Outcomes, as they arrive.
+         */
+        private final transient BlockingQueue<FanOut.Outcome<R>> outcomes =
+            new LinkedBlockingQueue<>();
+
+        /**
+         * Futures of all tasks.
+         */
+        private final transient Queue<Future<?>> futures =
+            new ConcurrentLinkedQueue<>();
+
+        /**
+         * Is it closed by the consumer?
+         */
+        private final transient AtomicBoolean stop = new AtomicBoolean();
+
+        /**
+         * Are all actions cancelled, by a failure or by closing?
+         */
+        private final transient AtomicBoolean halt = new AtomicBoolean();
+
+        /**
+         * Number of submitted actions, negative until all of them are.
+         */
+        private transient int expected = -1;
+
+        /**
+         * Number of received results.
+         */
+        private transient int received;
+
+        /**
+         * Outcome to return next, or NULL.
+         */
+        private transient FanOut.Outcome<R> ahead;
+
+        @Override
+        public boolean hasNext() {
+            synchronized (this.outcomes) {
+                while (this.ahead == null && this.expected != this.received
+                    && !this.stop.get()) {
+                    final FanOut.Outcome<R> outcome = this.take();
+                    if (outcome.marker()) {
+                        this.expected = outcome.count();
+                    } else {
+                        this.ahead = outcome;
+                        ++this.received;
+                    }
+                }
+                return this.ahead != null;
+            }
+        }
+
+        @Override
+        public R next() {
+            synchronized (this.outcomes) {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException(
+                        "no more results, use #hasNext()"
+                    );
+                }
+                final FanOut.Outcome<R> outcome = this.ahead;
+                this.ahead = null;
+                if (outcome.error() != null) {
+                    this.close();
+                    throw new IllegalStateException(outcome.error());
+                }
+                return outcome.value();
+            }
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("#remove()");
+        }
+
+        /**
+         * Cancel all running and pending actions.
+         */
+        @Override
+        public void close() {
+            this.stop.set(true);
+            this.cancel();
+        }
+
+        /**
+         * Track the future, to cancel it later.
+         * @param future Future
+         */
+        void track(final Future<?> future) {
+            this.futures.add(future);
+            if (this.halt.get()) {
+                future.cancel(true);
+            }
+        }
+
+        /**
+         * Is it cancelled?
+         * @return TRUE if cancelled
+         */
+        boolean cancelled() {
+            return this.halt.get();
+        }
+
+        /**
+         * Action completed.
+         * @param value Result
+         */
+        void done(final R value) {
+            this.outcomes.add(new FanOut.Outcome<>(value, null, -1));
+        }
+
+        /**
+         * Action or iteration failed.
+         *
+         * <p>The first failure cancels everything else right away, the
+         * ones after it are consequences of the cancellation and are
+         * ignored.
+         * @param error Error
+         */
+        void failed(final Exception error) {
+            if (!this.stop.get() && this.halt.compareAndSet(false, true)) {
+                this.outcomes.add(new FanOut.Outcome<>(null, error, -1));
+                this.cancelAll();
+            }
+        }
+
+        /**
+         * All actions are submitted.
+         * @param count Number of actions
+         */
+        void fed(final int count) {
+            this.outcomes.add(new FanOut.Outcome<>(null, null, count));
+        }
+
+        /**
+         * Cancel all running and pending actions, once.
+         */
+        private void cancel() {
+            if (this.halt.compareAndSet(false, true)) {
+                this.cancelAll();
+            }
+        }
+
+        /**
+         * Cancel all futures tracked so far.
+         */
+        private void cancelAll() {
+            for (final Future<?> future : this.futures) {
+                future.cancel(true);
+            }
+        }
+
+        /**
+         * Take the next outcome, waiting if necessary.
+         * @return Outcome
+         */
+        private FanOut.Outcome<R> take() {
+            try {
+                return this.outcomes.take();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                this.close();
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /**
+     * Outcome of one action, or a marker of the end of submission.
+     * @param <R> Type of result
+     * @since 2.0
+     */
+    private static final class Outcome<R> {
+        /**
+         * Result.
+         */
+        private final transient R result;
+
+        /**
+         * Error, or NULL.
+         */
+        private final transient Exception problem;
+
+        /**
+         * Number of submitted actions, if it is a marker, or negative.
+         */
+        private final transient int submitted;
+
+        /**
+         * Ctor.
+         * @param value Result
+         * @param error Error or NULL
+         * @param count Number of submitted actions or negative
+         */
+        Outcome(final R value, final Exception error, final int count) {
+            this.result = value;
+            this.problem = error;
+            this.submitted = count;
+        }
+
+        /**
+         * Is it a marker of the end of submission?
+         * @return TRUE if it is
+         */
+        boolean marker() {
+            return this.submitted >= 0;
+        }
+
+        /**
+         * Number of submitted actions.
+         * @return Count
+         */
+        int count() {
+            return this.submitted;
+        }
+
+        /**
+         * Result.
+         * @return Result
+         */
+        R value() {
+            return this.result;
+        }
+
+        /**
+         * Error.
+         * @return Error or NULL
+         */
+        Exception error() {
+            return this.problem;
+        }
+    }
+}
@@ -136,14 +136,14 @@ public interface Limit extends JsonReadable {
 
         @Override
         public JsonObject json() throws IOException {
-            final int limit = new SmartJson(this.origin).number("limit");
-            final int remaining = this.max - (
-                limit - new SmartJson(this.origin).number("remaining")
-                );
+            final JsonObject json = this.origin.json();
+            final SmartJson smart = new SmartJson(() -> json);
+            final int limit = smart.number("limit");
+            final int remaining = this.max - (limit - smart.number("remaining"));
             return Json.createObjectBuilder()
                 .add("limit", limit)
                 .add("remaining", remaining)
-                .add("reset", new SmartJson(this.origin).number("reset"))
+                .add("reset", smart.number("reset"))
                 .build();
         }
 
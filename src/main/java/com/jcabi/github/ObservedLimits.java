@@ -0,0 +1,180 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.github.wire.Ledger;
+import com.jcabi.http.Request;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.immutable.Array;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Limits, as observed in the headers of ordinary responses.
+ *
+ * <p>Every response of GitHub carries {@code X-RateLimit-*} headers,
+ * which {@link com.jcabi.github.wire.LedgerWire} records into
+ * the {@link Ledger}. This class answers from the ledger, and asks
+ * {@code /rate_limit} only if nothing was observed for the credentials
+ * of the request and the resource, or the observation is older
+ * than {@code age}, or its window is already reset.
+ *
+ * @since 2.0
+ */
+@ToString(of = "origin")
+@EqualsAndHashCode(of = { "origin", "entry", "age" })
+final class ObservedLimits implements Limits {
+
+    /**
+     * Default maximum age of an observation, in milliseconds.
+     */
+    private static final long AGE = TimeUnit.MINUTES.toMillis(1L);
+
+    /**
+     * Limits to use when observations are stale.
+     */
+    private final transient Limits origin;
+
+    /**
+     * API entry point.
+     */
+    private final transient Request entry;
+
+    /**
+     * Ledger of observations.
+     */
+    private final transient Ledger ledger;
+
+    /**
+     * Maximum age of an observation, in milliseconds.
+     */
+    private final transient long age;
+
+    /**
+     * Ctor.
+     * @param limits Limits to use when observations are stale
+     * @param req API entry point
+     */
+    ObservedLimits(final Limits limits, final Request req) {
+        this(limits, req, Ledger.SHARED, ObservedLimits.AGE);
+    }
+
+    /**
+     * Ctor.
+     * @param limits Limits to use when observations are stale
+     * @param req API entry point
+     * @param book Ledger of observations
+     * @param max Maximum age of an observation, in milliseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ObservedLimits(final Limits limits, final Request req, final Ledger book,
+        final long max) {
+        this.origin = limits;
+        this.entry = req;
+        this.ledger = book;
+        this.age = max;
+    }
+
+    @Override
+    public GitHub github() {
+        return this.origin.github();
+    }
+
+    @Override
+    public Limit get(final String resource) {
+        return new ObservedLimits.Observed(this, resource);
+    }
+
+    /**
+     * Credential of the entry point.
+     *
+     * <p>{@link Request} has no getter for its headers, so they are
+     * captured by the wire, which replaces the whole chain of wires
+     * of the request and answers without going to the network.
+     * @return Value of the Authorization header or empty string
+     * @throws IOException If fails
+     */
+    private String credential() throws IOException {
+        final AtomicReference<String> auth = new AtomicReference<>("");
+        this.entry.through(
+            (req, home, method, headers, content, connect, read) -> {
+                for (final Map.Entry<String, String> header : headers) {
+                    if ("Authorization".equalsIgnoreCase(header.getKey())) {
+                        auth.set(header.getValue());
+                    }
+                }
+                return new DefaultResponse(
+                    req, HttpURLConnection.HTTP_OK, "OK",
+                    new Array<>(), new byte[0]
+                );
+            }
+        ).fetch();
+        return auth.get();
+    }
+
+    /**
+     * Limit of one resource.
+     * @since 2.0
+     */
+    @ToString(of = "res")
+    @EqualsAndHashCode(of = { "limits", "res" })
+    private static final class Observed implements Limit {
+        /**
+         * Limits we're in.
+         */
+        private final transient ObservedLimits limits;
+
+        /**
+         * Name of resource.
+         */
+        private final transient String res;
+
+        /**
+         * Ctor.
+         * @param lmts Limits
+         * @param name Name of resource
+         */
+        Observed(final ObservedLimits lmts, final String name) {
+            this.limits = lmts;
+            this.res = name;
+        }
+
+        @Override
+        public GitHub github() {
+            return this.limits.github();
+        }
+
+        @Override
+        public JsonObject json() throws IOException {
+            final Optional<Ledger.Entry> seen = this.limits.ledger.entry(
+                this.limits.entry.uri().get().toString(),
+                this.limits.credential(), this.res
+            );
+            final long now = System.currentTimeMillis();
+            final JsonObject json;
+            if (seen.isPresent() && seen.get().limit() > 0
+                && now - seen.get().observed() <= this.limits.age
+                && TimeUnit.SECONDS.toMillis(seen.get().reset()) > now) {
+                json = Json.createObjectBuilder()
+                    .add("limit", seen.get().limit())
+                    .add("used", seen.get().limit() - seen.get().remaining())
+                    .add("remaining", seen.get().remaining())
+                    .add("reset", seen.get().reset())
+                    .build();
+            } else {
+                json = this.limits.origin.get(this.res).json();
+            }
+            return json;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import jakarta.json.JsonObject;
+import java.io.IOException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Issue with its JSON already known, for example from a search hit.
+ *
+ * <p>{@link #json()} returns the snapshot without a request, so
+ * {@link Issue.Smart} reads the title, the state or the author of the
+ * issue for free. The snapshot is not refreshed, not even after
+ * {@link #patch(JsonObject)}: get the issue from its repo to read
+ * it again. Everything else goes to the original issue.
+ *
+ * @since 2.0
+ */
+@ToString(of = "origin")
+@EqualsAndHashCode(of = { "origin", "snapshot" })
+final class PreloadedIssue implements Issue {
+
+    /**
+     * Original issue.
+     */
+    private final transient Issue origin;
+
+    /**
+     * JSON of the issue.
+     */
+    private final transient JsonObject snapshot;
+
+    /**
+     * Ctor.
+     * @param issue Original issue
+     * @param json JSON of the issue
+     */
+    PreloadedIssue(final Issue issue, final JsonObject json) {
+        this.origin = issue;
+        this.snapshot = json;
+    }
+
+    @Override
+    public Repo repo() {
+        return this.origin.repo();
+    }
+
+    @Override
+    public int number() {
+        return this.origin.number();
+    }
+
+    @Override
+    public Comments comments() {
+        return this.origin.comments();
+    }
+
+    @Override
+    public IssueLabels labels() {
+        return this.origin.labels();
+    }
+
+    @Override
+    public Iterable<Event> events() throws IOException {
+        return this.origin.events();
+    }
+
+    @Override
+    public boolean exists() throws IOException {
+        return this.origin.exists();
+    }
+
+    @Override
+    public void react(final Reaction reaction) throws IOException {
+        this.origin.react(reaction);
+    }
+
+    @Override
+    public Iterable<Reaction> reactions() {
+        return this.origin.reactions();
+    }
+
+    @Override
+    public void lock(final String reason) {
+        this.origin.lock(reason);
+    }
+
+    @Override
+    public void unlock() {
+        this.origin.unlock();
+    }
+
+    @Override
+    public boolean isLocked() {
+        return this.origin.isLocked();
+    }
+
+    @Override
+    public JsonObject json() {
+        return this.snapshot;
+    }
+
+    @Override
+    public void patch(final JsonObject json) throws IOException {
+        this.origin.patch(json);
+    }
+
+    @Override
+    public int compareTo(final Issue issue) {
+        return this.origin.compareTo(issue);
+    }
+}
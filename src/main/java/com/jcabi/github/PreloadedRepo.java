@@ -0,0 +1,186 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import jakarta.json.JsonObject;
+import java.io.IOException;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Repo with its JSON already known, for example from a search hit.
+ *
+ * <p>{@link #json()} returns the snapshot without a request, so
+ * {@link Repo.Smart} reads the description or the privacy of the repo
+ * for free. The snapshot is not refreshed, not even after
+ * {@link #patch(JsonObject)}: get the repo from {@link Repos} to read
+ * it again. Everything else goes to the original repo.
+ *
+ * @since 2.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@EqualsAndHashCode(of = { "origin", "snapshot" })
+@SuppressWarnings({ "PMD.TooManyMethods", "PMD.CouplingBetweenObjects" })
+final class PreloadedRepo implements Repo {
+
+    /**
+     * Original repo.
+     */
+    private final transient Repo origin;
+
+    /**
+     * JSON of the repo.
+     */
+    private final transient JsonObject snapshot;
+
+    /**
+     * Ctor.
+     * @param repo Original repo
+     * @param json JSON of the repo
+     */
+    PreloadedRepo(final Repo repo, final JsonObject json) {
+        this.origin = repo;
+        this.snapshot = json;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public GitHub github() {
+        return this.origin.github();
+    }
+
+    @Override
+    public Coordinates coordinates() {
+        return this.origin.coordinates();
+    }
+
+    @Override
+    public Issues issues() {
+        return this.origin.issues();
+    }
+
+    @Override
+    public Milestones milestones() {
+        return this.origin.milestones();
+    }
+
+    @Override
+    public Pulls pulls() {
+        return this.origin.pulls();
+    }
+
+    @Override
+    public Hooks hooks() {
+        return this.origin.hooks();
+    }
+
+    @Override
+    public IssueEvents issueEvents() {
+        return this.origin.issueEvents();
+    }
+
+    @Override
+    public Labels labels() {
+        return this.origin.labels();
+    }
+
+    @Override
+    public Assignees assignees() {
+        return this.origin.assignees();
+    }
+
+    @Override
+    public Releases releases() {
+        return this.origin.releases();
+    }
+
+    @Override
+    public DeployKeys keys() {
+        return this.origin.keys();
+    }
+
+    @Override
+    public Forks forks() {
+        return this.origin.forks();
+    }
+
+    @Override
+    public RepoCommits commits() {
+        return this.origin.commits();
+    }
+
+    @Override
+    public Branches branches() {
+        return this.origin.branches();
+    }
+
+    @Override
+    public Contents contents() {
+        return this.origin.contents();
+    }
+
+    @Override
+    public Collaborators collaborators() {
+        return this.origin.collaborators();
+    }
+
+    @Override
+    public Git git() {
+        return this.origin.git();
+    }
+
+    @Override
+    public Stars stars() {
+        return this.origin.stars();
+    }
+
+    @Override
+    public Notifications notifications() {
+        return this.origin.notifications();
+    }
+
+    @Override
+    public Iterable<Language> languages() throws IOException {
+        return this.origin.languages();
+    }
+
+    @Override
+    public Branch defaultBranch() throws IOException {
+        return this.origin.defaultBranch();
+    }
+
+    @Override
+    public Stargazers stargazers() {
+        return this.origin.stargazers();
+    }
+
+    @Override
+    public Archive tarball(final String ref) {
+        return this.origin.tarball(ref);
+    }
+
+    @Override
+    public Archive zipball(final String ref) {
+        return this.origin.zipball(ref);
+    }
+
+    @Override
+    public JsonObject json() {
+        return this.snapshot;
+    }
+
+    @Override
+    public void patch(final JsonObject json) throws IOException {
+        this.origin.patch(json);
+    }
+
+    @Override
+    public int compareTo(final Repo repo) {
+        return this.origin.compareTo(repo);
+    }
+}
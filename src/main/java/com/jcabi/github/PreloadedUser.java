@@ -0,0 +1,274 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * User with its JSON already known, for example from a search hit.
+ *
+ * <p>{@link #json()} reads the snapshot without a request. Search hits
+ * carry only the summary of the user, like {@code login},
+ * {@code avatar_url} and {@code html_url}; when a key is not in the
+ * snapshot, for example {@code name} or {@code email}, the JSON of the
+ * original user is fetched, once, and the key is read from it. Only
+ * reading such a key makes a request: iterating the JSON, printing or
+ * comparing it sees only the keys of the snapshot. The snapshot is not
+ * refreshed, not even after {@link #patch(JsonObject)}. Everything else
+ * goes to the original user.
+ *
+ * @since 2.0
+ */
+@ToString(of = "origin")
+@EqualsAndHashCode(of = { "origin", "snapshot" })
+final class PreloadedUser implements User {
+
+    /**
+     * Original user.
+     */
+    private final transient User origin;
+
+    /**
+     * JSON of the user.
+     */
+    private final transient JsonObject snapshot;
+
+    /**
+     * JSON of the user, falling back to the original one.
+     */
+    private final transient JsonObject full;
+
+    /**
+     * Ctor.
+     * @param user Original user
+     * @param json JSON of the user
+     */
+    PreloadedUser(final User user, final JsonObject json) {
+        this.origin = user;
+        this.snapshot = json;
+        this.full = new PreloadedUser.Fallback(json, user);
+    }
+
+    @Override
+    public GitHub github() {
+        return this.origin.github();
+    }
+
+    @Override
+    public String login() throws IOException {
+        return this.origin.login();
+    }
+
+    @Override
+    public UserOrganizations organizations() {
+        return this.origin.organizations();
+    }
+
+    @Override
+    public PublicKeys keys() {
+        return this.origin.keys();
+    }
+
+    @Override
+    public UserEmails emails() {
+        return this.origin.emails();
+    }
+
+    @Override
+    public Notifications notifications() throws IOException {
+        return this.origin.notifications();
+    }
+
+    @Override
+    public void markAsRead(final Date lastread) throws IOException {
+        this.origin.markAsRead(lastread);
+    }
+
+    @Override
+    public JsonObject json() {
+        return this.full;
+    }
+
+    @Override
+    public void patch(final JsonObject json) throws IOException {
+        this.origin.patch(json);
+    }
+
+    /**
+     * JSON object, which reads the keys it doesn't have from the JSON
+     * of the original user.
+     *
+     * <p>Only {@link #get(Object)}, {@link #containsKey(Object)} and
+     * the getters of the keys the snapshot doesn't have fetch the original
+     * JSON. Entries, {@link #equals(Object)}, {@link #hashCode()} and
+     * {@link #toString()} are the ones of the snapshot. I/O problems are
+     * thrown as {@link IllegalStateException}.
+     * @since 2.0
+     */
+    @SuppressWarnings("PMD.TooManyMethods")
+    private static final class Fallback extends AbstractMap<String, JsonValue>
+        implements JsonObject {
+        /**
+         * Snapshot.
+         */
+        private final transient JsonObject snapshot;
+
+        /**
+         * Original user.
+         */
+        private final transient User origin;
+
+        /**
+         * JSON of the original user, once fetched.
+         */
+        private final transient AtomicReference<JsonObject> loaded;
+
+        /**
+         * Ctor.
+         * @param json Snapshot
+         * @param user Original user
+         */
+        Fallback(final JsonObject json, final User user) {
+            super();
+            this.snapshot = json;
+            this.origin = user;
+            this.loaded = new AtomicReference<>();
+        }
+
+        @Override
+        public JsonValue get(final Object key) {
+            return this.source(key).get(key);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return this.source(key).containsKey(key);
+        }
+
+        @Override
+        public Set<Map.Entry<String, JsonValue>> entrySet() {
+            return this.snapshot.entrySet();
+        }
+
+        @Override
+        public JsonArray getJsonArray(final String name) {
+            return this.source(name).getJsonArray(name);
+        }
+
+        @Override
+        public JsonObject getJsonObject(final String name) {
+            return this.source(name).getJsonObject(name);
+        }
+
+        @Override
+        public JsonNumber getJsonNumber(final String name) {
+            return this.source(name).getJsonNumber(name);
+        }
+
+        @Override
+        public JsonString getJsonString(final String name) {
+            return this.source(name).getJsonString(name);
+        }
+
+        @Override
+        public String getString(final String name) {
+            return this.source(name).getString(name);
+        }
+
+        @Override
+        public String getString(final String name, final String fallback) {
+            return this.source(name).getString(name, fallback);
+        }
+
+        @Override
+        public int getInt(final String name) {
+            return this.source(name).getInt(name);
+        }
+
+        @Override
+        public int getInt(final String name, final int fallback) {
+            return this.source(name).getInt(name, fallback);
+        }
+
+        @Override
+        public boolean getBoolean(final String name) {
+            return this.source(name).getBoolean(name);
+        }
+
+        @Override
+        public boolean getBoolean(final String name, final boolean fallback) {
+            return this.source(name).getBoolean(name, fallback);
+        }
+
+        @Override
+        public boolean isNull(final String name) {
+            return this.source(name).isNull(name);
+        }
+
+        @Override
+        public JsonValue.ValueType getValueType() {
+            return JsonValue.ValueType.OBJECT;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || this.snapshot.equals(obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.snapshot.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return this.snapshot.toString();
+        }
+
+        /**
+         * JSON to read the key from.
+         * @param key The key
+         * @return Snapshot, if it has the key, or the original JSON
+         */
+        private JsonObject source(final Object key) {
+            final JsonObject json;
+            if (this.snapshot.containsKey(key)) {
+                json = this.snapshot;
+            } else {
+                json = this.original();
+            }
+            return json;
+        }
+
+        /**
+         * JSON of the original user, fetched once.
+         * @return JSON
+         */
+        private JsonObject original() {
+            JsonObject json = this.loaded.get();
+            if (json == null) {
+                try {
+                    json = this.origin.json();
+                } catch (final IOException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                this.loaded.compareAndSet(null, json);
+            }
+            return json;
+        }
+    }
+}
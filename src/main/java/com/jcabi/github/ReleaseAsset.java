@@ -13,6 +13,8 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.text.ParseException;
 import java.util.Date;
 import lombok.EqualsAndHashCode;
@@ -53,6 +55,60 @@ public interface ReleaseAsset extends JsonReadable, JsonPatchable {
      */
     InputStream raw() throws IOException;
 
+    /**
+     * Save release asset raw content to the file, replacing its content.
+     * @param path The file
+     * @return Number of bytes saved
+     * @throws IOException If there is any I/O problem
+     * @since 2.0
+     */
+    long raw(Path path) throws IOException;
+
+    /**
+     * Write release asset raw content to the channel.
+     * @param channel The channel, which is not closed
+     * @return Number of bytes written
+     * @throws IOException If there is any I/O problem
+     * @since 2.0
+     */
+    long raw(WritableByteChannel channel) throws IOException;
+
+    /**
+     * Download release asset raw content to the file, resuming from the
+     * bytes already there, if the asset hasn't changed since.
+     * @param path The file
+     * @return Size of the file
+     * @throws IOException If there is any I/O problem
+     * @since 2.0
+     */
+    long download(Path path) throws IOException;
+
+    /**
+     * Download release asset raw content to the file, in segments which
+     * are fetched concurrently and written in place.
+     * @param path The file, which is replaced
+     * @param segments Maximum number of segments
+     * @param progress Progress of the download, reported from many threads
+     * @return Size of the file
+     * @throws IOException If there is any I/O problem
+     * @since 2.0
+     */
+    long download(Path path, int segments, ReleaseAsset.Progress progress)
+        throws IOException;
+
+    /**
+     * Progress of a download.
+     * @since 2.0
+     */
+    interface Progress {
+        /**
+         * Report the progress.
+         * @param done Number of bytes downloaded so far
+         * @param total Size of the asset, or negative if unknown
+         */
+        void update(long done, long total);
+    }
+
     /**
      * Smart ReleaseAsset with extra features.
      * @since 0.8
@@ -227,6 +283,27 @@ public interface ReleaseAsset extends JsonReadable, JsonPatchable {
             return this.asset.raw();
         }
 
+        @Override
+        public long raw(final Path path) throws IOException {
+            return this.asset.raw(path);
+        }
+
+        @Override
+        public long raw(final WritableByteChannel channel) throws IOException {
+            return this.asset.raw(channel);
+        }
+
+        @Override
+        public long download(final Path path) throws IOException {
+            return this.asset.download(path);
+        }
+
+        @Override
+        public long download(final Path path, final int segments,
+            final ReleaseAsset.Progress progress) throws IOException {
+            return this.asset.download(path, segments, progress);
+        }
+
         @Override
         public void patch(
             final JsonObject json
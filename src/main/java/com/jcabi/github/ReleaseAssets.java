@@ -6,6 +6,8 @@ package com.jcabi.github;
 
 import com.jcabi.aspects.Immutable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 
 /**
  * GitHub release assets.
@@ -43,6 +45,48 @@ public interface ReleaseAssets {
         String name
     ) throws IOException;
 
+    /**
+     * Upload a release asset from the file, without reading it into memory.
+     * @param file The file with the content.
+     * @param type Content-Type of the release asset.
+     * @param name Name of the release asset.
+     * @return The new release asset.
+     * @throws IOException If an IO Exception occurs
+     * @see <a href="https://developer.github.com/v3/repos/releases/#upload-a-release-asset">Upload a Release Asset</a>
+     * @since 2.0
+     */
+    ReleaseAsset upload(
+        Path file,
+        String type,
+        String name
+    ) throws IOException;
+
+    /**
+     * Upload a release asset from the stream, without reading it into
+     * memory.
+     *
+     * <p>The stream is sent as it is read only through
+     * {@link com.jcabi.github.wire.PooledWire}, the default transport of
+     * {@link RtGitHub}, which learns the length from the
+     * {@link com.jcabi.github.wire.PooledWire#SIZE} header. Other
+     * transports may read the whole stream into memory first.
+     * @param content The stream with the content, which is not closed.
+     * @param length Number of bytes to upload from the stream.
+     * @param type Content-Type of the release asset.
+     * @param name Name of the release asset.
+     * @return The new release asset.
+     * @throws IOException If an IO Exception occurs
+     * @see <a href="https://developer.github.com/v3/repos/releases/#upload-a-release-asset">Upload a Release Asset</a>
+     * @since 2.0
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ReleaseAsset upload(
+        InputStream content,
+        long length,
+        String type,
+        String name
+    ) throws IOException;
+
     /**
      * Get a single release asset.
      * @param number The release asset ID.
@@ -176,6 +176,24 @@ public interface Repo extends JsonReadable, JsonPatchable, Comparable<Repo> {
      */
     Stargazers stargazers();
 
+    /**
+     * Tarball of the repository at the ref.
+     * @param ref Branch, tag or commit SHA
+     * @return Archive
+     * @see <a href="https://docs.github.com/en/rest/repos/contents#download-a-repository-archive-tar">Download a repository archive (tar)</a>
+     * @since 2.0
+     */
+    Archive tarball(String ref);
+
+    /**
+     * Zipball of the repository at the ref.
+     * @param ref Branch, tag or commit SHA
+     * @return Archive
+     * @see <a href="https://docs.github.com/en/rest/repos/contents#download-a-repository-archive-zip">Download a repository archive (zip)</a>
+     * @since 2.0
+     */
+    Archive zipball(String ref);
+
     /**
      * Smart Repo with extra features.
      * @since 0.1
@@ -348,6 +366,16 @@ public interface Repo extends JsonReadable, JsonPatchable, Comparable<Repo> {
             );
         }
 
+        @Override
+        public Archive tarball(final String ref) {
+            return this.repo.tarball(ref);
+        }
+
+        @Override
+        public Archive zipball(final String ref) {
+            return this.repo.zipball(ref);
+        }
+
         @Override
         public void patch(
             final JsonObject json
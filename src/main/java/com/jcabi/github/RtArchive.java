@@ -0,0 +1,498 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.http.Request;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.apache.commons.io.input.CloseShieldInputStream;
+
+/**
+ * GitHub repository archive.
+ *
+ * <p>The body is streamed by {@link RtStream}, following the redirect to
+ * {@code codeload.github.com}. Tarballs are read by a minimal reader of
+ * gzipped {@code ustar}, which understands PAX and GNU long names, since
+ * that's all GitHub produces. Zipballs are read by {@link ZipInputStream}.
+ *
+ * @since 2.0
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = { "owner", "format", "name" })
+final class RtArchive implements Archive {
+
+    /**
+     * Format of tarballs.
+     */
+    static final String TARBALL = "tarball";
+
+    /**
+     * Format of zipballs.
+     */
+    static final String ZIPBALL = "zipball";
+
+    /**
+     * Size of the inflating buffer, in bytes.
+     */
+    private static final int CHUNK = 1 << 16;
+
+    /**
+     * RESTful request.
+     */
+    private final transient Request request;
+
+    /**
+     * Repository.
+     */
+    private final transient Repo owner;
+
+    /**
+     * Format, tarball or zipball.
+     */
+    private final transient String format;
+
+    /**
+     * Ref.
+     */
+    private final transient String name;
+
+    /**
+     * Public ctor.
+     * @param req Request
+     * @param repo Repository
+     * @param kind Format, tarball or zipball
+     * @param ref Branch, tag or commit SHA
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    RtArchive(final Request req, final Repo repo, final String kind,
+        final String ref) {
+        final Coordinates coords = repo.coordinates();
+        this.request = req.uri()
+            .path("/repos")
+            .path(coords.user())
+            .path(coords.repo())
+            .path(kind)
+            .path(ref)
+            .back();
+        this.owner = repo;
+        this.format = kind;
+        this.name = ref;
+    }
+
+    @Override
+    public String toString() {
+        return this.request.uri().get().toString();
+    }
+
+    @Override
+    public Repo repo() {
+        return this.owner;
+    }
+
+    @Override
+    public String ref() {
+        return this.name;
+    }
+
+    @Override
+    public InputStream raw() throws IOException {
+        return new RtStream(this.request).open();
+    }
+
+    @Override
+    public long save(final Path path) throws IOException {
+        return new RtStream(this.request).save(path);
+    }
+
+    @Override
+    public Archive.Entries entries() throws IOException {
+        final InputStream input = this.raw();
+        final RtArchive.Reader reader;
+        try {
+            if (RtArchive.TARBALL.equals(this.format)) {
+                reader = new RtArchive.Tar(
+                    new GZIPInputStream(input, RtArchive.CHUNK)
+                );
+            } else {
+                reader = new RtArchive.Zip(new ZipInputStream(input));
+            }
+        } catch (final IOException ex) {
+            input.close();
+            throw ex;
+        }
+        return new RtArchive.Lazy(reader);
+    }
+
+    /**
+     * Reader of entries.
+     * @since 2.0
+     */
+    private interface Reader extends Closeable {
+        /**
+         * Read the next entry, skipping what's left of the previous one.
+         * @return Entry or NULL if there are no more
+         * @throws IOException If fails
+         */
+        Archive.Entry read() throws IOException;
+    }
+
+    /**
+     * Entries, read one ahead.
+     * @since 2.0
+     */
+    private static final class Lazy implements Archive.Entries {
+        /**
+         * Reader.
+         */
+        private final transient RtArchive.Reader reader;
+
+        /**
+         * Entry read ahead, or NULL.
+         */
+        private transient Archive.Entry ahead;
+
+        /**
+         * Are all entries read?
+         */
+        private transient boolean done;
+
+        /**
+         * Ctor.
+         * @param rdr Reader
+         */
+        Lazy(final RtArchive.Reader rdr) {
+            this.reader = rdr;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.ahead == null && !this.done) {
+                try {
+                    this.ahead = this.reader.read();
+                } catch (final IOException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                this.done = this.ahead == null;
+            }
+            return this.ahead != null;
+        }
+
+        @Override
+        public Archive.Entry next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException(
+                    "no more entries in the archive, use #hasNext()"
+                );
+            }
+            final Archive.Entry entry = this.ahead;
+            this.ahead = null;
+            return entry;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.done = true;
+            this.reader.close();
+        }
+    }
+
+    /**
+     * Reader of a tar stream.
+     * @since 2.0
+     */
+    private static final class Tar implements RtArchive.Reader {
+        /**
+         * Size of a block, in bytes.
+         */
+        private static final int BLOCK = 512;
+
+        /**
+         * Stream of the archive.
+         */
+        private final transient InputStream input;
+
+        /**
+         * Content of the last entry, or NULL.
+         */
+        private transient BoundedInputStream current;
+
+        /**
+         * Padding after the content of the last entry, in bytes.
+         */
+        private transient long padding;
+
+        /**
+         * Ctor.
+         * @param stream Stream of the archive
+         */
+        Tar(final InputStream stream) {
+            this.input = stream;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+        public Archive.Entry read() throws IOException {
+            if (this.current != null) {
+                IOUtils.skipFully(
+                    this.input, this.current.getRemaining() + this.padding
+                );
+                this.current = null;
+            }
+            final byte[] header = new byte[RtArchive.Tar.BLOCK];
+            final Map<String, String> extended = new HashMap<>(0);
+            Archive.Entry entry = null;
+            boolean end = false;
+            while (entry == null && !end) {
+                end = IOUtils.read(this.input, header) < header.length
+                    || RtArchive.Tar.blank(header);
+                if (!end) {
+                    entry = this.entry(header, extended);
+                }
+            }
+            return entry;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.input.close();
+        }
+
+        /**
+         * Make an entry of the header, or consume an extended header.
+         * @param header Header block
+         * @param extended Attributes of extended headers met so far
+         * @return Entry or NULL if the header is not an entry
+         * @throws IOException If fails
+         */
+        private Archive.Entry entry(final byte[] header,
+            final Map<String, String> extended) throws IOException {
+            // @checkstyle MagicNumber (1 line)
+            final byte type = header[156];
+            long size = RtArchive.Tar.size(header);
+            Archive.Entry entry = null;
+            if (type == 'x' || type == 'L') {
+                final byte[] data = IOUtils.toByteArray(this.input, size);
+                IOUtils.skipFully(this.input, RtArchive.Tar.pad(size));
+                if (type == 'L') {
+                    extended.put("path", RtArchive.Tar.text(data, 0, size));
+                } else {
+                    RtArchive.Tar.pax(data, extended);
+                }
+            } else if (type == 'g' || type == 'K') {
+                IOUtils.skipFully(
+                    this.input, size + RtArchive.Tar.pad(size)
+                );
+            } else {
+                final String path = extended.getOrDefault(
+                    "path", RtArchive.Tar.name(header)
+                );
+                if (extended.containsKey("size")) {
+                    size = RtArchive.Tar.number(extended.get("size"));
+                }
+                this.current = BoundedInputStream.builder()
+                    .setInputStream(this.input)
+                    .setMaxCount(size)
+                    .setPropagateClose(false)
+                    .get();
+                this.padding = RtArchive.Tar.pad(size);
+                entry = new Archive.Entry(
+                    path, size, type == '5' || path.endsWith("/"),
+                    this.current
+                );
+            }
+            return entry;
+        }
+
+        /**
+         * Padding of the content up to the whole block.
+         * @param size Size of the content
+         * @return Padding in bytes
+         */
+        private static long pad(final long size) {
+            return (RtArchive.Tar.BLOCK - size % RtArchive.Tar.BLOCK)
+                % RtArchive.Tar.BLOCK;
+        }
+
+        /**
+         * Is the block all zeros, which marks the end of the archive?
+         * @param block Block
+         * @return TRUE if it is
+         */
+        private static boolean blank(final byte[] block) {
+            boolean blank = true;
+            for (final byte bte : block) {
+                if (bte != 0) {
+                    blank = false;
+                    break;
+                }
+            }
+            return blank;
+        }
+
+        /**
+         * Path of the entry, from its {@code ustar} header.
+         * @param header Header block
+         * @return Path
+         */
+        private static String name(final byte[] header) {
+            // @checkstyle MagicNumber (3 lines)
+            String path = RtArchive.Tar.text(header, 0, 100);
+            if ("ustar".equals(RtArchive.Tar.text(header, 257, 5))) {
+                final String prefix = RtArchive.Tar.text(header, 345, 155);
+                if (!prefix.isEmpty()) {
+                    path = String.join("/", prefix, path);
+                }
+            }
+            return path;
+        }
+
+        /**
+         * Size of the entry, octal or base-256 for large ones.
+         * @param header Header block
+         * @return Size in bytes
+         */
+        private static long size(final byte[] header) {
+            long size = 0L;
+            // @checkstyle MagicNumber (10 lines)
+            if ((header[124] & 0x80) == 0) {
+                for (int idx = 124; idx < 136; ++idx) {
+                    if (header[idx] >= '0' && header[idx] <= '7') {
+                        size = (size << 3) + header[idx] - '0';
+                    }
+                }
+            } else {
+                for (int idx = 128; idx < 136; ++idx) {
+                    size = (size << 8) + (header[idx] & 0xff);
+                }
+            }
+            return size;
+        }
+
+        /**
+         * Text of the field, up to the first zero.
+         * @param data Bytes
+         * @param start Start of the field
+         * @param length Length of the field
+         * @return Text
+         */
+        private static String text(final byte[] data, final int start,
+            final long length) {
+            int end = start;
+            while (end < start + length && data[end] != 0) {
+                ++end;
+            }
+            return new String(data, start, end - start, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Parse PAX records, like {@code "30 path=some/long/name\n"}.
+         * @param data Records
+         * @param attrs Where to put attributes
+         * @throws IOException If the records are broken
+         */
+        private static void pax(final byte[] data,
+            final Map<String, String> attrs) throws IOException {
+            int pos = 0;
+            while (pos < data.length) {
+                int space = pos;
+                while (space < data.length && data[space] != ' ') {
+                    ++space;
+                }
+                final long length = RtArchive.Tar.number(
+                    new String(
+                        data, pos, space - pos, StandardCharsets.US_ASCII
+                    )
+                );
+                if (length <= space - pos + 1 || pos + length > data.length) {
+                    throw new IOException(
+                        String.format("Broken PAX record at %d", pos)
+                    );
+                }
+                final String record = new String(
+                    data, space + 1, (int) (pos + length - space - 2),
+                    StandardCharsets.UTF_8
+                );
+                final int equals = record.indexOf('=');
+                if (equals < 0) {
+                    throw new IOException(
+                        String.format("PAX record without value at %d", pos)
+                    );
+                }
+                attrs.put(
+                    record.substring(0, equals), record.substring(equals + 1)
+                );
+                pos += (int) length;
+            }
+        }
+
+        /**
+         * Parse the decimal number of a PAX record.
+         * @param text Text of the number
+         * @return Number
+         * @throws IOException If it's not a number
+         */
+        private static long number(final String text) throws IOException {
+            try {
+                return Long.parseLong(text);
+            } catch (final NumberFormatException ex) {
+                throw new IOException(
+                    String.format("Broken number in PAX record: %s", text), ex
+                );
+            }
+        }
+    }
+
+    /**
+     * Reader of a zip stream.
+     * @since 2.0
+     */
+    private static final class Zip implements RtArchive.Reader {
+        /**
+         * Stream of the archive.
+         */
+        private final transient ZipInputStream input;
+
+        /**
+         * Ctor.
+         * @param stream Stream of the archive
+         */
+        Zip(final ZipInputStream stream) {
+            this.input = stream;
+        }
+
+        @Override
+        public Archive.Entry read() throws IOException {
+            final ZipEntry zip = this.input.getNextEntry();
+            Archive.Entry entry = null;
+            if (zip != null) {
+                entry = new Archive.Entry(
+                    zip.getName(), zip.getSize(), zip.isDirectory(),
+                    CloseShieldInputStream.wrap(this.input)
+                );
+            }
+            return entry;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.input.close();
+        }
+    }
+}
@@ -7,13 +7,12 @@ package com.jcabi.github;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.http.Request;
-import com.jcabi.http.response.RestResponse;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.core.HttpHeaders;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.HttpURLConnection;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import lombok.EqualsAndHashCode;
 
 /**
@@ -89,14 +88,28 @@ final class RtContent implements Content {
 
     @Override
     public InputStream raw() throws IOException {
-        return new ByteArrayInputStream(
-            this.request.reset(HttpHeaders.ACCEPT)
-                .header(
-                    HttpHeaders.ACCEPT,
-                    "application/vnd.github.v3.raw"
-                ).fetch()
-                .as(RestResponse.class)
-                .assertStatus(HttpURLConnection.HTTP_OK).binary()
+        return this.stream().open();
+    }
+
+    @Override
+    public long raw(final Path file) throws IOException {
+        return this.stream().save(file);
+    }
+
+    @Override
+    public long raw(final WritableByteChannel channel) throws IOException {
+        return this.stream().save(channel);
+    }
+
+    /**
+     * Stream of the raw content.
+     * @return Stream
+     */
+    private RtStream stream() {
+        return new RtStream(
+            this.request.reset(HttpHeaders.ACCEPT).header(
+                HttpHeaders.ACCEPT, "application/vnd.github.v3.raw"
+            )
         );
     }
 }
@@ -6,8 +6,19 @@ package com.jcabi.github;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
+import com.jcabi.github.wire.Activity;
+import com.jcabi.github.wire.ActivityWire;
+import com.jcabi.github.wire.DecompressingWire;
+import com.jcabi.github.wire.LedgerWire;
+import com.jcabi.github.wire.Listener;
+import com.jcabi.github.wire.ListenerWire;
+import com.jcabi.github.wire.Metrics;
+import com.jcabi.github.wire.MetricsWire;
+import com.jcabi.github.wire.PooledWire;
+import com.jcabi.github.wire.SchedulingWire;
+import com.jcabi.github.wire.Transport;
 import com.jcabi.http.Request;
-import com.jcabi.http.request.ApacheRequest;
+import com.jcabi.http.request.BaseRequest;
 import com.jcabi.http.response.JsonResponse;
 import com.jcabi.http.wire.AutoRedirectingWire;
 import jakarta.json.JsonObject;
@@ -16,6 +27,7 @@ import jakarta.ws.rs.core.MediaType;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
 import javax.xml.bind.DatatypeConverter;
 import lombok.ToString;
 
@@ -39,6 +51,19 @@ import lombok.ToString;
  * <pre> GitHub github = new RtGitHub(
  *   new RtGitHub(oauthKey).entry().through(RetryWire.class)
  * );</pre>
+ *
+ * <p>Connections are pooled and kept alive by {@link PooledWire},
+ * responses are compressed by GitHub and inflated by
+ * {@link DecompressingWire}. Rate limit headers of all responses are
+ * recorded by {@link LedgerWire}, so {@link #limits()} mostly answers
+ * without calls to {@code /rate_limit}.
+ * To size the pool, idle eviction, socket buffers and timeouts for
+ * your load, provide a {@link Transport}:
+ *
+ * <pre> GitHub github = new RtGitHub(
+ *   oauthKey,
+ *   new Transport().withMaxPerRoute(64).withReadTimeout(30_000)
+ * );</pre>
  * @since 0.1
  * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
  * @checkstyle MultipleStringLiteralsCheck (500 lines)
@@ -52,15 +77,7 @@ public final class RtGitHub implements GitHub {
     /**
      * Default request to start with.
      */
-    private static final Request REQUEST =
-        new ApacheRequest("https://api.github.com")
-            .header(
-                HttpHeaders.USER_AGENT,
-                new FromProperties("jcabigithub.properties").format()
-            )
-            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON)
-            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
-            .through(AutoRedirectingWire.class);
+    private static final Request REQUEST = RtGitHub.start(new Transport());
 
     /**
      * REST request.
@@ -193,6 +210,31 @@ public final class RtGitHub implements GitHub {
         );
     }
 
+    /**
+     * Public ctor, for anonymous access to GitHub with a custom transport.
+     * @param transport Transport configuration
+     * @since 2.0
+     */
+    public RtGitHub(final Transport transport) {
+        this(RtGitHub.start(transport));
+    }
+
+    /**
+     * Public ctor, for authentication with OAuth2 token and a custom
+     * transport.
+     * @param token OAuth token
+     * @param transport Transport configuration
+     * @since 2.0
+     */
+    public RtGitHub(final String token, final Transport transport) {
+        this(
+            RtGitHub.start(transport).header(
+                HttpHeaders.AUTHORIZATION,
+                String.format("token %s", token)
+            )
+        );
+    }
+
     /**
      * Public ctor, with a custom request.
      * @param req Request to start from
@@ -229,7 +271,9 @@ public final class RtGitHub implements GitHub {
 
     @Override
     public Limits limits() {
-        return new RtLimits(this, this.request);
+        return new ObservedLimits(
+            new RtLimits(this, this.request), this.request
+        );
     }
 
     @Override
@@ -237,6 +281,83 @@ public final class RtGitHub implements GitHub {
         return new RtSearch(this, this.request);
     }
 
+    /**
+     * This GitHub, recording metrics of all its requests.
+     * @param metrics Metrics to record into
+     * @return GitHub
+     * @since 2.0
+     */
+    public RtGitHub metered(final Metrics metrics) {
+        return new RtGitHub(this.request.through(MetricsWire.class, metrics));
+    }
+
+    /**
+     * This GitHub, tracking the live state of its requests.
+     * @param activity Activity to track
+     * @return GitHub
+     * @since 2.0
+     */
+    public RtGitHub monitored(final Activity activity) {
+        return new RtGitHub(this.request.through(ActivityWire.class, activity));
+    }
+
+    /**
+     * This GitHub, reporting the lifecycle of its requests to the listener.
+     * @param listener Listener
+     * @return GitHub
+     * @since 2.0
+     */
+    public RtGitHub traced(final Listener listener) {
+        return new RtGitHub(this.request.through(ListenerWire.class, listener));
+    }
+
+    /**
+     * This GitHub, running no more than the given number of requests at
+     * once and serving the ones of higher priority first.
+     * @param max Maximum number of requests in flight
+     * @return GitHub
+     * @see #prioritized(SchedulingWire.Priority)
+     * @since 2.0
+     */
+    public RtGitHub scheduled(final int max) {
+        return new RtGitHub(this.request.through(SchedulingWire.class, max));
+    }
+
+    /**
+     * This GitHub, with all its requests of the given priority.
+     *
+     * <p>The priority is a header, which only {@link SchedulingWire}
+     * reads and removes, so it matters only after {@link #scheduled(int)}.
+     * @param priority Priority
+     * @return GitHub
+     * @see #scheduled(int)
+     * @since 2.0
+     */
+    public RtGitHub prioritized(final SchedulingWire.Priority priority) {
+        return new RtGitHub(
+            this.request.header(SchedulingWire.HEADER, priority.name())
+        );
+    }
+
+    /**
+     * Asynchronous facade of this GitHub.
+     * @return Async
+     * @since 2.0
+     */
+    public Async async() {
+        return new Async(this);
+    }
+
+    /**
+     * Asynchronous facade of this GitHub, running on the given executor.
+     * @param executor Executor to run calls on
+     * @return Async
+     * @since 2.0
+     */
+    public Async async(final Executor executor) {
+        return new Async(this, executor);
+    }
+
     @Override
     public JsonObject meta() throws IOException {
         return this.request.uri().path("meta").back().fetch()
@@ -261,6 +382,26 @@ public final class RtGitHub implements GitHub {
         return new RtMarkdown(this, this.request);
     }
 
+    /**
+     * Default request to start with, through the given transport.
+     * @param transport Transport configuration
+     * @return Request
+     */
+    private static Request start(final Transport transport) {
+        return new BaseRequest(
+            new PooledWire(transport), "https://api.github.com"
+        )
+            .header(
+                HttpHeaders.USER_AGENT,
+                new FromProperties("jcabigithub.properties").format()
+            )
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+            .through(DecompressingWire.class)
+            .through(LedgerWire.class)
+            .through(AutoRedirectingWire.class);
+    }
+
     @Override
     public boolean equals(final Object obj) {
         final boolean result;
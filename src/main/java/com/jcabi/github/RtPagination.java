@@ -70,4 +70,12 @@ public final class RtPagination<T> implements Iterable<T> {
     public RtValuePagination.Mapping<T, JsonObject> mapping() {
         return this.pages.mapping();
     }
+
+    /**
+     * Source of pages.
+     * @return Source
+     */
+    RtValuePagination.Pages<JsonObject> source() {
+        return this.pages.source();
+    }
 }
@@ -10,10 +10,11 @@ import com.jcabi.http.Request;
 import com.jcabi.http.response.RestResponse;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.core.HttpHeaders;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import lombok.EqualsAndHashCode;
 
 /**
@@ -101,16 +102,39 @@ final class RtReleaseAsset implements ReleaseAsset {
 
     @Override
     public InputStream raw() throws IOException {
-        return new ByteArrayInputStream(
-            this.request.method(Request.GET)
-                .reset(HttpHeaders.ACCEPT).header(
-                    HttpHeaders.ACCEPT,
-                    "application/vnd.github.v3.raw"
-                )
-                .fetch()
-                .as(RestResponse.class)
-                .assertStatus(HttpURLConnection.HTTP_OK)
-                .binary()
+        return this.stream().open();
+    }
+
+    @Override
+    public long raw(final Path path) throws IOException {
+        return this.stream().save(path);
+    }
+
+    @Override
+    public long raw(final WritableByteChannel channel) throws IOException {
+        return this.stream().save(channel);
+    }
+
+    @Override
+    public long download(final Path path) throws IOException {
+        return this.stream().download(path);
+    }
+
+    @Override
+    public long download(final Path path, final int segments,
+        final ReleaseAsset.Progress progress) throws IOException {
+        return this.stream().download(path, segments, progress);
+    }
+
+    /**
+     * Stream of the raw content.
+     * @return Stream
+     */
+    private RtStream stream() {
+        return new RtStream(
+            this.request.reset(HttpHeaders.ACCEPT).header(
+                HttpHeaders.ACCEPT, "application/vnd.github.v3.raw"
+            )
         );
     }
 
@@ -6,13 +6,18 @@ package com.jcabi.github;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
+import com.jcabi.github.wire.PooledWire;
 import com.jcabi.http.Request;
+import com.jcabi.http.Response;
 import com.jcabi.http.response.JsonResponse;
 import com.jcabi.http.response.RestResponse;
 import jakarta.ws.rs.core.HttpHeaders;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import lombok.EqualsAndHashCode;
 
 /**
@@ -41,6 +46,11 @@ final class RtReleaseAssets implements ReleaseAssets {
      */
     private final transient Release owner;
 
+    /**
+     * URI of the uploads server.
+     */
+    private final transient String uploads;
+
     /**
      * Public ctor.
      * @param req Request
@@ -49,6 +59,20 @@ final class RtReleaseAssets implements ReleaseAssets {
     RtReleaseAssets(
         final Request req,
         final Release release
+    ) {
+        this(req, release, "https://uploads.github.com");
+    }
+
+    /**
+     * Ctor.
+     * @param req Request
+     * @param release Issue
+     * @param server URI of the uploads server
+     */
+    RtReleaseAssets(
+        final Request req,
+        final Release release,
+        final String server
     ) {
         this.entry = req;
         final Coordinates coords = release.repo().coordinates();
@@ -62,6 +86,7 @@ final class RtReleaseAssets implements ReleaseAssets {
             .path("/assets")
             .back();
         this.owner = release;
+        this.uploads = server;
     }
 
     @Override
@@ -87,25 +112,35 @@ final class RtReleaseAssets implements ReleaseAssets {
         final String type,
         final String name
     ) throws IOException {
-        return this.get(
-            this.request.uri()
-                .set(URI.create("https://uploads.github.com"))
-                .path("/repos")
-                .path(this.owner.repo().coordinates().user())
-                .path(this.owner.repo().coordinates().repo())
-                .path("/releases")
-                .path(String.valueOf(this.owner.number()))
-                .path("/assets")
-                .queryParam("name", name)
-                .back()
-                .method(Request.POST)
-                .reset(HttpHeaders.CONTENT_TYPE)
-                .header(HttpHeaders.CONTENT_TYPE, type)
-                .body().set(content).back()
-                .fetch().as(RestResponse.class)
-                .assertStatus(HttpURLConnection.HTTP_CREATED)
-                .as(JsonResponse.class)
-                .json().readObject().getInt("id")
+        return this.created(
+            this.uploading(type, name).body().set(content).back().fetch()
+        );
+    }
+
+    @Override
+    public ReleaseAsset upload(
+        final Path file,
+        final String type,
+        final String name
+    ) throws IOException {
+        try (InputStream content = Files.newInputStream(file)) {
+            return this.upload(content, Files.size(file), type, name);
+        }
+    }
+
+    @Override
+    // @checkstyle ParameterNumberCheck (6 lines)
+    public ReleaseAsset upload(
+        final InputStream content,
+        final long length,
+        final String type,
+        final String name
+    ) throws IOException {
+        return this.created(
+            this.uploading(type, name)
+                .reset(PooledWire.SIZE)
+                .header(PooledWire.SIZE, length)
+                .fetch(content)
         );
     }
 
@@ -114,4 +149,40 @@ final class RtReleaseAssets implements ReleaseAssets {
         return new RtReleaseAsset(this.entry, this.owner, number);
     }
 
+    /**
+     * Request uploading the asset, without the body.
+     * @param type Content-Type of the release asset.
+     * @param name Name of the release asset.
+     * @return Request
+     */
+    private Request uploading(final String type, final String name) {
+        return this.request.uri()
+            .set(URI.create(this.uploads))
+            .path("/repos")
+            .path(this.owner.repo().coordinates().user())
+            .path(this.owner.repo().coordinates().repo())
+            .path("/releases")
+            .path(String.valueOf(this.owner.number()))
+            .path("/assets")
+            .queryParam("name", name)
+            .back()
+            .method(Request.POST)
+            .reset(HttpHeaders.CONTENT_TYPE)
+            .header(HttpHeaders.CONTENT_TYPE, type);
+    }
+
+    /**
+     * Release asset created by the upload.
+     * @param response Response of the upload
+     * @return The new release asset
+     * @throws IOException If an IO Exception occurs
+     */
+    private ReleaseAsset created(final Response response) throws IOException {
+        return this.get(
+            response.as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_CREATED)
+                .as(JsonResponse.class)
+                .json().readObject().getInt("id")
+        );
+    }
 }
@@ -199,6 +199,16 @@ final class RtRepo implements Repo {
         return new RtStargazers(this.request);
     }
 
+    @Override
+    public Archive tarball(final String ref) {
+        return new RtArchive(this.entry, this, RtArchive.TARBALL, ref);
+    }
+
+    @Override
+    public Archive zipball(final String ref) {
+        return new RtArchive(this.entry, this, RtArchive.ZIPBALL, ref);
+    }
+
     @Override
     public void patch(
         final JsonObject json
@@ -7,7 +7,6 @@ package com.jcabi.github;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.http.Request;
-import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.EnumMap;
@@ -62,22 +61,26 @@ final class RtSearch implements Search {
     }
 
     @Override
-    public Iterable<Repo> repos(
+    public Search.Results<Repo> repos(
         final String keywords,
         final String sort,
         final Search.Order order) {
         return new RtSearchPagination<>(
             this.request, "repositories", keywords, sort, order.identifier(),
-            object -> this.github().repos().get(
-                new Coordinates.Simple(object.getString("full_name"))
+            object -> new PreloadedRepo(
+                this.github().repos().get(
+                    new Coordinates.Simple(object.getString("full_name"))
+                ),
+                object
             )
         );
     }
 
     //@checkstyle ParameterNumberCheck (5 lines)
     @Override
-    public Iterable<Issue> issues(final String keywords, final String sort,
-        final Search.Order order, final EnumMap<Search.Qualifier, String> qualifiers) {
+    public Search.Results<Issue> issues(final String keywords,
+        final String sort, final Search.Order order,
+        final EnumMap<Search.Qualifier, String> qualifiers) {
         final StringBuilder keyword = new StringBuilder(keywords);
         for (final EnumMap.Entry<Search.Qualifier, String> entry : qualifiers
             .entrySet()) {
@@ -96,10 +99,13 @@ final class RtSearch implements Search {
                         // @checkstyle MultipleStringLiteralsCheck (1 line)
                         new URI(object.getString("url")).getPath()
                     );
-                    return this.ghub.repos().get(
-                        // @checkstyle MagicNumber (1 line)
-                        new Coordinates.Simple(parts[2], parts[3])
-                    ).issues().get(object.getInt("number"));
+                    return new PreloadedIssue(
+                        this.ghub.repos().get(
+                            // @checkstyle MagicNumber (1 line)
+                            new Coordinates.Simple(parts[2], parts[3])
+                        ).issues().get(object.getInt("number")),
+                        object
+                    );
                 } catch (final URISyntaxException ex) {
                     throw new IllegalStateException(ex);
                 }
@@ -108,20 +114,21 @@ final class RtSearch implements Search {
     }
 
     @Override
-    public Iterable<User> users(
+    public Search.Results<User> users(
         final String keywords,
         final String sort,
         final Search.Order order) {
         return new RtSearchPagination<>(
             this.request, "users", keywords, sort, order.identifier(),
-            object -> this.ghub.users().get(
-                object.getString("login")
+            object -> new PreloadedUser(
+                this.ghub.users().get(object.getString("login")),
+                object
             )
         );
     }
 
     @Override
-    public Iterable<Content> codes(
+    public Search.Results<Content> codes(
         final String keywords,
         final String sort,
         final Search.Order order) {
@@ -138,11 +145,15 @@ final class RtSearch implements Search {
                     final String ref = RtSearch.QUERY.split(
                         uri.getQuery()
                     )[1];
-                    return this.ghub.repos().get(
-                        // @checkstyle MagicNumber (1 line)
-                        new Coordinates.Simple(parts[2], parts[3])
-                    ).contents().get(object.getString("path"), ref);
-                } catch (final URISyntaxException | IOException ex) {
+                    return new RtContent(
+                        this.ghub.entry().uri().queryParam("ref", ref).back(),
+                        this.ghub.repos().get(
+                            // @checkstyle MagicNumber (1 line)
+                            new Coordinates.Simple(parts[2], parts[3])
+                        ),
+                        object.getString("path")
+                    );
+                } catch (final URISyntaxException ex) {
                     throw new IllegalStateException(ex);
                 }
             }
@@ -6,33 +6,31 @@ package com.jcabi.github;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.http.Request;
-import com.jcabi.http.RequestBody;
-import com.jcabi.http.RequestURI;
-import com.jcabi.http.Response;
-import com.jcabi.http.Wire;
+import com.jcabi.http.response.RestResponse;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.StringReader;
-import java.io.UnsupportedEncodingException;
-import java.lang.reflect.InvocationTargetException;
-import java.net.URI;
+import java.net.HttpURLConnection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import lombok.EqualsAndHashCode;
 
 /**
  * GitHub search pagination.
  *
+ * <p>Every page is parsed once, with a streaming parser, which builds
+ * the {@code items} and reads {@code total_count} and
+ * {@code incomplete_results}, skipping everything else.
+ *
  * @param <T> Type of iterable objects
  * @since 0.4
  */
 @Immutable
 @EqualsAndHashCode
-@SuppressWarnings("PMD.TooManyMethods")
-final class RtSearchPagination<T> implements Iterable<T> {
+final class RtSearchPagination<T> implements Search.Results<T> {
 
     /**
      * Search request.
@@ -67,217 +65,168 @@ final class RtSearchPagination<T> implements Iterable<T> {
 
     @Override
     public Iterator<T> iterator() {
-        return new RtPagination<>(
-            new RtSearchPagination.SearchRequest(this.request),
-            this.mapping
+        return new RtValuePagination<>(
+            this.request, this.mapping, RtSearchPagination::page
         ).iterator();
     }
 
     /**
-     * Request which hides everything but items.
-     * @since 0.4
+     * {@inheritDoc}
+     *
+     * <p>It costs one request, for a page of one hit.
      */
-    @SuppressWarnings({ "PMD.TooManyMethods", "PMD.CyclomaticComplexity" })
-    private static final class SearchRequest implements Request {
-        /**
-         * Inner request.
-         */
-        private final transient Request request;
-
-        /**
-         * Ctor.
-         * @param req Request to wrap
-         */
-        SearchRequest(final Request req) {
-            this.request = req;
-        }
-
-        @Override
-        public RequestURI uri() {
-            return new RtSearchPagination.SearchUri(this.request.uri());
-        }
-
-        @Override
-        public RequestBody body() {
-            return this.request.body();
-        }
-
-        @Override
-        public RequestBody multipartBody() {
-            throw new UnsupportedOperationException("#multipart");
-        }
-
-        @Override
-        public Request header(final String name, final Object value) {
-            return new RtSearchPagination.SearchRequest(this.request.header(name, value));
-        }
-
-        @Override
-        public Request reset(final String name) {
-            return new RtSearchPagination.SearchRequest(this.request.reset(name));
-        }
-
-        @Override
-        public Request method(final String method) {
-            return new RtSearchPagination.SearchRequest(this.request.method(method));
-        }
-
-        @Override
-        public Request timeout(final int first, final int second) {
-            return new RtSearchPagination.SearchRequest(this.request);
-        }
-
-        @Override
-        public Response fetch() throws IOException {
-            return new RtSearchPagination.Hidden(this.request.fetch());
-        }
+    @Override
+    public long total() throws IOException {
+        return this.first().total();
+    }
 
-        @Override
-        public Response fetch(final InputStream stream) throws IOException {
-            return new RtSearchPagination.Hidden(this.request.fetch(stream));
-        }
+    /**
+     * {@inheritDoc}
+     *
+     * <p>It costs one request, for a page of one hit.
+     */
+    @Override
+    public boolean incomplete() throws IOException {
+        return this.first().incomplete();
+    }
 
-        @Override
-        public <T extends Wire> Request through(final Class<T> type,
-            final Object... args) {
-            return new RtSearchPagination.SearchRequest(this.request.through(type, args));
-        }
+    /**
+     * Fetch the first page, of one hit.
+     * @return Page
+     * @throws IOException If there is any I/O problem
+     */
+    private RtSearchPagination.Found first() throws IOException {
+        return RtSearchPagination.Found.fetch(
+            this.request.uri().queryParam("per_page", 1).back()
+        );
+    }
 
-        @Override
-        public Request through(final Wire wire) {
-            throw new UnsupportedOperationException("#through");
-        }
+    /**
+     * Fetch the page of hits.
+     * @param req Request of the page
+     * @return Page
+     * @throws IOException If there is any I/O problem
+     */
+    private static RtValuePagination.Page<JsonObject> page(final Request req)
+        throws IOException {
+        final RtSearchPagination.Found found =
+            RtSearchPagination.Found.fetch(req);
+        return new RtValuePagination.Page<>(found.items(), found.next());
     }
 
     /**
-     * Response to return.
-     * @since 0.4
+     * Page of search results.
+     * @since 2.0
      */
-    @Immutable
-    private static final class Hidden implements Response {
+    private static final class Found {
         /**
-         * Original response.
+         * Hits.
          */
-        private final transient Response response;
+        private final transient List<JsonObject> hits;
 
         /**
-         * Ctor.
-         * @param resp Response
+         * Total number of hits.
          */
-        Hidden(final Response resp) {
-            this.response = resp;
-        }
-
-        @Override
-        public Request back() {
-            return new RtSearchPagination.SearchRequest(this.response.back());
-        }
-
-        @Override
-        public int status() {
-            return this.response.status();
-        }
-
-        @Override
-        public String reason() {
-            return this.response.reason();
-        }
-
-        @Override
-        public Map<String, List<String>> headers() {
-            return this.response.headers();
-        }
-
-        @Override
-        public String body() {
-            return Json.createReader(new StringReader(this.response.body()))
-                .readObject().getJsonArray("items").toString();
-        }
-
-        @Override
-        public byte[] binary() {
-            try {
-                return this.body().getBytes("UTF-8");
-            } catch (final UnsupportedEncodingException ex) {
-                throw new IllegalStateException(ex);
-            }
-        }
-
-        // @checkstyle MethodName (4 lines)
+        private final transient long count;
 
-        @Override
-        @SuppressWarnings("PMD.ShortMethodName")
-        public <T extends Response> T as(final Class<T> type) {
-            try {
-                return type.getDeclaredConstructor(Response.class)
-                    .newInstance(this);
-            } catch (final InstantiationException
-                | IllegalAccessException
-                | InvocationTargetException
-                | NoSuchMethodException ex) {
-                throw new IllegalStateException(ex);
-            }
-        }
-    }
+        /**
+         * Did the search time out?
+         */
+        private final transient boolean partial;
 
-    /**
-     * Wrapper of RequestURI that returns {@link RtSearchPagination.SearchRequest}.
-     * @since 0.4
-     */
-    @Immutable
-    @EqualsAndHashCode(of = "address")
-    private static final class SearchUri implements RequestURI {
         /**
-         * Underlying address.
+         * Request for the next page, or NULL.
          */
-        private final transient RequestURI address;
+        private final transient Request following;
 
         /**
          * Ctor.
-         * @param uri The URI
+         * @param items Hits
+         * @param total Total number of hits
+         * @param incomplete Did the search time out
+         * @param next Request for the next page, or NULL
+         * @checkstyle ParameterNumberCheck (5 lines)
          */
-        SearchUri(final RequestURI uri) {
-            this.address = uri;
-        }
-
-        @Override
-        public Request back() {
-            return new RtSearchPagination.SearchRequest(this.address.back());
-        }
-
-        @Override
-        public URI get() {
-            return this.address.get();
-        }
-
-        @Override
-        public RequestURI set(final URI uri) {
-            return new RtSearchPagination.SearchUri(this.address.set(uri));
+        Found(final List<JsonObject> items, final long total,
+            final boolean incomplete, final Request next) {
+            this.hits = items;
+            this.count = total;
+            this.partial = incomplete;
+            this.following = next;
         }
 
-        @Override
-        public RequestURI queryParam(final String name, final Object value) {
-            return new RtSearchPagination.SearchUri(this.address.queryParam(name, value));
+        /**
+         * Hits.
+         * @return Hits
+         */
+        List<JsonObject> items() {
+            return this.hits;
         }
 
-        @Override
-        public RequestURI queryParams(final Map<String, String> map) {
-            return new RtSearchPagination.SearchUri(this.address.queryParams(map));
+        /**
+         * Total number of hits.
+         * @return Number
+         */
+        long total() {
+            return this.count;
         }
 
-        @Override
-        public RequestURI path(final String segment) {
-            return new RtSearchPagination.SearchUri(this.address.path(segment));
+        /**
+         * Did the search time out?
+         * @return TRUE if it did
+         */
+        boolean incomplete() {
+            return this.partial;
         }
 
-        @Override
-        public RequestURI userInfo(final String info) {
-            return new RtSearchPagination.SearchUri(this.address.userInfo(info));
+        /**
+         * Request for the next page.
+         * @return Request or NULL if it's the last page
+         */
+        Request next() {
+            return this.following;
         }
 
-        @Override
-        public RequestURI port(final int num) {
-            return new RtSearchPagination.SearchUri(this.address.port(num));
+        /**
+         * Fetch and parse the page, in one pass.
+         * @param req Request of the page
+         * @return Page
+         * @throws IOException If there is any I/O problem
+         */
+        static RtSearchPagination.Found fetch(final Request req)
+            throws IOException {
+            final RestResponse response = req.fetch()
+                .as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_OK);
+            List<JsonObject> items = Collections.emptyList();
+            long total = 0L;
+            boolean incomplete = false;
+            try (JsonParser parser = Json.createParser(
+                new ByteArrayInputStream(response.binary())
+            )) {
+                parser.next();
+                while (parser.hasNext()
+                    && parser.next() == JsonParser.Event.KEY_NAME) {
+                    final String key = parser.getString();
+                    final JsonParser.Event event = parser.next();
+                    if ("items".equals(key)) {
+                        items = parser.getArray()
+                            .getValuesAs(JsonObject.class);
+                    } else if ("total_count".equals(key)) {
+                        total = parser.getLong();
+                    } else if ("incomplete_results".equals(key)) {
+                        incomplete = event == JsonParser.Event.VALUE_TRUE;
+                    } else if (event == JsonParser.Event.START_OBJECT) {
+                        parser.skipObject();
+                    } else if (event == JsonParser.Event.START_ARRAY) {
+                        parser.skipArray();
+                    }
+                }
+            }
+            return new RtSearchPagination.Found(
+                items, total, incomplete,
+                RtValuePagination.Page.following(response)
+            );
         }
     }
 }
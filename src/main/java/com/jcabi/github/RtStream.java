@@ -0,0 +1,720 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.github.wire.Ledger;
+import com.jcabi.github.wire.PooledWire;
+import com.jcabi.http.ImmutableHeader;
+import com.jcabi.http.Request;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.immutable.Array;
+import com.jcabi.log.Logger;
+import jakarta.ws.rs.core.HttpHeaders;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Body of a GET request, streamed as it arrives.
+ *
+ * <p>Wires of a {@link Request} read the whole response into memory,
+ * which doesn't work for assets of hundreds of megabytes. This object
+ * takes the URI, the headers and the timeouts of the request, but sends
+ * it on its own, bypassing the wires, and gives the body as a stream.
+ * Redirects are followed, and {@code Authorization} is not sent to
+ * another host, since GitHub redirects downloads to a storage which
+ * rejects it. Since the wires are bypassed, timeouts which the request
+ * doesn't set are 30 seconds to connect and 60 seconds to read, and
+ * rate limit headers of the responses are recorded into
+ * {@link Ledger#SHARED} here, like
+ * {@link com.jcabi.github.wire.LedgerWire} does.
+ *
+ * @since 2.0
+ */
+@Immutable
+@EqualsAndHashCode(of = "request")
+final class RtStream {
+
+    /**
+     * Maximum number of redirects to follow.
+     */
+    private static final int REDIRECTS = 5;
+
+    /**
+     * Size of the copy buffer, in bytes.
+     */
+    private static final int CHUNK = 1 << 16;
+
+    /**
+     * Connect timeout, if the request has none, in milliseconds.
+     */
+    private static final int CONNECT = 30_000;
+
+    /**
+     * Read timeout, if the request has none, in milliseconds.
+     */
+    private static final int READ = 60_000;
+
+    /**
+     * Number of attempts to resume a download.
+     */
+    private static final int ATTEMPTS = 5;
+
+    /**
+     * Range header.
+     */
+    private static final String RANGE = "Range";
+
+    /**
+     * If-Range header.
+     */
+    private static final String IF_RANGE = "If-Range";
+
+    /**
+     * Content-Range header.
+     */
+    private static final String CONTENT_RANGE = "Content-Range";
+
+    /**
+     * Status of a range which is outside of the body.
+     */
+    private static final int UNSATISFIABLE = 416;
+
+    /**
+     * Value of Content-Range.
+     */
+    private static final Pattern RANGED = Pattern.compile(
+        "bytes (?:(\\d+)-(\\d+)|\\*)/(\\d+|\\*)"
+    );
+
+    /**
+     * Progress which is not reported anywhere.
+     */
+    private static final ReleaseAsset.Progress SILENT = (done, total) -> {
+    };
+
+    /**
+     * Redirect statuses.
+     */
+    private static final Collection<Integer> MOVED = Arrays.asList(
+        HttpURLConnection.HTTP_MOVED_PERM,
+        HttpURLConnection.HTTP_MOVED_TEMP,
+        HttpURLConnection.HTTP_SEE_OTHER,
+        // @checkstyle MagicNumber (2 lines)
+        307,
+        308
+    );
+
+    /**
+     * RESTful request.
+     */
+    private final transient Request request;
+
+    /**
+     * Ctor.
+     * @param req Request
+     */
+    RtStream(final Request req) {
+        this.request = req;
+    }
+
+    /**
+     * Open the stream.
+     * @return Stream of the body, which must be closed
+     * @throws IOException If fails
+     */
+    public InputStream open() throws IOException {
+        final HttpURLConnection conn = RtStream.response(this.request);
+        final int status = conn.getResponseCode();
+        if (status != HttpURLConnection.HTTP_OK) {
+            throw RtStream.failure(conn, status, HttpURLConnection.HTTP_OK);
+        }
+        return conn.getInputStream();
+    }
+
+    /**
+     * Save the body to the file, replacing its content.
+     * @param path File
+     * @return Number of bytes saved
+     * @throws IOException If fails
+     */
+    public long save(final Path path) throws IOException {
+        long total = 0L;
+        try (
+            ReadableByteChannel src = Channels.newChannel(this.open());
+            FileChannel file = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            )
+        ) {
+            long done = file.transferFrom(src, total, RtStream.CHUNK);
+            while (done > 0L) {
+                total += done;
+                done = file.transferFrom(src, total, RtStream.CHUNK);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Write the body to the channel.
+     * @param target Channel, which is not closed
+     * @return Number of bytes written
+     * @throws IOException If fails
+     */
+    public long save(final WritableByteChannel target) throws IOException {
+        long total = 0L;
+        try (ReadableByteChannel src = Channels.newChannel(this.open())) {
+            final ByteBuffer buf = ByteBuffer.allocateDirect(RtStream.CHUNK);
+            while (src.read(buf) >= 0 || buf.position() > 0) {
+                ((Buffer) buf).flip();
+                total += target.write(buf);
+                buf.compact();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Download the body to the file, resuming from the bytes already
+     * there.
+     *
+     * <p>The {@code ETag} of the body is kept next to the file, in the file
+     * with the {@code .etag} suffix, until the download is complete. If
+     * the file and its {@code ETag} exist, only the missing bytes are
+     * requested, with {@code Range} and {@code If-Range}. If the body has
+     * changed since, it comes in full and replaces the file. Without
+     * a strong {@code ETag} the download can't be resumed and starts from
+     * scratch. When the connection breaks, the download is resumed a few
+     * times before the failure is thrown.
+     * @param path File
+     * @return Size of the file
+     * @throws IOException If fails
+     */
+    public long download(final Path path) throws IOException {
+        final Path tag = path.resolveSibling(
+            String.format("%s.etag", path.getFileName())
+        );
+        long size = -1L;
+        IOException error = null;
+        for (int attempt = 1; size < 0L && attempt <= RtStream.ATTEMPTS;
+            ++attempt) {
+            try {
+                size = this.segment(path, tag);
+            } catch (final UnexpectedHttpStatus ex) {
+                throw ex;
+            } catch (final IOException ex) {
+                Logger.info(
+                    this, "Download of %s broke at attempt #%d: %s",
+                    path, attempt, ex.getMessage()
+                );
+                error = ex;
+            }
+        }
+        if (size < 0L) {
+            throw error;
+        }
+        Files.deleteIfExists(tag);
+        return size;
+    }
+
+    /**
+     * Download the body to the file in segments, which are fetched
+     * concurrently with {@code Range} requests and written in place.
+     *
+     * <p>The first request asks for the first byte only, to learn the size
+     * and the {@code ETag} of the body. If the server doesn't support
+     * ranges, the body is downloaded in one stream. Every segment is
+     * resumed a few times when its connection breaks, and is checked to
+     * belong to the same body, with {@code If-Range} and {@code ETag}.
+     * The progress is reported from many threads at once.
+     * @param path File, which is replaced
+     * @param segments Maximum number of segments
+     * @param progress Progress to report to
+     * @return Size of the file
+     * @throws IOException If fails
+     */
+    public long download(final Path path, final int segments,
+        final ReleaseAsset.Progress progress) throws IOException {
+        if (segments <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Segments must be positive: %d", segments)
+            );
+        }
+        final HttpURLConnection probe = RtStream.response(
+            this.request.header(RtStream.RANGE, "bytes=0-0")
+        );
+        final int status = probe.getResponseCode();
+        final long size;
+        if (status == HttpURLConnection.HTTP_PARTIAL) {
+            size = RtStream.range(probe)[2];
+            final String etag = probe.getHeaderField(HttpHeaders.ETAG);
+            IOUtils.toByteArray(probe.getInputStream());
+            this.parallel(path, size, etag, segments, progress);
+        } else if (status == HttpURLConnection.HTTP_OK) {
+            Files.deleteIfExists(path);
+            size = RtStream.write(
+                probe, path, 0L, probe.getContentLengthLong(), progress
+            );
+        } else if (status == RtStream.UNSATISFIABLE
+            && RtStream.range(probe)[2] == 0L) {
+            probe.disconnect();
+            Files.write(path, new byte[0]);
+            size = 0L;
+        } else {
+            throw RtStream.failure(
+                probe, status, HttpURLConnection.HTTP_PARTIAL
+            );
+        }
+        return size;
+    }
+
+    /**
+     * Download all segments concurrently.
+     * @param path File
+     * @param size Size of the body
+     * @param etag ETag of the body or NULL
+     * @param segments Maximum number of segments
+     * @param progress Progress to report to
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void parallel(final Path path, final long size,
+        final String etag, final int segments,
+        final ReleaseAsset.Progress progress) throws IOException {
+        final long per = (size + segments - 1L) / segments;
+        final List<long[]> ranges = new ArrayList<>(segments);
+        for (long start = 0L; start < size; start += per) {
+            ranges.add(new long[] {start, Math.min(start + per, size) - 1L});
+        }
+        final AtomicLong done = new AtomicLong();
+        try (
+            FileChannel file = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            );
+            FanOut.Results<Long> results = new FanOut<long[], Long>(
+                range -> this.piece(
+                    file, range, etag,
+                    bytes -> progress.update(done.addAndGet(bytes), size)
+                ),
+                segments
+            ).apply(ranges)
+        ) {
+            while (results.hasNext()) {
+                results.next();
+            }
+        } catch (final IllegalStateException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Download one segment, resuming it when the connection breaks.
+     * @param file File to write to
+     * @param range First and last byte of the segment
+     * @param etag ETag of the body or NULL
+     * @param written Callback for the number of bytes written
+     * @return Number of bytes written
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private long piece(final FileChannel file, final long[] range,
+        final String etag, final LongConsumer written) throws IOException {
+        final AtomicLong pos = new AtomicLong(range[0]);
+        IOException error = null;
+        for (int attempt = 1;
+            pos.get() <= range[1] && attempt <= RtStream.ATTEMPTS;
+            ++attempt) {
+            try {
+                this.fetch(file, pos, range[1], etag, written);
+            } catch (final UnexpectedHttpStatus ex) {
+                throw ex;
+            } catch (final IOException ex) {
+                Logger.info(
+                    this, "Segment %d-%d broke at %d, attempt #%d: %s",
+                    range[0], range[1], pos.get(), attempt, ex.getMessage()
+                );
+                error = ex;
+            }
+        }
+        if (pos.get() <= range[1]) {
+            if (error == null) {
+                error = new IOException(
+                    String.format(
+                        "Segment %d-%d ended at %d",
+                        range[0], range[1], pos.get()
+                    )
+                );
+            }
+            throw error;
+        }
+        return pos.get() - range[0];
+    }
+
+    /**
+     * Fetch the rest of the segment.
+     * @param file File to write to
+     * @param pos Position of the next byte, moved as bytes are written
+     * @param last Last byte of the segment
+     * @param etag ETag of the body or NULL
+     * @param written Callback for the number of bytes written
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void fetch(final FileChannel file, final AtomicLong pos,
+        final long last, final String etag, final LongConsumer written)
+        throws IOException {
+        Request req = this.request.header(
+            RtStream.RANGE, String.format("bytes=%d-%d", pos.get(), last)
+        );
+        if (etag != null && !etag.startsWith("W/")) {
+            req = req.header(RtStream.IF_RANGE, etag);
+        }
+        final HttpURLConnection conn = RtStream.response(req);
+        final int status = conn.getResponseCode();
+        if (status != HttpURLConnection.HTTP_PARTIAL) {
+            throw RtStream.failure(
+                conn, status, HttpURLConnection.HTTP_PARTIAL
+            );
+        }
+        final String tag = conn.getHeaderField(HttpHeaders.ETAG);
+        if (RtStream.range(conn)[0] != pos.get()
+            || etag != null && tag != null && !etag.equals(tag)) {
+            conn.disconnect();
+            throw new IOException(
+                String.format(
+                    "Segment %s of %s doesn't belong to %s at %d",
+                    conn.getHeaderField(RtStream.CONTENT_RANGE), tag,
+                    etag, pos.get()
+                )
+            );
+        }
+        try (
+            ReadableByteChannel src =
+                Channels.newChannel(conn.getInputStream())
+        ) {
+            final ByteBuffer buf = ByteBuffer.allocateDirect(RtStream.CHUNK);
+            while (src.read(buf) >= 0 || buf.position() > 0) {
+                ((Buffer) buf).flip();
+                final int bytes = file.write(buf, pos.get());
+                pos.addAndGet(bytes);
+                written.accept(bytes);
+                buf.compact();
+            }
+        }
+    }
+
+    /**
+     * Download the rest of the body to the file.
+     * @param path File
+     * @param tag File with the ETag of the body
+     * @return Size of the file
+     * @throws IOException If fails
+     */
+    private long segment(final Path path, final Path tag) throws IOException {
+        long offset = 0L;
+        String stored = null;
+        Request req = this.request;
+        if (Files.exists(path) && Files.exists(tag)) {
+            offset = Files.size(path);
+            stored = new String(
+                Files.readAllBytes(tag), StandardCharsets.UTF_8
+            );
+            req = req
+                .header(RtStream.RANGE, String.format("bytes=%d-", offset))
+                .header(RtStream.IF_RANGE, stored);
+        }
+        final HttpURLConnection conn = RtStream.response(req);
+        final int status = conn.getResponseCode();
+        final String etag = conn.getHeaderField(HttpHeaders.ETAG);
+        final long size;
+        if (status == HttpURLConnection.HTTP_PARTIAL && stored != null) {
+            final long[] range = RtStream.range(conn);
+            if (range[0] != offset || etag != null && !etag.equals(stored)) {
+                conn.disconnect();
+                Files.delete(tag);
+                throw new IOException(
+                    String.format(
+                        "Segment %s of %s doesn't continue %d bytes of %s",
+                        conn.getHeaderField(RtStream.CONTENT_RANGE), etag,
+                        offset, stored
+                    )
+                );
+            }
+            size = RtStream.write(
+                conn, path, offset, range[2], RtStream.SILENT
+            );
+        } else if (status == HttpURLConnection.HTTP_OK) {
+            if (etag == null || etag.startsWith("W/")) {
+                Files.deleteIfExists(tag);
+            } else {
+                Files.write(tag, etag.getBytes(StandardCharsets.UTF_8));
+            }
+            size = RtStream.write(
+                conn, path, 0L, conn.getContentLengthLong(), RtStream.SILENT
+            );
+        } else if (status == RtStream.UNSATISFIABLE && stored != null
+            && RtStream.range(conn)[2] == offset) {
+            conn.disconnect();
+            size = offset;
+        } else {
+            throw RtStream.failure(
+                conn, status, HttpURLConnection.HTTP_OK
+            );
+        }
+        return size;
+    }
+
+    /**
+     * Write the body to the file, starting from the position.
+     * @param conn Connection with the response
+     * @param path File
+     * @param offset Position in the file
+     * @param total Expected size of the file, or negative if unknown
+     * @param progress Progress to report to
+     * @return Size of the file
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static long write(final HttpURLConnection conn, final Path path,
+        final long offset, final long total,
+        final ReleaseAsset.Progress progress) throws IOException {
+        long size = offset;
+        try (
+            ReadableByteChannel src =
+                Channels.newChannel(conn.getInputStream());
+            FileChannel file = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.WRITE
+            )
+        ) {
+            file.truncate(offset);
+            long done = file.transferFrom(src, size, RtStream.CHUNK);
+            while (done > 0L) {
+                size += done;
+                progress.update(size, total);
+                done = file.transferFrom(src, size, RtStream.CHUNK);
+            }
+        }
+        if (total >= 0L && size != total) {
+            throw new IOException(
+                String.format("Got %d bytes of %d into %s", size, total, path)
+            );
+        }
+        return size;
+    }
+
+    /**
+     * Send the request, bypassing its wires.
+     * @param req Request
+     * @return Connection with the response, after all redirects
+     * @throws IOException If fails
+     */
+    private static HttpURLConnection response(final Request req)
+        throws IOException {
+        final AtomicReference<HttpURLConnection> conn =
+            new AtomicReference<>();
+        req.method(Request.GET).through(
+            (ignored, home, method, headers, content, connect, read) -> {
+                conn.set(
+                    RtStream.connect(
+                        ignored, home, headers,
+                        RtStream.timeout(connect, RtStream.CONNECT),
+                        RtStream.timeout(read, RtStream.READ)
+                    )
+                );
+                return new DefaultResponse(
+                    ignored, HttpURLConnection.HTTP_OK, "OK",
+                    new Array<>(), new byte[0]
+                );
+            }
+        ).fetch();
+        return conn.get();
+    }
+
+    /**
+     * Parse Content-Range of the response.
+     * @param conn Connection with the response
+     * @return First byte, last byte and total size, -1 if unknown
+     * @throws IOException If the header is absent or broken
+     */
+    private static long[] range(final HttpURLConnection conn)
+        throws IOException {
+        final String header = conn.getHeaderField(RtStream.CONTENT_RANGE);
+        final Matcher matcher;
+        if (header == null) {
+            matcher = null;
+        } else {
+            matcher = RtStream.RANGED.matcher(header.trim());
+        }
+        if (matcher == null || !matcher.matches()) {
+            conn.disconnect();
+            throw new IOException(
+                String.format("Invalid Content-Range: %s", header)
+            );
+        }
+        final long[] range = {-1L, -1L, -1L};
+        if (matcher.group(1) != null) {
+            range[0] = Long.parseLong(matcher.group(1));
+            range[1] = Long.parseLong(matcher.group(2));
+        }
+        if (!"*".equals(matcher.group(3))) {
+            range[2] = Long.parseLong(matcher.group(3));
+        }
+        return range;
+    }
+
+    /**
+     * Timeout of the request, or the default one if it's not set.
+     * @param requested Timeout of the request, in milliseconds
+     * @param fallback Default timeout, in milliseconds
+     * @return Timeout, in milliseconds
+     */
+    private static int timeout(final int requested, final int fallback) {
+        final int result;
+        if (requested > 0) {
+            result = requested;
+        } else {
+            result = fallback;
+        }
+        return result;
+    }
+
+    /**
+     * Connect, following redirects.
+     *
+     * <p>The {@link PooledWire#SIZE} header is not sent, and neither is
+     * {@code Authorization}, after a redirect to another host.
+     * @param req Request
+     * @param home URI
+     * @param headers Headers
+     * @param connect Connect timeout, in milliseconds
+     * @param read Read timeout, in milliseconds
+     * @return Connection with the response
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static HttpURLConnection connect(final Request req,
+        final String home, final Collection<Map.Entry<String, String>> headers,
+        final int connect, final int read) throws IOException {
+        final String host = URI.create(home).getHost();
+        URI uri = URI.create(home);
+        HttpURLConnection conn = null;
+        for (int hop = 0; conn == null; ++hop) {
+            final HttpURLConnection next =
+                (HttpURLConnection) uri.toURL().openConnection();
+            next.setInstanceFollowRedirects(false);
+            next.setConnectTimeout(connect);
+            next.setReadTimeout(read);
+            for (final Map.Entry<String, String> header : headers) {
+                if (!PooledWire.SIZE.equalsIgnoreCase(header.getKey())
+                    && (host.equalsIgnoreCase(uri.getHost())
+                    || !HttpHeaders.AUTHORIZATION.equalsIgnoreCase(
+                        header.getKey()
+                    ))) {
+                    next.addRequestProperty(
+                        header.getKey(), header.getValue()
+                    );
+                }
+            }
+            final int status = next.getResponseCode();
+            RtStream.record(req, uri, headers, next);
+            if (RtStream.MOVED.contains(status) && hop < RtStream.REDIRECTS
+                && next.getHeaderField(HttpHeaders.LOCATION) != null) {
+                uri = uri.resolve(next.getHeaderField(HttpHeaders.LOCATION));
+                next.disconnect();
+            } else {
+                conn = next;
+            }
+        }
+        return conn;
+    }
+
+    /**
+     * Record rate limit headers of the response into the shared ledger.
+     * @param req Request
+     * @param uri URI of the hop
+     * @param headers Headers of the request
+     * @param conn Connection with the response
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static void record(final Request req, final URI uri,
+        final Collection<Map.Entry<String, String>> headers,
+        final HttpURLConnection conn) throws IOException {
+        final Collection<Map.Entry<String, String>> hdrs = new LinkedList<>();
+        for (final Map.Entry<String, List<String>> header
+            : conn.getHeaderFields().entrySet()) {
+            if (header.getKey() != null) {
+                for (final String value : header.getValue()) {
+                    hdrs.add(new ImmutableHeader(header.getKey(), value));
+                }
+            }
+        }
+        Ledger.SHARED.record(
+            uri.toString(), headers,
+            new DefaultResponse(
+                req, conn.getResponseCode(), "", new Array<>(hdrs),
+                new byte[0]
+            )
+        );
+    }
+
+    /**
+     * Failure of the request.
+     * @param conn Connection with the unexpected status
+     * @param status The status
+     * @param expected Expected status
+     * @return Exception to throw
+     * @throws IOException If fails
+     */
+    private static UnexpectedHttpStatus failure(final HttpURLConnection conn,
+        final int status, final int expected) throws IOException {
+        String body = "";
+        try (InputStream err = conn.getErrorStream()) {
+            if (err != null) {
+                body = IOUtils.toString(err, StandardCharsets.UTF_8);
+            }
+        } finally {
+            conn.disconnect();
+        }
+        return new UnexpectedHttpStatus(
+            new AssertionError(
+                String.format(
+                    "HTTP response with status %d instead of %d at %s: %s",
+                    status, expected, conn.getURL(), body
+                )
+            )
+        );
+    }
+}
@@ -13,8 +13,11 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonValue;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Queue;
 import lombok.EqualsAndHashCode;
@@ -42,6 +45,11 @@ public final class RtValuePagination<T, P extends JsonValue> implements
      */
     private final transient Request entry;
 
+    /**
+     * Source of pages.
+     */
+    private final transient RtValuePagination.Pages<P> pages;
+
     /**
      * Public ctor.
      * @param req Request
@@ -50,9 +58,24 @@ public final class RtValuePagination<T, P extends JsonValue> implements
     public RtValuePagination(
         final Request req,
         final RtValuePagination.Mapping<T, P> mpp
+    ) {
+        this(req, mpp, RtValuePagination.Page::fetch);
+    }
+
+    /**
+     * Ctor.
+     * @param req Request
+     * @param mpp Mapping
+     * @param src Source of pages
+     */
+    RtValuePagination(
+        final Request req,
+        final RtValuePagination.Mapping<T, P> mpp,
+        final RtValuePagination.Pages<P> src
     ) {
         this.entry = req;
         this.map = mpp;
+        this.pages = src;
     }
 
     @Override
@@ -62,7 +85,9 @@ public final class RtValuePagination<T, P extends JsonValue> implements
 
     @Override
     public Iterator<T> iterator() {
-        return new RtValuePagination.Items<>(this.entry, this.map);
+        return new RtValuePagination.Items<>(
+            this.entry, this.map, this.pages
+        );
     }
 
     /**
@@ -81,6 +106,14 @@ public final class RtValuePagination<T, P extends JsonValue> implements
         return this.map;
     }
 
+    /**
+     * Source of pages.
+     * @return Source
+     */
+    RtValuePagination.Pages<P> source() {
+        return this.pages;
+    }
+
     /**
      * Mapping from JsonValue successor to the destination type.
      * @param <X> Type of custom object
@@ -97,6 +130,22 @@ public final class RtValuePagination<T, P extends JsonValue> implements
         X map(P value);
     }
 
+    /**
+     * Source of pages.
+     * @param <P> Type of source object
+     * @since 2.0
+     */
+    @Immutable
+    interface Pages<P extends JsonValue> {
+        /**
+         * Fetch the page.
+         * @param request Request of the page
+         * @return Page
+         * @throws IOException If there is any I/O problem
+         */
+        RtValuePagination.Page<P> fetch(Request request) throws IOException;
+    }
+
     /**
      * Iterator.
      * @param <X> Type of custom object
@@ -112,6 +161,11 @@ public final class RtValuePagination<T, P extends JsonValue> implements
          */
         private final transient RtValuePagination.Mapping<X, P> mapping;
 
+        /**
+         * Source of pages.
+         */
+        private final transient RtValuePagination.Pages<P> pages;
+
         /**
          * Next entry to use.
          */
@@ -131,10 +185,13 @@ public final class RtValuePagination<T, P extends JsonValue> implements
          * Ctor.
          * @param entry Entry
          * @param mpp Mapping
+         * @param src Source of pages
          */
-        Items(final Request entry, final RtValuePagination.Mapping<X, P> mpp) {
+        Items(final Request entry, final RtValuePagination.Mapping<X, P> mpp,
+            final RtValuePagination.Pages<P> src) {
             this.request = entry;
             this.mapping = mpp;
+            this.pages = src;
             this.objects = new LinkedList<>();
         }
 
@@ -174,27 +231,113 @@ public final class RtValuePagination<T, P extends JsonValue> implements
          * Fetch the next portion, if available.
          * @throws IOException If there is any I/O problem
          */
-        @SuppressWarnings("unchecked")
         private void fetch() throws IOException {
-            final RestResponse response = this.request.fetch()
-                .as(RestResponse.class)
-                .assertStatus(HttpURLConnection.HTTP_OK);
-            final WebLinkingResponse.Link link = response
-                .as(WebLinkingResponse.class)
-                .links()
-                .get("next");
-            if (link == null) {
+            final RtValuePagination.Page<P> page =
+                this.pages.fetch(this.request);
+            if (page.last()) {
                 this.more = false;
             } else {
-                this.request = response.jump(link.uri());
+                this.request = page.next();
+            }
+            this.objects = new LinkedList<>(page.values());
+        }
+    }
+
+    /**
+     * One page of values, with a link to the next one.
+     * @param <P> Type of source object
+     * @since 2.0
+     */
+    static final class Page<P extends JsonValue> {
+        /**
+         * Values of the page.
+         */
+        private final transient List<P> items;
+
+        /**
+         * Request for the next page, NULL if this page is the last one.
+         */
+        private final transient Request following;
+
+        /**
+         * Ctor.
+         * @param values Values of the page
+         * @param next Request for the next page or NULL
+         */
+        Page(final List<P> values, final Request next) {
+            this.items = values;
+            this.following = next;
+        }
+
+        /**
+         * Values of the page.
+         * @return Values
+         */
+        public List<P> values() {
+            return Collections.unmodifiableList(this.items);
+        }
+
+        /**
+         * Is it the last page?
+         * @return TRUE if there are no more pages
+         */
+        public boolean last() {
+            return this.following == null;
+        }
+
+        /**
+         * Request for the next page.
+         * @return Request
+         */
+        public Request next() {
+            if (this.following == null) {
+                throw new NoSuchElementException("this is the last page");
             }
+            return this.following;
+        }
+
+        /**
+         * Fetch the page.
+         * @param request Request of the page
+         * @param <V> Type of source object
+         * @return Page
+         * @throws IOException If there is any I/O problem
+         */
+        @SuppressWarnings("unchecked")
+        static <V extends JsonValue> RtValuePagination.Page<V> fetch(
+            final Request request
+        ) throws IOException {
+            final RestResponse response = request.fetch()
+                .as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_OK);
             final JsonArray arr = response.as(JsonResponse.class).json()
                 .readArray();
-            final Queue<P> list = new LinkedList<>();
+            final List<V> list = new ArrayList<>(arr.size());
             for (final JsonValue value : arr) {
-                list.add((P) value);
+                list.add((V) value);
+            }
+            return new RtValuePagination.Page<>(
+                list, RtValuePagination.Page.following(response)
+            );
+        }
+
+        /**
+         * Request for the page after the one in the response.
+         * @param response Response with the page
+         * @return Request or NULL if it's the last page
+         * @throws IOException If there is any I/O problem
+         */
+        static Request following(final RestResponse response)
+            throws IOException {
+            final WebLinkingResponse.Link link = response
+                .as(WebLinkingResponse.class)
+                .links()
+                .get("next");
+            Request next = null;
+            if (link != null) {
+                next = response.jump(link.uri());
             }
-            this.objects = list;
+            return next;
         }
     }
 
@@ -5,6 +5,7 @@
 package com.jcabi.github;
 
 import com.jcabi.aspects.Immutable;
+import java.io.IOException;
 import java.util.EnumMap;
 
 /**
@@ -24,13 +25,16 @@ public interface Search {
 
     /**
      * Search repositories.
+     *
+     * <p>Repos carry the JSON of their hits, so
+     * {@link Repo.Smart} reads them without requests.
      * @param keywords The search keywords
      * @param sort The sort field
      * @param order The sort order
      * @return Repos
      * @see <a href="https://developer.github.com/v3/search/#search-repositories">Search repositories</a>
      */
-    Iterable<Repo> repos(
+    Search.Results<Repo> repos(
         String keywords,
         String sort,
         Search.Order order
@@ -38,6 +42,9 @@ public interface Search {
 
     /**
      * Search issues.
+     *
+     * <p>Issues carry the JSON of their hits, so
+     * {@link Issue.Smart} reads them without requests.
      * @param keywords The search keywords
      * @param sort The sort field
      * @param order The sort order
@@ -46,7 +53,7 @@ public interface Search {
      * @see <a href="https://developer.github.com/v3/search/#search-issues">Search issues</a>
      * @checkstyle ParameterNumberCheck (7 lines)
      */
-    Iterable<Issue> issues(
+    Search.Results<Issue> issues(
         String keywords,
         String sort,
         Search.Order order,
@@ -54,26 +61,32 @@ public interface Search {
 
     /**
      * Search users.
+     *
+     * <p>Users carry the JSON of their hits, which
+     * is only a summary, with {@code login}, {@code avatar_url} and URLs.
      * @param keywords The search keywords
      * @param sort The sort field
      * @param order The sort order
      * @return Users
      * @see <a href="https://developer.github.com/v3/search/#search-users">Search users</a>
      */
-    Iterable<User> users(
+    Search.Results<User> users(
         String keywords,
         String sort,
         Search.Order order);
 
     /**
      * Search code.
+     *
+     * <p>Contents are made of the hits, at the refs they were found at,
+     * and nothing is fetched until they are read.
      * @param keywords The search keywords
      * @param sort The sort field
      * @param order The sort order
      * @return Contents
      * @see <a href="https://developer.github.com/v3/search/#search-code">Search code</a>
      */
-    Iterable<Content> codes(
+    Search.Results<Content> codes(
         String keywords,
         String sort,
         Search.Order order);
@@ -212,4 +225,42 @@ public interface Search {
             return this.order;
         }
     }
+
+    /**
+     * Results of a search.
+     *
+     * <p>Hits are fetched page by page, as they are iterated. Besides them,
+     * GitHub tells how many hits there are and whether the search timed out
+     * before all of them were found, which helps to size the work up front:
+     *
+     * <pre> Search.Results&lt;Issue&gt; issues = github.search().issues(
+     *   "bug", "created", Search.Order.DESC,
+     *   new EnumMap&lt;&gt;(Search.Qualifier.class)
+     * );
+     * progress.expect(issues.total());</pre>
+     *
+     * <p>Search methods used to return plain {@link Iterable}. Callers
+     * still compile, but classes compiled against an older version
+     * fail with {@link NoSuchMethodError} and must be recompiled.
+     *
+     * @param <T> Type of hits
+     * @since 2.0
+     */
+    @Immutable
+    interface Results<T> extends Iterable<T> {
+        /**
+         * Total number of hits, as {@code total_count} reports it.
+         * @return Number of hits
+         * @throws IOException If there is any I/O problem
+         */
+        long total() throws IOException;
+
+        /**
+         * Did the search time out before all hits were found, as
+         * {@code incomplete_results} reports it?
+         * @return TRUE if some hits may be missing
+         * @throws IOException If there is any I/O problem
+         */
+        boolean incomplete() throws IOException;
+    }
 }
@@ -0,0 +1,337 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.mock;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.github.Archive;
+import com.jcabi.github.Coordinates;
+import com.jcabi.github.Repo;
+import com.jcabi.xml.XML;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.xml.bind.DatatypeConverter;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Mock of GitHub repository archive.
+ *
+ * <p>The archive is made of the contents of the repo at the ref, see
+ * {@link MkContents}, every time it is requested. Like in GitHub, all
+ * entries are inside the directory named after the repo and the ref,
+ * and every directory has its own entry.
+ *
+ * @since 2.0
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = { "storage", "self", "coords", "format", "name" })
+final class MkArchive implements Archive {
+
+    /**
+     * Format of tarballs.
+     */
+    static final String TARBALL = "tarball";
+
+    /**
+     * Format of zipballs.
+     */
+    static final String ZIPBALL = "zipball";
+
+    /**
+     * Size of a tar block, in bytes.
+     */
+    private static final int BLOCK = 512;
+
+    /**
+     * Storage.
+     */
+    private final transient MkStorage storage;
+
+    /**
+     * Login of the user logged in.
+     */
+    private final transient String self;
+
+    /**
+     * Repo coordinates.
+     */
+    private final transient Coordinates coords;
+
+    /**
+     * Format, tarball or zipball.
+     */
+    private final transient String format;
+
+    /**
+     * Ref.
+     */
+    private final transient String name;
+
+    /**
+     * Public ctor.
+     * @param stg Storage
+     * @param login User to login
+     * @param repo Repo coordinates
+     * @param kind Format, tarball or zipball
+     * @param ref Branch, tag or commit SHA
+     * @checkstyle ParameterNumber (7 lines)
+     */
+    MkArchive(
+        final MkStorage stg,
+        final String login,
+        final Coordinates repo,
+        final String kind,
+        final String ref
+    ) {
+        this.storage = stg;
+        this.self = login;
+        this.coords = repo;
+        this.format = kind;
+        this.name = ref;
+    }
+
+    @Override
+    public Repo repo() {
+        return new MkRepo(this.storage, this.self, this.coords);
+    }
+
+    @Override
+    public String ref() {
+        return this.name;
+    }
+
+    @Override
+    public InputStream raw() throws IOException {
+        return new ByteArrayInputStream(this.bytes());
+    }
+
+    @Override
+    public long save(final Path path) throws IOException {
+        final byte[] bytes = this.bytes();
+        Files.write(path, bytes);
+        return bytes.length;
+    }
+
+    @Override
+    public Archive.Entries entries() throws IOException {
+        final List<Archive.Entry> list = new LinkedList<>();
+        for (final Map.Entry<String, byte[]> file : this.files().entrySet()) {
+            final byte[] data = file.getValue();
+            if (data == null) {
+                list.add(
+                    new Archive.Entry(
+                        file.getKey(), 0L, true,
+                        new ByteArrayInputStream(new byte[0])
+                    )
+                );
+            } else {
+                list.add(
+                    new Archive.Entry(
+                        file.getKey(), data.length, false,
+                        new ByteArrayInputStream(data)
+                    )
+                );
+            }
+        }
+        return new MkArchive.Listed(list.iterator());
+    }
+
+    /**
+     * Files and directories of the archive, by paths.
+     * @return Content of files, NULL for directories
+     * @throws IOException If there is any I/O problem
+     */
+    private Map<String, byte[]> files() throws IOException {
+        final String root = String.format(
+            "%s-%s-%07x/", this.coords.user(), this.coords.repo(),
+            // @checkstyle MagicNumber (1 line)
+            this.name.hashCode() & 0xfffffff
+        );
+        final Map<String, byte[]> files = new TreeMap<>();
+        files.put(root, null);
+        for (final XML node : this.storage.xml().nodes(
+            String.format(
+                "/github/repos/repo[@coords='%s']/contents/content[@ref='%s']",
+                this.coords, this.name
+            )
+        )) {
+            final String path = node.xpath("path/text()").get(0);
+            int slash = path.indexOf('/');
+            while (slash > 0) {
+                files.put(root.concat(path.substring(0, slash + 1)), null);
+                slash = path.indexOf('/', slash + 1);
+            }
+            final List<String> content = node.xpath("content/text()");
+            final byte[] data;
+            if (content.isEmpty()) {
+                data = new byte[0];
+            } else {
+                data = DatatypeConverter.parseBase64Binary(content.get(0));
+            }
+            files.put(root.concat(path), data);
+        }
+        return files;
+    }
+
+    /**
+     * Make the archive.
+     * @return Bytes of the gzipped tar or zip
+     * @throws IOException If there is any I/O problem
+     */
+    private byte[] bytes() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (MkArchive.TARBALL.equals(this.format)) {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+                for (final Map.Entry<String, byte[]> file
+                    : this.files().entrySet()) {
+                    MkArchive.tar(gzip, file.getKey(), file.getValue());
+                }
+                gzip.write(new byte[MkArchive.BLOCK * 2]);
+            }
+        } else {
+            try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+                for (final Map.Entry<String, byte[]> file
+                    : this.files().entrySet()) {
+                    zip.putNextEntry(new ZipEntry(file.getKey()));
+                    if (file.getValue() != null) {
+                        zip.write(file.getValue());
+                    }
+                    zip.closeEntry();
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Write the entry of the tar, with a PAX header if the path
+     * doesn't fit into the {@code ustar} one.
+     * @param out Where to write
+     * @param path Path of the entry
+     * @param data Content, NULL for a directory
+     * @throws IOException If fails
+     */
+    private static void tar(final OutputStream out, final String path,
+        final byte[] data) throws IOException {
+        final byte[] bytes = path.getBytes(StandardCharsets.UTF_8);
+        // @checkstyle MagicNumber (1 line)
+        if (bytes.length > 100) {
+            final String record = String.format(" path=%s\n", path);
+            final int size = record.getBytes(StandardCharsets.UTF_8).length;
+            int length = size;
+            int prev;
+            do {
+                prev = length;
+                length = size + Integer.toString(prev).length();
+            } while (length != prev);
+            MkArchive.block(
+                out, "PaxHeader", 'x',
+                String.format("%d%s", length, record)
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        if (data == null) {
+            MkArchive.block(out, path, '5', new byte[0]);
+        } else {
+            MkArchive.block(out, path, '0', data);
+        }
+    }
+
+    /**
+     * Write the header and the content of the tar entry.
+     * @param out Where to write
+     * @param path Path, cut to the size of the field if longer
+     * @param type Type of the entry
+     * @param data Content
+     * @throws IOException If fails
+     */
+    private static void block(final OutputStream out, final String path,
+        final char type, final byte[] data) throws IOException {
+        final byte[] header = new byte[MkArchive.BLOCK];
+        // @checkstyle MagicNumber (20 lines)
+        final byte[] bytes = path.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(bytes, 0, header, 0, Math.min(bytes.length, 100));
+        MkArchive.field(header, 100, "0000644");
+        MkArchive.field(header, 108, "0000000");
+        MkArchive.field(header, 116, "0000000");
+        MkArchive.field(header, 124, String.format("%011o", data.length));
+        MkArchive.field(header, 136, "00000000000");
+        MkArchive.field(header, 148, "        ");
+        header[156] = (byte) type;
+        MkArchive.field(header, 257, "ustar\u000000");
+        long sum = 0L;
+        for (final byte bte : header) {
+            sum += bte & 0xff;
+        }
+        MkArchive.field(header, 148, String.format("%06o\u0000 ", sum));
+        out.write(header);
+        out.write(data);
+        out.write(
+            new byte[(MkArchive.BLOCK - data.length % MkArchive.BLOCK)
+                % MkArchive.BLOCK]
+        );
+    }
+
+    /**
+     * Put the ASCII text into the header.
+     * @param header Header block
+     * @param start Start of the field
+     * @param text Text
+     */
+    private static void field(final byte[] header, final int start,
+        final String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, header, start, bytes.length);
+    }
+
+    /**
+     * Entries of the list, which need no closing.
+     * @since 2.0
+     */
+    private static final class Listed implements Archive.Entries {
+        /**
+         * Entries.
+         */
+        private final transient Iterator<Archive.Entry> list;
+
+        /**
+         * Ctor.
+         * @param entries Entries
+         */
+        Listed(final Iterator<Archive.Entry> entries) {
+            this.list = entries;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.list.hasNext();
+        }
+
+        @Override
+        public Archive.Entry next() {
+            return this.list.next();
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+}
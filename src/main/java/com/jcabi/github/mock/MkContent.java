@@ -13,8 +13,14 @@ import jakarta.json.JsonObject;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import javax.xml.bind.DatatypeConverter;
 import lombok.ToString;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.builder.CompareToBuilder;
 
 /**
@@ -120,6 +126,22 @@ final class MkContent implements Content {
         );
     }
 
+    @Override
+    public long raw(final Path file) throws IOException {
+        try (InputStream stream = this.raw()) {
+            return Files.copy(
+                stream, file, StandardCopyOption.REPLACE_EXISTING
+            );
+        }
+    }
+
+    @Override
+    public long raw(final WritableByteChannel channel) throws IOException {
+        try (InputStream stream = this.raw()) {
+            return IOUtils.copyLarge(stream, Channels.newOutputStream(channel));
+        }
+    }
+
     @Override
     public boolean equals(final Object obj) {
         final boolean result;
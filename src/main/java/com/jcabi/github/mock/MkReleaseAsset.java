@@ -13,8 +13,14 @@ import jakarta.json.JsonObject;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import lombok.ToString;
+import org.apache.commons.io.IOUtils;
 import org.xembly.Directives;
 
 /**
@@ -118,6 +124,35 @@ final class MkReleaseAsset implements ReleaseAsset {
         );
     }
 
+    @Override
+    public long raw(final Path path) throws IOException {
+        try (InputStream stream = this.raw()) {
+            return Files.copy(
+                stream, path, StandardCopyOption.REPLACE_EXISTING
+            );
+        }
+    }
+
+    @Override
+    public long raw(final WritableByteChannel channel) throws IOException {
+        try (InputStream stream = this.raw()) {
+            return IOUtils.copyLarge(stream, Channels.newOutputStream(channel));
+        }
+    }
+
+    @Override
+    public long download(final Path path) throws IOException {
+        return this.raw(path);
+    }
+
+    @Override
+    public long download(final Path path, final int segments,
+        final ReleaseAsset.Progress progress) throws IOException {
+        final long size = this.raw(path);
+        progress.update(size, size);
+        return size;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         final boolean result;
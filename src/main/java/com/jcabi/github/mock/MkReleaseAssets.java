@@ -12,9 +12,13 @@ import com.jcabi.github.Release;
 import com.jcabi.github.ReleaseAsset;
 import com.jcabi.github.ReleaseAssets;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import javax.xml.bind.DatatypeConverter;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.apache.commons.io.IOUtils;
 import org.xembly.Directives;
 
 /**
@@ -137,6 +141,26 @@ final class MkReleaseAssets implements ReleaseAssets {
         return this.get(number);
     }
 
+    @Override
+    public ReleaseAsset upload(
+        final Path file,
+        final String type,
+        final String name
+    ) throws IOException {
+        return this.upload(Files.readAllBytes(file), type, name);
+    }
+
+    @Override
+    // @checkstyle ParameterNumberCheck (6 lines)
+    public ReleaseAsset upload(
+        final InputStream content,
+        final long length,
+        final String type,
+        final String name
+    ) throws IOException {
+        return this.upload(IOUtils.toByteArray(content, length), type, name);
+    }
+
     @Override
     public ReleaseAsset get(final int number) {
         return new MkReleaseAsset(
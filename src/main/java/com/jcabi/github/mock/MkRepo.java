@@ -6,6 +6,7 @@ package com.jcabi.github.mock;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
+import com.jcabi.github.Archive;
 import com.jcabi.github.Assignees;
 import com.jcabi.github.Branch;
 import com.jcabi.github.Branches;
@@ -288,6 +289,20 @@ final class MkRepo implements Repo {
         );
     }
 
+    @Override
+    public Archive tarball(final String ref) {
+        return new MkArchive(
+            this.storage, this.self, this.coords, MkArchive.TARBALL, ref
+        );
+    }
+
+    @Override
+    public Archive zipball(final String ref) {
+        return new MkArchive(
+            this.storage, this.self, this.coords, MkArchive.ZIPBALL, ref
+        );
+    }
+
     @Override
     public JsonObject json() throws IOException {
         return new JsonNode(
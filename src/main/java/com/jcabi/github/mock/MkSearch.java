@@ -4,6 +4,7 @@
  */
 package com.jcabi.github.mock;
 
+import com.google.common.collect.Iterables;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.github.Content;
@@ -14,6 +15,7 @@ import com.jcabi.github.Repo;
 import com.jcabi.github.Search;
 import com.jcabi.github.User;
 import java.util.EnumMap;
+import java.util.Iterator;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -58,72 +60,118 @@ final class MkSearch implements Search {
     }
 
     @Override
-    public Iterable<Repo> repos(
+    public Search.Results<Repo> repos(
         final String keywords,
         final String sort,
         final Search.Order order
     ) {
-        return new MkIterable<>(
-            this.storage,
-            "/github/repos/repo",
-            xml -> new MkRepo(
-                this.storage, this.self,
-                new Coordinates.Simple(xml.xpath("@coords").get(0))
+        return new MkSearch.Found<>(
+            new MkIterable<>(
+                this.storage,
+                "/github/repos/repo",
+                xml -> new MkRepo(
+                    this.storage, this.self,
+                    new Coordinates.Simple(xml.xpath("@coords").get(0))
+                )
             )
         );
     }
 
     //@checkstyle ParameterNumberCheck (5 lines)
     @Override
-    public Iterable<Issue> issues(final String keywords, final String sort,
-        final Search.Order order, final EnumMap<Search.Qualifier, String> qualifiers
+    public Search.Results<Issue> issues(final String keywords,
+        final String sort, final Search.Order order,
+        final EnumMap<Search.Qualifier, String> qualifiers
     ) {
-        return new MkIterable<>(
-            this.storage,
-            "/github/repos/repo/issues/issue",
-            xml -> new MkIssue(
-                this.storage, this.self,
-                new Coordinates.Simple(
-                    xml.xpath("../../@coords").get(0)
-                ),
-                Integer.parseInt(xml.xpath("number/text()").get(0))
+        return new MkSearch.Found<>(
+            new MkIterable<>(
+                this.storage,
+                "/github/repos/repo/issues/issue",
+                xml -> new MkIssue(
+                    this.storage, this.self,
+                    new Coordinates.Simple(
+                        xml.xpath("../../@coords").get(0)
+                    ),
+                    Integer.parseInt(xml.xpath("number/text()").get(0))
+                )
             )
         );
     }
 
     @Override
-    public Iterable<User> users(
+    public Search.Results<User> users(
         final String keywords,
         final String sort,
         final Search.Order order
     ) {
-        return new MkIterable<>(
-            this.storage,
-            "/github/users/user",
-            xml -> new MkUser(
+        return new MkSearch.Found<>(
+            new MkIterable<>(
                 this.storage,
-                xml.xpath("login/text()").get(0)
+                "/github/users/user",
+                xml -> new MkUser(
+                    this.storage,
+                    xml.xpath("login/text()").get(0)
+                )
             )
         );
     }
 
     @Override
-    public Iterable<Content> codes(
+    public Search.Results<Content> codes(
         final String keywords,
         final String sort,
         final Search.Order order
     ) {
-        return new MkIterable<>(
-            this.storage,
-            "/github/repos/repo/name",
-            xml -> new MkContent(
+        return new MkSearch.Found<>(
+            new MkIterable<>(
                 this.storage,
-                this.self,
-                new Coordinates.Simple(this.self, "repo"),
-                "/path/to/search",
-                "master"
+                "/github/repos/repo/name",
+                xml -> new MkContent(
+                    this.storage,
+                    this.self,
+                    new Coordinates.Simple(this.self, "repo"),
+                    "/path/to/search",
+                    "master"
+                )
             )
         );
     }
 
+    /**
+     * Results of the search, all found at once.
+     * @param <T> Type of hits
+     * @since 2.0
+     */
+    @Immutable
+    @ToString
+    @EqualsAndHashCode(of = "hits")
+    private static final class Found<T> implements Search.Results<T> {
+        /**
+         * Hits.
+         */
+        private final transient MkIterable<T> hits;
+
+        /**
+         * Ctor.
+         * @param items Hits
+         */
+        Found(final MkIterable<T> items) {
+            this.hits = items;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return this.hits.iterator();
+        }
+
+        @Override
+        public long total() {
+            return Iterables.size(this.hits);
+        }
+
+        @Override
+        public boolean incomplete() {
+            return false;
+        }
+    }
 }
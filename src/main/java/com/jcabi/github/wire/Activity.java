@@ -0,0 +1,250 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import lombok.ToString;
+
+/**
+ * Live state of the requests of one {@link com.jcabi.github.GitHub}.
+ *
+ * <p>{@link ActivityWire} counts requests in flight and makes this object
+ * current for the thread while the request goes through the wires
+ * below it. {@link CarefulWire}, {@link PacingWire} and
+ * {@link BackoffWire} count the threads they hold asleep, and
+ * {@link CoalescingWire} counts its hits and misses, in the current
+ * activity, if there is one. Remaining rate limits of the credentials
+ * seen are taken from the {@link Ledger}; like the ledger, the activity
+ * keeps only hashes of the credentials, never their values. So, looking
+ * at a stalled job, you can tell throttling from slow network:
+ *
+ * <pre> Activity activity = new Activity().register("my-job");
+ * GitHub github = new RtGitHub(
+ *   new RtGitHub(oauthKey).entry().through(CarefulWire.class, 50)
+ * ).monitored(activity);</pre>
+ *
+ * <p>Registered activities are visible in JMX as
+ * {@code com.jcabi.github:type=Activity,name=...}.
+ *
+ * @since 2.0
+ */
+@ToString(of = { "flight", "sleeping" })
+public final class Activity implements ActivityMXBean {
+
+    /**
+     * Activity of the current thread.
+     */
+    private static final ThreadLocal<Activity> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Milliseconds slept by the current thread, in total.
+     */
+    private static final ThreadLocal<long[]> SLEPT =
+        ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * Requests in flight.
+     */
+    private final transient LongAdder flight;
+
+    /**
+     * Threads asleep.
+     */
+    private final transient LongAdder sleeping;
+
+    /**
+     * Coalescing hits.
+     */
+    private final transient LongAdder hits;
+
+    /**
+     * Coalescing misses.
+     */
+    private final transient LongAdder misses;
+
+    /**
+     * SHA-256 hashes of credentials seen.
+     */
+    private final transient Set<String> hashes;
+
+    /**
+     * Ledger of rate limits.
+     */
+    private final transient Ledger ledger;
+
+    /**
+     * Public ctor.
+     */
+    public Activity() {
+        this(Ledger.SHARED);
+    }
+
+    /**
+     * Public ctor.
+     * @param book Ledger of rate limits
+     */
+    public Activity(final Ledger book) {
+        this.flight = new LongAdder();
+        this.sleeping = new LongAdder();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.hashes = ConcurrentHashMap.newKeySet();
+        this.ledger = book;
+    }
+
+    /**
+     * Register in the platform MBean server.
+     * @param name Name of this object in JMX
+     * @return This
+     */
+    public Activity register(final String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                this,
+                new ObjectName(
+                    String.format(
+                        "com.jcabi.github:type=Activity,name=%s",
+                        ObjectName.quote(name)
+                    )
+                )
+            );
+        } catch (final JMException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return this;
+    }
+
+    @Override
+    public long getInFlight() {
+        return this.flight.sum();
+    }
+
+    @Override
+    public long getSleeping() {
+        return this.sleeping.sum();
+    }
+
+    @Override
+    public long getCoalescingHits() {
+        return this.hits.sum();
+    }
+
+    @Override
+    public long getCoalescingMisses() {
+        return this.misses.sum();
+    }
+
+    @Override
+    public double getCoalescingHitRate() {
+        final long hit = this.hits.sum();
+        final long total = hit + this.misses.sum();
+        final double rate;
+        if (total == 0L) {
+            rate = 0.0;
+        } else {
+            rate = (double) hit / total;
+        }
+        return rate;
+    }
+
+    @Override
+    public Map<String, Long> getRemaining() {
+        final Map<String, Long> all = new TreeMap<>();
+        for (final String hash : this.hashes) {
+            for (final Map.Entry<String, Ledger.Entry> entry
+                : this.ledger.hashed(hash).entrySet()) {
+                all.put(
+                    String.format(
+                        "%s %s", hash.substring(0, 8), entry.getKey()
+                    ),
+                    (long) entry.getValue().remaining()
+                );
+            }
+        }
+        return all;
+    }
+
+    /**
+     * Request started in the current thread.
+     * @param credential Credential of the request
+     * @return Activity that was current before
+     */
+    Activity start(final String credential) {
+        this.hashes.add(Ledger.hash(credential));
+        this.flight.increment();
+        final Activity before = Activity.CURRENT.get();
+        Activity.CURRENT.set(this);
+        return before;
+    }
+
+    /**
+     * Request finished in the current thread.
+     * @param before Activity that was current before the request
+     */
+    void finish(final Activity before) {
+        this.flight.decrement();
+        if (before == null) {
+            Activity.CURRENT.remove();
+        } else {
+            Activity.CURRENT.set(before);
+        }
+    }
+
+    /**
+     * Sleep, counting the thread as asleep in the current activity.
+     * @param millis Milliseconds to sleep
+     * @throws InterruptedException If interrupted
+     */
+    static void sleep(final long millis) throws InterruptedException {
+        final Activity current = Activity.CURRENT.get();
+        if (current != null) {
+            current.sleeping.increment();
+        }
+        final long start = System.nanoTime();
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } finally {
+            Activity.SLEPT.get()[0] += TimeUnit.NANOSECONDS.toMillis(
+                System.nanoTime() - start
+            );
+            if (current != null) {
+                current.sleeping.decrement();
+            }
+        }
+    }
+
+    /**
+     * Milliseconds the current thread has slept in
+     * {@link #sleep(long)}, in total, whether there is a current
+     * activity or not.
+     * @return Milliseconds
+     */
+    static long slept() {
+        return Activity.SLEPT.get()[0];
+    }
+
+    /**
+     * Count coalescing lookup in the current activity.
+     * @param hit Was the request answered by another one in flight
+     */
+    static void coalesced(final boolean hit) {
+        final Activity current = Activity.CURRENT.get();
+        if (current != null) {
+            if (hit) {
+                current.hits.increment();
+            } else {
+                current.misses.increment();
+            }
+        }
+    }
+}
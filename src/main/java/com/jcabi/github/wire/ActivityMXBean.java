@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link Activity}.
+ *
+ * @since 2.0
+ */
+public interface ActivityMXBean {
+
+    /**
+     * Number of requests in flight.
+     * @return Number
+     */
+    long getInFlight();
+
+    /**
+     * Number of threads waiting for the rate limit, in {@link CarefulWire},
+     * {@link PacingWire} or {@link BackoffWire}.
+     * @return Number
+     */
+    long getSleeping();
+
+    /**
+     * Number of requests answered by a request already in flight,
+     * in {@link CoalescingWire}.
+     * @return Number
+     */
+    long getCoalescingHits();
+
+    /**
+     * Number of requests sent to the network by {@link CoalescingWire}.
+     * @return Number
+     */
+    long getCoalescingMisses();
+
+    /**
+     * Share of coalescing hits among all coalescing lookups.
+     * @return Rate, from zero to one
+     */
+    double getCoalescingHitRate();
+
+    /**
+     * Requests remaining, by credentials (first eight characters of their
+     * SHA-256 hashes), hosts and resources, for example
+     * {@code 1a2b3c4d api.github.com core}.
+     * @return Numbers
+     */
+    Map<String, Long> getRemaining();
+}
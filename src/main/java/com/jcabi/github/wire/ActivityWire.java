@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that tracks the live state of requests in {@link Activity}.
+ *
+ * <p>The activity is bound to the thread which sends the request, so
+ * this wire must be above all wires which report into it, but below
+ * the wires which send requests from other threads, like
+ * {@link HedgingWire}. Without such wires, the easiest way to use it is
+ * {@link com.jcabi.github.RtGitHub#monitored(Activity)}, which puts
+ * it on top of the chain.
+ *
+ * @since 2.0
+ */
+@ToString(of = "origin")
+@EqualsAndHashCode(of = { "origin", "activity" })
+public final class ActivityWire implements Wire {
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Activity to track.
+     */
+    private final transient Activity activity;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param act Activity to track
+     */
+    public ActivityWire(final Wire wire, final Activity act) {
+        this.origin = wire;
+        this.activity = act;
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final Activity before = this.activity.start(
+            Ledger.credential(headers)
+        );
+        try {
+            return this.origin.send(
+                req, home, method, headers, content, connect, read
+            );
+        } finally {
+            this.activity.finish(before);
+        }
+    }
+}
@@ -0,0 +1,406 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import com.jcabi.log.Logger;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Wire that retries failed requests, with backoff depending on the kind
+ * of failure.
+ *
+ * <p>Unlike {@link RetryCarefulWire}, which retries any {@link IOException}
+ * a few times in a row, this wire classifies every failure
+ * (see {@link BackoffWire.Failure}) and:
+ *
+ * <ul>
+ *   <li>retries I/O errors and {@code 5xx} responses after a delay with
+ *     decorrelated jitter, growing from {@code base} up to {@code cap},
+ *     but only for idempotent methods, since a {@code POST} or
+ *     a {@code PATCH} may have been applied before it failed;</li>
+ *   <li>on a secondary rate limit ({@code 403} or {@code 429} with
+ *     {@code Retry-After}, or with "secondary rate limit" in the body)
+ *     pauses all requests of the client for {@code Retry-After} seconds,
+ *     or for {@code cap} if it's absent, and then retries;</li>
+ *   <li>on a primary rate limit ({@code X-RateLimit-Remaining: 0}) pauses
+ *     all requests of the client until {@code X-RateLimit-Reset} and then
+ *     retries;</li>
+ *   <li>returns any other response as is.</li>
+ * </ul>
+ *
+ * <p>All threads using the same {@link com.jcabi.github.GitHub} share the
+ * pause, so they don't keep hitting GitHub while it's throttling them,
+ * which only makes the lockout longer:
+ *
+ * <pre> GitHub github = new RtGitHub(
+ *   new RtGitHub(oauthKey).entry().through(BackoffWire.class)
+ * );</pre>
+ *
+ * <p>Rate limit responses are retried for all methods, since GitHub
+ * rejects such requests without applying them. When the kind of failure
+ * changes, the backoff starts again from {@code base}. When all attempts
+ * are used, the last response is returned, or the last
+ * {@link IOException} is thrown.
+ *
+ * @since 2.0
+ */
+@ToString(of = { "attempts", "base", "cap" })
+@EqualsAndHashCode(of = { "origin", "attempts", "base", "cap" })
+public final class BackoffWire implements Wire {
+
+    /**
+     * Default number of attempts.
+     */
+    private static final int ATTEMPTS = 5;
+
+    /**
+     * Default base delay, in milliseconds.
+     */
+    private static final long BASE = 1_000L;
+
+    /**
+     * Default maximum delay, in milliseconds.
+     */
+    private static final long CAP = 60_000L;
+
+    /**
+     * Methods which are safe to repeat after any failure.
+     */
+    private static final Set<String> IDEMPOTENT = new HashSet<>(
+        Arrays.asList(
+            Request.GET, Request.HEAD, Request.PUT, Request.DELETE,
+            Request.OPTIONS
+        )
+    );
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Maximum number of attempts.
+     */
+    private final transient int attempts;
+
+    /**
+     * Base delay, in milliseconds.
+     */
+    private final transient long base;
+
+    /**
+     * Maximum delay, in milliseconds.
+     */
+    private final transient long cap;
+
+    /**
+     * Time until which all requests are paused, in milliseconds.
+     */
+    private final transient AtomicLong paused;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     */
+    public BackoffWire(final Wire wire) {
+        this(wire, BackoffWire.ATTEMPTS);
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param max Maximum number of attempts
+     */
+    public BackoffWire(final Wire wire, final int max) {
+        this(wire, max, BackoffWire.BASE, BackoffWire.CAP);
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param max Maximum number of attempts
+     * @param first Base delay, in milliseconds
+     * @param longest Maximum delay, in milliseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public BackoffWire(final Wire wire, final int max, final long first,
+        final long longest) {
+        if (max <= 0 || first <= 0L || longest < first) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Invalid backoff: %d attempts, %d-%dms",
+                    max, first, longest
+                )
+            );
+        }
+        this.origin = wire;
+        this.attempts = max;
+        this.base = first;
+        this.cap = longest;
+        this.paused = new AtomicLong();
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final byte[] body = IOUtils.toByteArray(content);
+        long delay = this.base;
+        BackoffWire.Failure last = BackoffWire.Failure.NONE;
+        Response resp = null;
+        IOException error = null;
+        for (int attempt = 1; attempt <= this.attempts; ++attempt) {
+            BackoffWire.sleep(this.paused.get() - System.currentTimeMillis());
+            try {
+                resp = this.origin.send(
+                    req, home, method, headers,
+                    new ByteArrayInputStream(body), connect, read
+                );
+                error = null;
+            } catch (final IOException ex) {
+                resp = null;
+                error = ex;
+            }
+            final BackoffWire.Failure failure = BackoffWire.Failure.of(resp);
+            if (!BackoffWire.retryable(failure, method)
+                || attempt == this.attempts) {
+                break;
+            }
+            if (failure != last) {
+                delay = this.base;
+            }
+            last = failure;
+            delay = this.delay(failure, resp, delay);
+            Logger.info(
+                this, "%s of %s %s at attempt #%d, retrying in %[ms]s",
+                failure, method, home, attempt, delay
+            );
+            ListenerWire.retrying(attempt, delay);
+            if (failure == BackoffWire.Failure.TRANSIENT) {
+                BackoffWire.sleep(delay);
+            } else {
+                ListenerWire.throttling(delay);
+                this.pause(delay);
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return resp;
+    }
+
+    /**
+     * Does it make sense to retry the request after the failure?
+     * @param failure Kind of failure
+     * @param method HTTP method of the request
+     * @return TRUE if it does
+     */
+    private static boolean retryable(final BackoffWire.Failure failure,
+        final String method) {
+        return failure.retryable()
+            && (failure != BackoffWire.Failure.TRANSIENT
+            || BackoffWire.IDEMPOTENT.contains(method));
+    }
+
+    /**
+     * Calculate the delay before the next attempt.
+     * @param failure Kind of failure
+     * @param resp Response or NULL
+     * @param previous Previous delay, in milliseconds
+     * @return Delay, in milliseconds
+     */
+    private long delay(final BackoffWire.Failure failure, final Response resp,
+        final long previous) {
+        final long delay;
+        if (failure == BackoffWire.Failure.PRIMARY) {
+            delay = Math.max(
+                TimeUnit.SECONDS.toMillis(
+                    BackoffWire.number(resp, "X-RateLimit-Reset")
+                ) - System.currentTimeMillis(),
+                this.base
+            );
+        } else if (failure == BackoffWire.Failure.SECONDARY) {
+            final long after = BackoffWire.number(resp, "Retry-After");
+            if (after > 0L) {
+                delay = TimeUnit.SECONDS.toMillis(after);
+            } else {
+                delay = this.cap;
+            }
+        } else {
+            delay = Math.min(
+                this.cap,
+                ThreadLocalRandom.current().nextLong(
+                    this.base, Math.max(previous * 3L, this.base + 1L)
+                )
+            );
+        }
+        return delay;
+    }
+
+    /**
+     * Pause all requests for the given time.
+     * @param delay Delay, in milliseconds
+     */
+    private void pause(final long delay) {
+        final long until = System.currentTimeMillis() + delay;
+        this.paused.accumulateAndGet(until, Math::max);
+        BackoffWire.sleep(this.paused.get() - System.currentTimeMillis());
+    }
+
+    /**
+     * Sleep.
+     * @param delay Delay in milliseconds, nothing happens if not positive
+     */
+    private static void sleep(final long delay) {
+        if (delay > 0L) {
+            try {
+                Activity.sleep(delay);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /**
+     * Get the numeric header.
+     * @param resp Response
+     * @param name Name of the header
+     * @return Value or zero if absent or not a number
+     */
+    private static long number(final Response resp, final String name) {
+        final List<String> values = resp.headers().get(name);
+        long value = 0L;
+        if (values != null && !values.isEmpty()) {
+            try {
+                value = Long.parseLong(values.get(0).trim());
+            } catch (final NumberFormatException ex) {
+                value = 0L;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Kind of failure.
+     * @since 2.0
+     */
+    public enum Failure {
+        /**
+         * Not a failure.
+         */
+        NONE(false),
+
+        /**
+         * I/O error or server error, which is likely to go away soon.
+         */
+        TRANSIENT(true),
+
+        /**
+         * Secondary rate limit, also known as abuse detection.
+         */
+        SECONDARY(true),
+
+        /**
+         * Primary rate limit, the budget is exhausted until the reset.
+         */
+        PRIMARY(true),
+
+        /**
+         * Error, which won't go away after a retry.
+         */
+        FATAL(false);
+
+        /**
+         * Does it make sense to retry?
+         */
+        private final boolean retry;
+
+        /**
+         * Ctor.
+         * @param again Does it make sense to retry
+         */
+        Failure(final boolean again) {
+            this.retry = again;
+        }
+
+        /**
+         * Does it make sense to retry?
+         * @return TRUE if it does
+         */
+        public boolean retryable() {
+            return this.retry;
+        }
+
+        /**
+         * Classify the response.
+         * @param resp Response or NULL if there was an I/O error
+         * @return Kind of failure
+         */
+        public static BackoffWire.Failure of(final Response resp) {
+            final BackoffWire.Failure failure;
+            if (resp == null
+                || resp.status() >= HttpURLConnection.HTTP_INTERNAL_ERROR) {
+                failure = BackoffWire.Failure.TRANSIENT;
+            } else if (resp.status() == HttpURLConnection.HTTP_FORBIDDEN
+                // @checkstyle MagicNumber (1 line)
+                || resp.status() == 429) {
+                failure = BackoffWire.Failure.limit(resp);
+            } else if (resp.status() >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                failure = BackoffWire.Failure.FATAL;
+            } else {
+                failure = BackoffWire.Failure.NONE;
+            }
+            return failure;
+        }
+
+        /**
+         * Classify 403 or 429 response.
+         * @param resp Response
+         * @return Kind of failure
+         */
+        private static BackoffWire.Failure limit(final Response resp) {
+            final List<String> remaining =
+                resp.headers().get("X-RateLimit-Remaining");
+            final BackoffWire.Failure failure;
+            if (resp.headers().containsKey("Retry-After")
+                || resp.body().toLowerCase(Locale.ENGLISH)
+                    .contains("secondary rate limit")) {
+                failure = BackoffWire.Failure.SECONDARY;
+            } else if (remaining != null && !remaining.isEmpty()
+                && "0".equals(remaining.get(0).trim())) {
+                failure = BackoffWire.Failure.PRIMARY;
+            } else {
+                failure = BackoffWire.Failure.FATAL;
+            }
+            return failure;
+        }
+    }
+}
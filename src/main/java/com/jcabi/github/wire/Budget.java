@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import java.util.concurrent.TimeUnit;
+import lombok.ToString;
+
+/**
+ * Budget of requests in the current rate limit window.
+ *
+ * <p>It's a token bucket, which is refilled evenly, so that the requests
+ * remaining in the window are spread over the time left until its reset.
+ * Up to {@code burst} requests can go without waiting. The budget is
+ * thread-safe and is updated from the rate limit headers of responses.
+ *
+ * @since 2.0
+ */
+@ToString(of = { "remaining", "reset" })
+final class Budget {
+
+    /**
+     * Requests that can go without waiting.
+     */
+    private final transient int burst;
+
+    /**
+     * Requests remaining in the window, negative if unknown.
+     */
+    private transient int remaining;
+
+    /**
+     * Time of the window reset, in milliseconds.
+     */
+    private transient long reset;
+
+    /**
+     * Time when the bucket is full again, in milliseconds.
+     */
+    private transient long full;
+
+    /**
+     * Ctor.
+     * @param size Requests that can go without waiting
+     */
+    Budget(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Burst must be positive: %d", size)
+            );
+        }
+        this.burst = size;
+        this.remaining = -1;
+    }
+
+    /**
+     * Reserve a request.
+     *
+     * <p>When nothing is left in the window, every request waits until
+     * its reset, no matter how many of them are already waiting.
+     * @param now Current time, in milliseconds
+     * @return How long to wait before sending it, in milliseconds
+     */
+    synchronized long reserve(final long now) {
+        long delay = 0L;
+        if (this.remaining == 0 && now < this.reset) {
+            delay = this.reset - now;
+        } else if (this.remaining > 0 && now < this.reset) {
+            final long interval = (this.reset - now) / this.remaining;
+            final long start = Math.max(
+                now, this.full - interval * (this.burst - 1)
+            );
+            delay = start - now;
+            this.full = Math.max(this.full, start) + interval;
+            --this.remaining;
+        }
+        return delay;
+    }
+
+    /**
+     * Update the budget from the observation recorded in the ledger.
+     * @param entry Observation
+     */
+    void update(final Ledger.Entry entry) {
+        this.update(
+            entry.remaining(), TimeUnit.SECONDS.toMillis(entry.reset())
+        );
+    }
+
+    /**
+     * Update the budget.
+     * @param left Requests remaining
+     * @param time Time of the window reset, in milliseconds
+     */
+    private synchronized void update(final int left, final long time) {
+        if (time == this.reset) {
+            this.remaining = Math.min(this.remaining, left);
+        } else if (time > this.reset) {
+            this.remaining = left;
+            this.reset = time;
+        }
+    }
+}
@@ -29,7 +29,8 @@ import lombok.ToString;
  * specified in the {@code X-RateLimit-Reset} header. For further information
  * about the GitHub rate limiting see
  * <a href="https://developer.github.com/v3/#rate-limiting">API
- * documentation</a>.
+ * documentation</a>. The headers are also recorded
+ * into the {@link Ledger#SHARED} ledger.
  *
  * <p>You can use {@code CarefulWire} with a {@link com.jcabi.github.GitHub}
  * object:
@@ -83,6 +84,7 @@ public final class CarefulWire implements Wire {
     ) throws IOException {
         final Response resp = this.origin
             .send(req, home, method, headers, content, connect, read);
+        Ledger.SHARED.record(home, headers, resp);
         final int remaining = CarefulWire.remainingHeader(resp);
         if (remaining < this.threshold) {
             final long reset = CarefulWire.resetHeader(resp);
@@ -96,8 +98,9 @@ public final class CarefulWire implements Wire {
                     "Remaining number of requests per hour is less than %d. Waiting for %d seconds.",
                     this.threshold, length
                 );
+                ListenerWire.throttling(TimeUnit.SECONDS.toMillis(length));
                 try {
-                    TimeUnit.SECONDS.sleep(length);
+                    Activity.sleep(TimeUnit.SECONDS.toMillis(length));
                 } catch (final InterruptedException ex) {
                     Thread.currentThread().interrupt();
                     throw new IllegalStateException(ex);
@@ -0,0 +1,374 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that fails fast while GitHub is failing.
+ *
+ * <p>The wire keeps a circuit breaker per route family
+ * (see {@link Route#family()}), for example {@code /repos/{owner}} or
+ * {@code /search/issues}. A call fails if it throws {@link IOException},
+ * returns {@code 5xx} or takes longer than {@code slow} milliseconds.
+ * Time the thread sleeps below the breaker, in {@link CarefulWire},
+ * {@link PacingWire} or {@link BackoffWire}, is not counted, so waiting
+ * for the rate limit doesn't make calls slow. Runtime exceptions are
+ * bugs of the client rather than failures of GitHub, they are not
+ * counted either. When the share of failures among the last
+ * {@code window} calls reaches {@code ratio}, the breaker opens, and
+ * for {@code cooldown} milliseconds all requests of the family fail at
+ * once with {@link CircuitBreakerWire.Open}, without going to the
+ * network. After
+ * that, one probe request is let through (the breaker is half-open): if
+ * it succeeds, the breaker closes, otherwise it opens again. Only the
+ * outcome of the probe itself decides it; calls that were sent before
+ * the breaker opened don't count when they finish.
+ *
+ * <p>To combine it with {@link RetryCarefulWire}, put the breaker on top,
+ * so that it sees the outcome of all retries and doesn't make them
+ * retry its fast failures:
+ *
+ * <pre> GitHub github = new RtGitHub(
+ *   new RtGitHub(oauthKey).entry()
+ *     .through(RetryCarefulWire.class, 50)
+ *     .through(CircuitBreakerWire.class)
+ * );</pre>
+ *
+ * @since 2.0
+ */
+@ToString(of = "breakers")
+@EqualsAndHashCode(of = { "origin", "window", "ratio", "slow", "cooldown" })
+public final class CircuitBreakerWire implements Wire {
+
+    /**
+     * Default number of calls to judge by.
+     */
+    private static final int WINDOW = 20;
+
+    /**
+     * Default share of failures that opens the breaker.
+     */
+    private static final double RATIO = 0.5;
+
+    /**
+     * Default latency of a slow call, in milliseconds.
+     */
+    private static final long SLOW = 10_000L;
+
+    /**
+     * Default time the breaker stays open, in milliseconds.
+     */
+    private static final long COOLDOWN = 30_000L;
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Number of calls to judge by.
+     */
+    private final transient int window;
+
+    /**
+     * Share of failures that opens the breaker.
+     */
+    private final transient double ratio;
+
+    /**
+     * Latency of a slow call, in milliseconds.
+     */
+    private final transient long slow;
+
+    /**
+     * Time the breaker stays open, in milliseconds.
+     */
+    private final transient long cooldown;
+
+    /**
+     * Breakers, by route families.
+     */
+    private final transient ConcurrentMap<String, CircuitBreakerWire.Breaker>
+        breakers;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     */
+    public CircuitBreakerWire(final Wire wire) {
+        this(
+            wire, CircuitBreakerWire.WINDOW, CircuitBreakerWire.RATIO,
+            CircuitBreakerWire.SLOW, CircuitBreakerWire.COOLDOWN
+        );
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param calls Number of calls to judge by
+     * @param share Share of failures that opens the breaker
+     * @param latency Latency of a slow call, in milliseconds
+     * @param pause Time the breaker stays open, in milliseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public CircuitBreakerWire(final Wire wire, final int calls,
+        final double share, final long latency, final long pause) {
+        if (calls <= 0 || share <= 0.0 || share > 1.0
+            || latency <= 0L || pause <= 0L) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Invalid breaker: %d calls, %.2f, %d ms slow, %d ms open",
+                    calls, share, latency, pause
+                )
+            );
+        }
+        this.origin = wire;
+        this.window = calls;
+        this.ratio = share;
+        this.slow = latency;
+        this.cooldown = pause;
+        this.breakers = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final String family = new Route(home).family();
+        final CircuitBreakerWire.Breaker breaker =
+            this.breakers.computeIfAbsent(
+                family, key -> new CircuitBreakerWire.Breaker(this.window)
+            );
+        final CircuitBreakerWire.Pass pass =
+            breaker.allow(System.currentTimeMillis());
+        if (pass == CircuitBreakerWire.Pass.DENIED) {
+            throw new CircuitBreakerWire.Open(family);
+        }
+        final long start = System.nanoTime();
+        final long slept = Activity.slept();
+        final Response resp;
+        try {
+            resp = this.origin.send(
+                req, home, method, headers, content, connect, read
+            );
+        } catch (final IOException ex) {
+            this.record(family, breaker, pass, true);
+            throw ex;
+        } catch (final RuntimeException ex) {
+            breaker.abandon(pass);
+            throw ex;
+        }
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(
+            System.nanoTime() - start
+        ) - (Activity.slept() - slept);
+        this.record(
+            family, breaker, pass,
+            resp.status() >= HttpURLConnection.HTTP_INTERNAL_ERROR
+                || elapsed > this.slow
+        );
+        return resp;
+    }
+
+    /**
+     * Record the outcome of the call.
+     * @param family Route family
+     * @param breaker Its breaker
+     * @param pass How the call was let through
+     * @param failed Did the call fail
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void record(final String family,
+        final CircuitBreakerWire.Breaker breaker,
+        final CircuitBreakerWire.Pass pass, final boolean failed) {
+        if (breaker.record(pass, failed, this.ratio, this.cooldown)) {
+            Logger.warn(
+                this, "Circuit of %s is open for %[ms]s",
+                family, this.cooldown
+            );
+        }
+    }
+
+    /**
+     * Thrown when the circuit is open.
+     * @since 2.0
+     */
+    public static final class Open extends IOException {
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 4263150785187468001L;
+
+        /**
+         * Ctor.
+         * @param family Route family
+         */
+        Open(final String family) {
+            super(String.format("Circuit of %s is open", family));
+        }
+    }
+
+    /**
+     * How the call was let through the breaker.
+     * @since 2.0
+     */
+    private enum Pass {
+        /**
+         * It was not, the breaker is open.
+         */
+        DENIED,
+        /**
+         * The breaker is closed.
+         */
+        CLOSED,
+        /**
+         * It is the probe of the half-open breaker.
+         */
+        PROBE
+    }
+
+    /**
+     * Circuit breaker of one route family.
+     * @since 2.0
+     */
+    @ToString(of = { "open", "until" })
+    private static final class Breaker {
+        /**
+         * Outcomes of the last calls, TRUE for failures.
+         */
+        private final transient boolean[] outcomes;
+
+        /**
+         * Number of recorded calls, up to the size of the window.
+         */
+        private transient int calls;
+
+        /**
+         * Position of the next outcome.
+         */
+        private transient int next;
+
+        /**
+         * Number of failures in the window.
+         */
+        private transient int failures;
+
+        /**
+         * Is it open or half-open?
+         */
+        private transient boolean open;
+
+        /**
+         * Time until which it stays open, in milliseconds.
+         */
+        private transient long until;
+
+        /**
+         * Is the probe in flight, while half-open?
+         */
+        private transient boolean probing;
+
+        /**
+         * Ctor.
+         * @param window Number of calls to judge by
+         */
+        Breaker(final int window) {
+            this.outcomes = new boolean[window];
+        }
+
+        /**
+         * Can the call go?
+         * @param now Current time, in milliseconds
+         * @return How it goes
+         */
+        synchronized CircuitBreakerWire.Pass allow(final long now) {
+            final CircuitBreakerWire.Pass pass;
+            if (!this.open) {
+                pass = CircuitBreakerWire.Pass.CLOSED;
+            } else if (now >= this.until && !this.probing) {
+                this.probing = true;
+                pass = CircuitBreakerWire.Pass.PROBE;
+            } else {
+                pass = CircuitBreakerWire.Pass.DENIED;
+            }
+            return pass;
+        }
+
+        /**
+         * Forget the call, which ended without an outcome.
+         * @param pass How the call was let through
+         */
+        synchronized void abandon(final CircuitBreakerWire.Pass pass) {
+            if (pass == CircuitBreakerWire.Pass.PROBE) {
+                this.probing = false;
+            }
+        }
+
+        /**
+         * Record the outcome of the call.
+         * @param pass How the call was let through
+         * @param failed Did the call fail
+         * @param ratio Share of failures that opens the breaker
+         * @param cooldown Time the breaker stays open, in milliseconds
+         * @return TRUE if the breaker has just opened
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        synchronized boolean record(final CircuitBreakerWire.Pass pass,
+            final boolean failed, final double ratio, final long cooldown) {
+            boolean opened = false;
+            if (pass == CircuitBreakerWire.Pass.PROBE) {
+                this.probing = false;
+                if (failed) {
+                    this.until = System.currentTimeMillis() + cooldown;
+                    opened = true;
+                } else {
+                    this.open = false;
+                    this.calls = 0;
+                    this.next = 0;
+                    this.failures = 0;
+                }
+            } else if (!this.open) {
+                if (this.calls == this.outcomes.length) {
+                    if (this.outcomes[this.next]) {
+                        --this.failures;
+                    }
+                } else {
+                    ++this.calls;
+                }
+                this.outcomes[this.next] = failed;
+                if (failed) {
+                    ++this.failures;
+                }
+                this.next = (this.next + 1) % this.outcomes.length;
+                if (this.calls == this.outcomes.length
+                    && this.failures >= ratio * this.calls) {
+                    this.open = true;
+                    this.until = System.currentTimeMillis() + cooldown;
+                    opened = true;
+                }
+            }
+            return opened;
+        }
+    }
+}
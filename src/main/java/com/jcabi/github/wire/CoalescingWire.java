@@ -0,0 +1,154 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that shares one response among concurrent identical GET requests.
+ *
+ * <p>When a GET request is sent while an identical one (same URI and
+ * same headers) is still in flight, it doesn't go to the network, but
+ * waits for the response of the first one. Once the response arrives,
+ * all waiting requests get it and the next identical request goes to the
+ * network again, so nothing is cached longer than the request takes.
+ * Other methods are sent as usual:
+ *
+ * <pre> GitHub github = new RtGitHub(
+ *   new RtGitHub(oauthKey).entry().through(CoalescingWire.class)
+ * );</pre>
+ *
+ * <p>The wire keeps its state, so all requests made from the same
+ * {@link com.jcabi.github.GitHub} share it.
+ *
+ * @since 2.0
+ */
+@ToString(of = "origin")
+@EqualsAndHashCode(of = "origin")
+public final class CoalescingWire implements Wire {
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Requests in flight, by their keys.
+     */
+    private final transient
+        ConcurrentMap<String, CompletableFuture<Response>> flights;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     */
+    public CoalescingWire(final Wire wire) {
+        this.origin = wire;
+        this.flights = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final Response resp;
+        if (Request.GET.equals(method)) {
+            final String key = CoalescingWire.key(home, headers);
+            final CompletableFuture<Response> mine = new CompletableFuture<>();
+            final CompletableFuture<Response> flight =
+                this.flights.putIfAbsent(key, mine);
+            Activity.coalesced(flight != null);
+            if (flight == null) {
+                try {
+                    resp = this.origin.send(
+                        req, home, method, headers, content, connect, read
+                    );
+                    mine.complete(resp);
+                } catch (final IOException | RuntimeException ex) {
+                    mine.completeExceptionally(ex);
+                    throw ex;
+                } finally {
+                    this.flights.remove(key, mine);
+                }
+            } else {
+                resp = CoalescingWire.await(flight);
+            }
+        } else {
+            resp = this.origin.send(
+                req, home, method, headers, content, connect, read
+            );
+        }
+        return resp;
+    }
+
+    /**
+     * Wait for the response of the request in flight.
+     * @param flight Request in flight
+     * @return Response
+     * @throws IOException If the request failed, the same exception
+     *  the request in flight failed with
+     */
+    private static Response await(final CompletableFuture<Response> flight)
+        throws IOException {
+        try {
+            return flight.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ex.getMessage());
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Key of the request.
+     * @param home URI
+     * @param headers Headers
+     * @return Key
+     */
+    private static String key(final String home,
+        final Collection<Map.Entry<String, String>> headers) {
+        final List<String> lines = new ArrayList<>(headers.size());
+        for (final Map.Entry<String, String> header : headers) {
+            lines.add(
+                String.format("%s: %s", header.getKey(), header.getValue())
+            );
+        }
+        lines.sort(String::compareTo);
+        final StringBuilder key = new StringBuilder(home);
+        for (final String line : lines) {
+            key.append('\n').append(line);
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.http.ImmutableHeader;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.immutable.Array;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Wire that asks for compressed responses and inflates them.
+ *
+ * <p>Adds {@code Accept-Encoding: gzip, deflate} to every request, unless
+ * the request already has this header, and inflates the body of the
+ * response according to its {@code Content-Encoding}. The decoded response
+ * has no {@code Content-Encoding} and {@code Content-Length} headers.
+ * The body is inflated in memory, as a whole, since the
+ * {@link Response} of the origin wire is already buffered anyway.
+ * JSON of GitHub API compresses very well, so this wire
+ * is enabled in the default request of {@link com.jcabi.github.RtGitHub}.
+ * You can also use it with any other request:
+ *
+ * <pre> GitHub github = new RtGitHub(
+ *   new JdkRequest("https://api.github.com")
+ *     .through(DecompressingWire.class)
+ * );</pre>
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "origin")
+public final class DecompressingWire implements Wire {
+
+    /**
+     * Accept-Encoding header.
+     */
+    private static final String ACCEPT = "Accept-Encoding";
+
+    /**
+     * Content-Encoding header.
+     */
+    private static final String ENCODING = "Content-Encoding";
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     */
+    public DecompressingWire(final Wire wire) {
+        this.origin = wire;
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final Collection<Map.Entry<String, String>> hdrs =
+            new LinkedList<>(headers);
+        boolean present = false;
+        for (final Map.Entry<String, String> header : headers) {
+            if (DecompressingWire.ACCEPT.equalsIgnoreCase(header.getKey())) {
+                present = true;
+                break;
+            }
+        }
+        if (!present) {
+            hdrs.add(new ImmutableHeader(DecompressingWire.ACCEPT, "gzip, deflate"));
+        }
+        final Response resp = this.origin.send(
+            req, home, method, hdrs, content, connect, read
+        );
+        final String encoding = DecompressingWire.encoding(resp);
+        final byte[] body = resp.binary();
+        final Response result;
+        if (body.length == 0) {
+            result = resp;
+        } else if ("gzip".equals(encoding) || "x-gzip".equals(encoding)) {
+            result = DecompressingWire.decoded(
+                resp,
+                DecompressingWire.inflate(
+                    new GZIPInputStream(new ByteArrayInputStream(body))
+                )
+            );
+        } else if ("deflate".equals(encoding)) {
+            result = DecompressingWire.decoded(
+                resp, DecompressingWire.deflated(body)
+            );
+        } else {
+            result = resp;
+        }
+        return result;
+    }
+
+    /**
+     * Encoding of the response body.
+     * @param resp Response
+     * @return Encoding in lower case, or empty string if not encoded
+     */
+    private static String encoding(final Response resp) {
+        String encoding = "";
+        for (final Map.Entry<String, List<String>> header
+            : resp.headers().entrySet()) {
+            if (DecompressingWire.ENCODING.equalsIgnoreCase(header.getKey())
+                && !header.getValue().isEmpty()) {
+                encoding = header.getValue().get(0).trim()
+                    .toLowerCase(Locale.ENGLISH);
+                break;
+            }
+        }
+        return encoding;
+    }
+
+    /**
+     * Inflate deflated body.
+     *
+     * <p>RFC 2616 says "deflate" is a zlib stream, but some servers
+     * send raw DEFLATE data, so both are accepted.
+     * @param body Deflated body
+     * @return Inflated body
+     * @throws IOException If fails
+     */
+    private static byte[] deflated(final byte[] body) throws IOException {
+        byte[] inflated;
+        try {
+            inflated = DecompressingWire.inflate(
+                new InflaterInputStream(new ByteArrayInputStream(body))
+            );
+        } catch (final ZipException ex) {
+            final Inflater raw = new Inflater(true);
+            try {
+                inflated = DecompressingWire.inflate(
+                    new InflaterInputStream(new ByteArrayInputStream(body), raw)
+                );
+            } finally {
+                raw.end();
+            }
+        }
+        return inflated;
+    }
+
+    /**
+     * Read the inflating stream to the end.
+     * @param stream Inflating stream
+     * @return Inflated bytes
+     * @throws IOException If fails
+     */
+    private static byte[] inflate(final InputStream stream) throws IOException {
+        try (InputStream input = stream) {
+            return IOUtils.toByteArray(input);
+        }
+    }
+
+    /**
+     * Make decoded response.
+     * @param resp Original response
+     * @param body Decoded body
+     * @return Response
+     */
+    private static Response decoded(final Response resp, final byte[] body) {
+        final Collection<Map.Entry<String, String>> hdrs = new LinkedList<>();
+        for (final Map.Entry<String, List<String>> header
+            : resp.headers().entrySet()) {
+            if (!DecompressingWire.ENCODING.equalsIgnoreCase(header.getKey())
+                && !"Content-Length".equalsIgnoreCase(header.getKey())) {
+                for (final String value : header.getValue()) {
+                    hdrs.add(new ImmutableHeader(header.getKey(), value));
+                }
+            }
+        }
+        return new DefaultResponse(
+            resp.back(), resp.status(), resp.reason(), new Array<>(hdrs), body
+        );
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import com.jcabi.log.Logger;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Wire that sends a second GET request when the first one is slow.
+ *
+ * <p>The wire remembers the latencies of the last GET requests of every
+ * route (see {@link Route}). When a GET request doesn't get a response
+ * within the {@code quantile} of them, for example the 95th percentile,
+ * the same request is sent again, and whichever response arrives first
+ * is returned. So a request stuck in a slow connection or on a slow
+ * GitHub node doesn't hold the caller for long:
+ *
+ * <pre> GitHub github = new RtGitHub(
+ *   new RtGitHub(oauthKey).entry().through(HedgingWire.class)
+ * );</pre>
+ *
+ * <p>Every extra request is counted against the rate limit, so no more
+ * than {@code fraction} of all GET requests, for example 5%, are
+ * repeated, and the rest wait for their only response. Nothing is
+ * repeated either while the {@link Ledger} shows that no more than
+ * {@code fraction} of the rate limit of the credential is left in the
+ * window, or that it's exhausted, if the limit is unknown. Until there are
+ * enough latencies of the route to judge by, requests are not repeated
+ * and go to the network right from the thread of the caller.
+ * Other methods are not idempotent and are sent as usual. The request
+ * which loses the race is not cancelled, it completes in background and
+ * its latency is remembered as well.
+ *
+ * <p>Requests go to the network from a shared pool of daemon threads, so
+ * put this wire above the wires that keep thread-bound state, like
+ * {@link ActivityWire} and {@link ListenerWire}: then each attempt goes
+ * through them on its own thread. Don't combine it with
+ * {@link com.jcabi.github.RtGitHub#monitored(Activity)}, which puts
+ * {@link ActivityWire} on top of everything.
+ *
+ * @since 2.0
+ */
+@ToString(of = { "quantile", "fraction" })
+@EqualsAndHashCode(of = { "origin", "quantile", "fraction" })
+public final class HedgingWire implements Wire {
+
+    /**
+     * Default quantile of latency to wait for.
+     */
+    private static final double QUANTILE = 0.95;
+
+    /**
+     * Default maximum share of repeated requests.
+     */
+    private static final double FRACTION = 0.05;
+
+    /**
+     * Number of latencies remembered per route.
+     */
+    private static final int WINDOW = 100;
+
+    /**
+     * Minimum number of latencies to judge by.
+     */
+    private static final int MIN = 20;
+
+    /**
+     * Threads to send requests from.
+     */
+    private static final ExecutorService THREADS = Executors.newCachedThreadPool(
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("jcabi-github-hedge-%d")
+            .build()
+    );
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Quantile of latency to wait for.
+     */
+    private final transient double quantile;
+
+    /**
+     * Maximum share of repeated requests.
+     */
+    private final transient double fraction;
+
+    /**
+     * Ledger of observed rate limits.
+     */
+    private final transient Ledger ledger;
+
+    /**
+     * Latencies, by routes.
+     */
+    private final transient ConcurrentMap<String, HedgingWire.Latencies>
+        routes;
+
+    /**
+     * Number of GET requests sent.
+     */
+    private final transient AtomicLong requests;
+
+    /**
+     * Number of GET requests repeated.
+     */
+    private final transient AtomicLong hedges;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     */
+    public HedgingWire(final Wire wire) {
+        this(wire, HedgingWire.QUANTILE, HedgingWire.FRACTION);
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param slow Quantile of latency to wait for, for example 0.95
+     * @param share Maximum share of repeated requests, for example 0.05
+     */
+    public HedgingWire(final Wire wire, final double slow,
+        final double share) {
+        this(wire, slow, share, Ledger.SHARED);
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param slow Quantile of latency to wait for, for example 0.95
+     * @param share Maximum share of repeated requests, for example 0.05
+     * @param book Ledger of observed rate limits
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public HedgingWire(final Wire wire, final double slow,
+        final double share, final Ledger book) {
+        if (slow <= 0.0 || slow > 1.0 || share < 0.0 || share > 1.0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Invalid hedging: %.2f quantile, %.2f share", slow, share
+                )
+            );
+        }
+        this.origin = wire;
+        this.quantile = slow;
+        this.fraction = share;
+        this.ledger = book;
+        this.routes = new ConcurrentHashMap<>(0);
+        this.requests = new AtomicLong();
+        this.hedges = new AtomicLong();
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final Response resp;
+        if (Request.GET.equals(method)) {
+            final byte[] body = IOUtils.toByteArray(content);
+            final HedgingWire.Latencies latencies = this.routes.computeIfAbsent(
+                new Route(home).toString(), key -> new HedgingWire.Latencies()
+            );
+            final long delay = latencies.get(this.quantile);
+            final HedgingWire.Attempt attempt = () -> {
+                final long start = System.nanoTime();
+                final Response response = this.origin.send(
+                    req, home, method, headers,
+                    new ByteArrayInputStream(body), connect, read
+                );
+                latencies.add(
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                );
+                return response;
+            };
+            this.requests.incrementAndGet();
+            if (delay > 0L && this.fraction > 0.0
+                && this.spare(home, headers)) {
+                resp = this.race(attempt, delay, home);
+            } else {
+                resp = attempt.send();
+            }
+        } else {
+            resp = this.origin.send(
+                req, home, method, headers, content, connect, read
+            );
+        }
+        return resp;
+    }
+
+    /**
+     * Send the request from the pool, and send it again if it's slow.
+     * @param call Request to send
+     * @param delay Time to wait before sending it again, in milliseconds
+     * @param home URI, for logging
+     * @return First successful response
+     * @throws IOException If all requests failed
+     */
+    private Response race(final HedgingWire.Attempt call, final long delay,
+        final String home) throws IOException {
+        final CompletionService<Response> service =
+            new ExecutorCompletionService<>(HedgingWire.THREADS);
+        service.submit(call::send);
+        int pending = 1;
+        boolean waited = false;
+        Response resp = null;
+        IOException error = null;
+        try {
+            while (resp == null && pending > 0) {
+                Future<Response> done = null;
+                if (!waited) {
+                    waited = true;
+                    done = service.poll(delay, TimeUnit.MILLISECONDS);
+                    if (done == null && this.hedge()) {
+                        Logger.debug(
+                            this, "No response from %s in %[ms]s, hedging",
+                            home, delay
+                        );
+                        service.submit(call::send);
+                        ++pending;
+                    }
+                }
+                if (done == null) {
+                    done = service.take();
+                }
+                --pending;
+                try {
+                    resp = done.get();
+                } catch (final ExecutionException ex) {
+                    error = HedgingWire.unwrap(ex);
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ex.getMessage());
+        }
+        if (resp == null) {
+            throw error;
+        }
+        return resp;
+    }
+
+    /**
+     * Take a permission to send the request again, if the share of
+     * repeated requests allows.
+     * @return TRUE if permitted
+     */
+    private boolean hedge() {
+        final long limit = (long) (this.fraction * this.requests.get());
+        return this.hedges.getAndUpdate(
+            hedged -> {
+                long next = hedged;
+                if (hedged < limit) {
+                    next = hedged + 1L;
+                }
+                return next;
+            }
+        ) < limit;
+    }
+
+    /**
+     * Check whether the rate limit can afford a repeated request.
+     * @param home URI of the request
+     * @param headers Headers of the request
+     * @return TRUE if more than the share of the limit is left, or
+     *  nothing was observed yet
+     */
+    private boolean spare(final String home,
+        final Collection<Map.Entry<String, String>> headers) {
+        return this.ledger.entry(
+            home, Ledger.credential(headers), Ledger.resource(home)
+        ).map(
+            entry -> entry.remaining() > this.fraction * entry.limit()
+        ).orElse(true);
+    }
+
+    /**
+     * Get the cause of the failure.
+     * @param ex Failure
+     * @return I/O exception
+     */
+    private static IOException unwrap(final ExecutionException ex) {
+        final Throwable cause = ex.getCause();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (!(cause instanceof IOException)) {
+            throw new IllegalStateException(cause);
+        }
+        return (IOException) cause;
+    }
+
+    /**
+     * One attempt to send the request.
+     * @since 2.0
+     */
+    private interface Attempt {
+        /**
+         * Send it.
+         * @return Response
+         * @throws IOException If fails
+         */
+        Response send() throws IOException;
+    }
+
+    /**
+     * Latencies of the last requests of one route.
+     * @since 2.0
+     */
+    private static final class Latencies {
+        /**
+         * Latencies, in milliseconds.
+         */
+        private final transient long[] millis;
+
+        /**
+         * Number of latencies, up to the size of the window.
+         */
+        private transient int count;
+
+        /**
+         * Position of the next latency.
+         */
+        private transient int next;
+
+        /**
+         * Ctor.
+         */
+        Latencies() {
+            this.millis = new long[HedgingWire.WINDOW];
+        }
+
+        /**
+         * Add the latency.
+         * @param latency Latency, in milliseconds
+         */
+        synchronized void add(final long latency) {
+            this.millis[this.next] = latency;
+            this.next = (this.next + 1) % this.millis.length;
+            if (this.count < this.millis.length) {
+                ++this.count;
+            }
+        }
+
+        /**
+         * Get the quantile.
+         * @param quantile Quantile, for example 0.95
+         * @return Latency in milliseconds, or -1 if not enough latencies
+         */
+        synchronized long get(final double quantile) {
+            long latency = -1L;
+            if (this.count >= HedgingWire.MIN) {
+                final long[] sorted = Arrays.copyOf(this.millis, this.count);
+                Arrays.sort(sorted);
+                latency = sorted[
+                    Math.min(
+                        (int) Math.ceil(quantile * this.count) - 1,
+                        this.count - 1
+                    )
+                ];
+            }
+            return latency;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.google.common.hash.Hashing;
+import com.jcabi.http.Response;
+import com.jcabi.log.Logger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Rate limits, as observed in responses, by hosts, credentials and
+ * resources.
+ *
+ * <p>GitHub counts requests per credential, no matter how many
+ * {@link com.jcabi.github.GitHub} objects send them, so all wires record
+ * the {@code X-RateLimit-*} headers they see into one
+ * {@link #SHARED} ledger and make throttling decisions from it.
+ * Credentials are the values of the {@code Authorization} header; the
+ * ledger keeps only their SHA-256 hashes. Resources are named as in the
+ * {@code X-RateLimit-Resource} header, {@code core} by default. Hosts keep
+ * limits of GitHub Enterprise servers apart from {@code api.github.com},
+ * even for the same token. Headers which are not numbers are ignored.
+ *
+ * <p>The ledger is thread-safe. Within one rate limit window it keeps the
+ * smallest remaining number it saw, since responses may arrive out
+ * of order.
+ *
+ * @since 2.0
+ */
+@ToString(of = "entries")
+public final class Ledger {
+
+    /**
+     * Ledger shared by all wires in this JVM.
+     */
+    public static final Ledger SHARED = new Ledger();
+
+    /**
+     * Entries, by hashes of credentials, hosts and names of resources.
+     */
+    private final transient ConcurrentMap<String, Ledger.Entry> entries;
+
+    /**
+     * Public ctor.
+     */
+    public Ledger() {
+        this.entries = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Record rate limit headers of the response.
+     * @param home URI of the request
+     * @param headers Headers of the request
+     * @param resp Response
+     */
+    public void record(final String home,
+        final Collection<Map.Entry<String, String>> headers,
+        final Response resp) {
+        final String remaining = Ledger.header(resp, "X-RateLimit-Remaining");
+        final String reset = Ledger.header(resp, "X-RateLimit-Reset");
+        if (remaining != null && reset != null) {
+            String resource = Ledger.header(resp, "X-RateLimit-Resource");
+            if (resource == null) {
+                resource = Ledger.resource(home);
+            }
+            final String limit = Ledger.header(resp, "X-RateLimit-Limit");
+            try {
+                int max = 0;
+                if (limit != null) {
+                    max = Integer.parseInt(limit.trim());
+                }
+                final Ledger.Entry entry = new Ledger.Entry(
+                    max, Integer.parseInt(remaining.trim()),
+                    Long.parseLong(reset.trim()), System.currentTimeMillis()
+                );
+                this.entries.merge(
+                    Ledger.key(
+                        Ledger.host(home), Ledger.credential(headers), resource
+                    ),
+                    entry, Ledger.Entry::merge
+                );
+            } catch (final NumberFormatException ex) {
+                Logger.debug(
+                    this, "Ignored rate limit headers of %s: %s",
+                    home, ex.getMessage()
+                );
+            }
+        }
+    }
+
+    /**
+     * Latest observed limit.
+     * @param home URI of the request, or just its host
+     * @param credential Value of the {@code Authorization} header, or empty
+     *  string for anonymous requests
+     * @param resource Name of the resource, for example {@code core}
+     * @return Entry, empty if nothing was observed yet
+     */
+    public Optional<Ledger.Entry> entry(final String home,
+        final String credential, final String resource) {
+        return Optional.ofNullable(
+            this.entries.get(
+                Ledger.key(Ledger.host(home), credential, resource)
+            )
+        );
+    }
+
+    /**
+     * Latest observed limits of all hosts and resources.
+     * @param credential Value of the {@code Authorization} header, or empty
+     *  string for anonymous requests
+     * @return Entries, by hosts and names of resources, separated by
+     *  a space, like {@code "api.github.com core"}
+     */
+    public Map<String, Ledger.Entry> entries(final String credential) {
+        return this.hashed(Ledger.hash(credential));
+    }
+
+    /**
+     * Latest observed limits of all hosts and resources.
+     * @param hash SHA-256 hash of the credential, see {@link #hash(String)}
+     * @return Entries, by hosts and names of resources
+     */
+    Map<String, Ledger.Entry> hashed(final String hash) {
+        final String prefix = String.format("%s ", hash);
+        final Map<String, Ledger.Entry> found = new TreeMap<>();
+        for (final Map.Entry<String, Ledger.Entry> entry
+            : this.entries.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                found.put(
+                    entry.getKey().substring(prefix.length()), entry.getValue()
+                );
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Hash of the credential, to keep instead of it.
+     * @param credential Credential
+     * @return SHA-256 hash, in hex
+     */
+    static String hash(final String credential) {
+        return Hashing.sha256()
+            .hashString(credential, StandardCharsets.UTF_8)
+            .toString();
+    }
+
+    /**
+     * Credential of the request.
+     * @param headers Headers of the request
+     * @return Value of the {@code Authorization} header or empty string
+     */
+    static String credential(
+        final Collection<Map.Entry<String, String>> headers) {
+        String credential = "";
+        for (final Map.Entry<String, String> header : headers) {
+            if ("Authorization".equalsIgnoreCase(header.getKey())) {
+                credential = header.getValue();
+                break;
+            }
+        }
+        return credential;
+    }
+
+    /**
+     * Host of the request.
+     * @param home URI of the request, or just its host
+     * @return Host in lower case
+     */
+    static String host(final String home) {
+        String host = home;
+        if (home.contains("://")) {
+            host = URI.create(home).getHost();
+        }
+        if (host == null) {
+            host = "";
+        }
+        return host.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Key of the entry.
+     * @param host Host
+     * @param credential Credential
+     * @param resource Name of the resource
+     * @return Key
+     */
+    private static String key(final String host, final String credential,
+        final String resource) {
+        return String.format(
+            "%s %s %s", Ledger.hash(credential), host, resource
+        );
+    }
+
+    /**
+     * Resource the request counts against, as GitHub names them in the
+     * {@code X-RateLimit-Resource} header.
+     * @param home URI of the request
+     * @return Name of the resource
+     */
+    static String resource(final String home) {
+        final String path = URI.create(home).getPath();
+        final String name;
+        if (path == null) {
+            name = "core";
+        } else if (path.startsWith("/search/code")) {
+            name = "code_search";
+        } else if (path.startsWith("/search/")) {
+            name = "search";
+        } else if (path.startsWith("/graphql")) {
+            name = "graphql";
+        } else {
+            name = "core";
+        }
+        return name;
+    }
+
+    /**
+     * Get the first value of the header.
+     * @param resp Response
+     * @param name Name of the header
+     * @return Value or NULL if absent
+     */
+    static String header(final Response resp, final String name) {
+        final List<String> values = resp.headers().get(name);
+        String value = null;
+        if (values != null && !values.isEmpty()) {
+            value = values.get(0);
+        }
+        return value;
+    }
+
+    /**
+     * Observed rate limit of one resource.
+     * @since 2.0
+     */
+    @ToString
+    @EqualsAndHashCode
+    public static final class Entry {
+        /**
+         * Maximum number of requests in the window, zero if unknown.
+         */
+        private final transient int max;
+
+        /**
+         * Requests remaining.
+         */
+        private final transient int left;
+
+        /**
+         * Time of the window reset, in seconds since epoch.
+         */
+        private final transient long when;
+
+        /**
+         * Time of the observation, in milliseconds since epoch.
+         */
+        private final transient long seen;
+
+        /**
+         * Ctor.
+         * @param limit Maximum number of requests in the window
+         * @param remaining Requests remaining
+         * @param reset Time of the window reset, in seconds since epoch
+         * @param observed Time of the observation, in milliseconds
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Entry(final int limit, final int remaining, final long reset,
+            final long observed) {
+            this.max = limit;
+            this.left = remaining;
+            this.when = reset;
+            this.seen = observed;
+        }
+
+        /**
+         * Maximum number of requests in the window.
+         * @return Number of requests, zero if unknown
+         */
+        public int limit() {
+            return this.max;
+        }
+
+        /**
+         * Requests remaining.
+         * @return Number of requests
+         */
+        public int remaining() {
+            return this.left;
+        }
+
+        /**
+         * Time of the window reset.
+         * @return Seconds since epoch
+         */
+        public long reset() {
+            return this.when;
+        }
+
+        /**
+         * Time of the observation.
+         * @return Milliseconds since epoch
+         */
+        public long observed() {
+            return this.seen;
+        }
+
+        /**
+         * Merge with a newer observation.
+         * @param newer Newer observation
+         * @return Merged entry
+         */
+        Ledger.Entry merge(final Ledger.Entry newer) {
+            final Ledger.Entry merged;
+            if (newer.when > this.when) {
+                merged = newer;
+            } else if (newer.when == this.when) {
+                merged = new Ledger.Entry(
+                    Math.max(this.max, newer.max),
+                    Math.min(this.left, newer.left),
+                    this.when,
+                    Math.max(this.seen, newer.seen)
+                );
+            } else {
+                merged = this;
+            }
+            return merged;
+        }
+    }
+}
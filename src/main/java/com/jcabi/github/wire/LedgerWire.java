@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that records rate limit headers of all responses into
+ * the {@link Ledger}.
+ *
+ * <p>It's in the default request of {@link com.jcabi.github.RtGitHub}, so
+ * {@link com.jcabi.github.Limits} can be answered from the headers of
+ * ordinary traffic, without calls to {@code /rate_limit}.
+ *
+ * @since 2.0
+ */
+@ToString(of = "origin")
+@EqualsAndHashCode(of = { "origin", "ledger" })
+public final class LedgerWire implements Wire {
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Ledger to record into.
+     */
+    private final transient Ledger ledger;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     */
+    public LedgerWire(final Wire wire) {
+        this(wire, Ledger.SHARED);
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param book Ledger to record into
+     */
+    public LedgerWire(final Wire wire, final Ledger book) {
+        this.origin = wire;
+        this.ledger = book;
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final Response resp = this.origin.send(
+            req, home, method, headers, content, connect, read
+        );
+        this.ledger.record(home, headers, resp);
+        return resp;
+    }
+}
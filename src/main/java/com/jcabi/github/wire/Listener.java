@@ -0,0 +1,215 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Response;
+import com.jcabi.log.Logger;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Listener of the lifecycle of requests.
+ *
+ * <p>{@link ListenerWire} calls {@link #onStart(Listener.Call)} before
+ * the request goes down the chain of wires, and then either
+ * {@link #onResponse(Listener.Call, Response)} or
+ * {@link #onError(Listener.Call, Exception)}. In between,
+ * {@link BackoffWire} calls {@link #onRetry(Listener.Call, int, long)}
+ * before every retry, and {@link CarefulWire}, {@link PacingWire} and
+ * {@link BackoffWire} call {@link #onThrottle(Listener.Call, long)} before
+ * they hold the thread because of rate limits. Rate limit headers
+ * are in the response, see {@link Listener.Call#header(Response, String)}.
+ *
+ * <p>Listeners are called in the thread of the request, so they must be
+ * fast. When there is no {@link ListenerWire} in the chain, nothing
+ * is called at all:
+ *
+ * <pre> GitHub github = new RtGitHub(oauthKey).traced(
+ *   new Listener.Slow(TimeUnit.SECONDS.toMillis(2L))
+ * );</pre>
+ *
+ * @since 2.0
+ */
+public interface Listener {
+
+    /**
+     * The request is about to be sent.
+     * @param call The call
+     */
+    void onStart(Listener.Call call);
+
+    /**
+     * The response arrived.
+     * @param call The call
+     * @param response The response
+     */
+    void onResponse(Listener.Call call, Response response);
+
+    /**
+     * The request is about to be sent again.
+     * @param call The call
+     * @param attempt Number of the failed attempt, starting from one
+     * @param delay Delay before the next attempt, in milliseconds
+     */
+    void onRetry(Listener.Call call, int attempt, long delay);
+
+    /**
+     * The thread is about to be held because of rate limits.
+     * @param call The call
+     * @param delay Delay, in milliseconds
+     */
+    void onThrottle(Listener.Call call, long delay);
+
+    /**
+     * The request failed with I/O or runtime error.
+     * @param call The call
+     * @param error The error
+     */
+    void onError(Listener.Call call, Exception error);
+
+    /**
+     * One call, from the start to the response or error.
+     * @since 2.0
+     */
+    @ToString(of = { "mtd", "uri" })
+    @EqualsAndHashCode(of = { "mtd", "uri", "start" })
+    final class Call {
+        /**
+         * HTTP method.
+         */
+        private final transient String mtd;
+
+        /**
+         * URI.
+         */
+        private final transient String uri;
+
+        /**
+         * Start, from {@link System#nanoTime()}.
+         */
+        private final transient long start;
+
+        /**
+         * Ctor.
+         * @param method HTTP method
+         * @param home URI
+         */
+        Call(final String method, final String home) {
+            this.mtd = method;
+            this.uri = home;
+            this.start = System.nanoTime();
+        }
+
+        /**
+         * HTTP method.
+         * @return Method
+         */
+        public String method() {
+            return this.mtd;
+        }
+
+        /**
+         * URI of the request.
+         * @return URI
+         */
+        public String uri() {
+            return this.uri;
+        }
+
+        /**
+         * Route template of the request.
+         * @return Route
+         */
+        public Route route() {
+            return new Route(this.uri);
+        }
+
+        /**
+         * Time since the start.
+         * @return Milliseconds
+         */
+        public long elapsed() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.start);
+        }
+
+        /**
+         * Header of the response, for example {@code X-RateLimit-Remaining}.
+         * @param response Response
+         * @param name Name of the header
+         * @return Value, or empty string if absent
+         */
+        public String header(final Response response, final String name) {
+            final List<String> values = response.headers().get(name);
+            String value = "";
+            if (values != null && !values.isEmpty()) {
+                value = values.get(0);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Listener that logs calls slower than the threshold.
+     * @since 2.0
+     */
+    @ToString
+    @EqualsAndHashCode(of = "threshold")
+    final class Slow implements Listener {
+        /**
+         * Threshold, in milliseconds.
+         */
+        private final transient long threshold;
+
+        /**
+         * Public ctor.
+         * @param millis Threshold, in milliseconds
+         */
+        public Slow(final long millis) {
+            this.threshold = millis;
+        }
+
+        @Override
+        public void onStart(final Listener.Call call) {
+            // nothing to do
+        }
+
+        @Override
+        public void onResponse(final Listener.Call call,
+            final Response response) {
+            final long elapsed = call.elapsed();
+            if (elapsed > this.threshold) {
+                Logger.warn(
+                    this, "%s %s returned %d in %[ms]s, %s requests remaining",
+                    call.method(), call.route(), response.status(), elapsed,
+                    call.header(response, "X-RateLimit-Remaining")
+                );
+            }
+        }
+
+        @Override
+        public void onRetry(final Listener.Call call, final int attempt,
+            final long delay) {
+            // nothing to do
+        }
+
+        @Override
+        public void onThrottle(final Listener.Call call, final long delay) {
+            // nothing to do
+        }
+
+        @Override
+        public void onError(final Listener.Call call, final Exception error) {
+            final long elapsed = call.elapsed();
+            if (elapsed > this.threshold) {
+                Logger.warn(
+                    this, "%s %s failed in %[ms]s: %s",
+                    call.method(), call.route(), elapsed, error.getMessage()
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that reports the lifecycle of requests to a {@link Listener}.
+ *
+ * <p>It must be the outermost wire, so that the wires below it report
+ * retries and throttling of the same call. The easiest way to use it is
+ * {@link com.jcabi.github.RtGitHub#traced(Listener)}.
+ *
+ * @since 2.0
+ */
+@ToString(of = "listener")
+@EqualsAndHashCode(of = { "origin", "listener" })
+public final class ListenerWire implements Wire {
+
+    /**
+     * Listener and call of the current thread.
+     */
+    private static final ThreadLocal<ListenerWire.Current> CURRENT =
+        new ThreadLocal<>();
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Listener.
+     */
+    private final transient Listener listener;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param lstnr Listener
+     */
+    public ListenerWire(final Wire wire, final Listener lstnr) {
+        this.origin = wire;
+        this.listener = lstnr;
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final Listener.Call call = new Listener.Call(method, home);
+        this.listener.onStart(call);
+        final ListenerWire.Current before = ListenerWire.CURRENT.get();
+        ListenerWire.CURRENT.set(new ListenerWire.Current(this.listener, call));
+        final Response resp;
+        try {
+            resp = this.origin.send(
+                req, home, method, headers, content, connect, read
+            );
+        } catch (final IOException | RuntimeException ex) {
+            this.listener.onError(call, ex);
+            throw ex;
+        } finally {
+            if (before == null) {
+                ListenerWire.CURRENT.remove();
+            } else {
+                ListenerWire.CURRENT.set(before);
+            }
+        }
+        this.listener.onResponse(call, resp);
+        return resp;
+    }
+
+    /**
+     * Report a retry of the current call, if there is a listener.
+     * @param attempt Number of the failed attempt
+     * @param delay Delay before the next attempt, in milliseconds
+     */
+    static void retrying(final int attempt, final long delay) {
+        final ListenerWire.Current current = ListenerWire.CURRENT.get();
+        if (current != null) {
+            current.listener().onRetry(current.call(), attempt, delay);
+        }
+    }
+
+    /**
+     * Report throttling of the current call, if there is a listener.
+     * @param delay Delay, in milliseconds
+     */
+    static void throttling(final long delay) {
+        final ListenerWire.Current current = ListenerWire.CURRENT.get();
+        if (current != null) {
+            current.listener().onThrottle(current.call(), delay);
+        }
+    }
+
+    /**
+     * Listener and its call.
+     * @since 2.0
+     */
+    private static final class Current {
+        /**
+         * Listener.
+         */
+        private final transient Listener lstnr;
+
+        /**
+         * Call.
+         */
+        private final transient Listener.Call cll;
+
+        /**
+         * Ctor.
+         * @param listener Listener
+         * @param call Call
+         */
+        Current(final Listener listener, final Listener.Call call) {
+            this.lstnr = listener;
+            this.cll = call;
+        }
+
+        /**
+         * Listener.
+         * @return Listener
+         */
+        Listener listener() {
+            return this.lstnr;
+        }
+
+        /**
+         * Call.
+         * @return Call
+         */
+        Listener.Call call() {
+            return this.cll;
+        }
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import lombok.ToString;
+
+/**
+ * Metrics of requests, by route templates.
+ *
+ * <p>{@link MetricsWire} records every request here: its latency, status,
+ * number of bytes sent and received, and whether it was counted against
+ * the rate limit. Routes are templates made by {@link Route}, prefixed by
+ * the HTTP method, for example {@code GET /repos/{owner}/{repo}/issues}.
+ * Recording is lock-free, readers get consistent enough numbers
+ * through {@link #snapshot()}:
+ *
+ * <pre> Metrics metrics = new Metrics();
+ * GitHub github = new RtGitHub(oauthKey).metered(metrics);
+ * metrics.register("my-app");
+ * ...
+ * for (Map.Entry&lt;String, Metrics.Snapshot&gt; route
+ *   : metrics.snapshot().entrySet()) {
+ *   System.out.println(route.getKey() + " " + route.getValue().latency(0.99));
+ * }</pre>
+ *
+ * <p>Registered metrics are visible in JMX as
+ * {@code com.jcabi.github:type=Metrics,name=...}.
+ *
+ * @since 2.0
+ */
+@ToString(of = "routes")
+public final class Metrics implements MetricsMXBean {
+
+    /**
+     * Upper bounds of latency buckets, in milliseconds.
+     */
+    private static final long[] BOUNDS = {
+        10L, 25L, 50L, 100L, 250L, 500L, 1_000L, 2_500L, 5_000L, 10_000L,
+        30_000L, Long.MAX_VALUE,
+    };
+
+    /**
+     * Counters, by routes.
+     */
+    private final transient ConcurrentMap<String, Metrics.Counters> routes;
+
+    /**
+     * Public ctor.
+     */
+    public Metrics() {
+        this.routes = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Register in the platform MBean server.
+     * @param name Name of this object in JMX
+     * @return This
+     */
+    public Metrics register(final String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                this,
+                new ObjectName(
+                    String.format(
+                        "com.jcabi.github:type=Metrics,name=%s",
+                        ObjectName.quote(name)
+                    )
+                )
+            );
+        } catch (final JMException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return this;
+    }
+
+    /**
+     * Record the request.
+     * @param route Route, with the method
+     * @param status HTTP status, or zero if there was an I/O error
+     * @param millis Latency, in milliseconds
+     * @param sent Bytes sent
+     * @param received Bytes received
+     * @param counted Was it counted against the rate limit
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public void record(final String route, final int status, final long millis,
+        final long sent, final long received, final boolean counted) {
+        this.routes.computeIfAbsent(route, key -> new Metrics.Counters())
+            .add(status, millis, sent, received, counted);
+    }
+
+    /**
+     * Snapshot of all routes.
+     * @return Snapshots, by routes
+     */
+    public Map<String, Metrics.Snapshot> snapshot() {
+        final Map<String, Metrics.Snapshot> all = new TreeMap<>();
+        for (final Map.Entry<String, Metrics.Counters> route
+            : this.routes.entrySet()) {
+            all.put(route.getKey(), route.getValue().snapshot());
+        }
+        return Collections.unmodifiableMap(all);
+    }
+
+    @Override
+    public Map<String, Long> getRequests() {
+        return this.each(Metrics.Snapshot::requests);
+    }
+
+    @Override
+    public Map<String, Long> getErrors() {
+        return this.each(Metrics.Snapshot::errors);
+    }
+
+    @Override
+    public Map<String, Long> getMedianLatency() {
+        // @checkstyle MagicNumber (1 line)
+        return this.each(snap -> snap.latency(0.5));
+    }
+
+    @Override
+    public Map<String, Long> getTailLatency() {
+        // @checkstyle MagicNumber (1 line)
+        return this.each(snap -> snap.latency(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getBytesSent() {
+        return this.each(Metrics.Snapshot::sent);
+    }
+
+    @Override
+    public Map<String, Long> getBytesReceived() {
+        return this.each(Metrics.Snapshot::received);
+    }
+
+    @Override
+    public Map<String, Long> getRateLimitCost() {
+        return this.each(Metrics.Snapshot::cost);
+    }
+
+    /**
+     * Numbers of all routes.
+     * @param metric Number to take from the snapshot
+     * @return Numbers, by routes
+     */
+    private Map<String, Long> each(
+        final ToLongFunction<Metrics.Snapshot> metric) {
+        final Map<String, Long> all = new TreeMap<>();
+        for (final Map.Entry<String, Metrics.Snapshot> route
+            : this.snapshot().entrySet()) {
+            all.put(route.getKey(), metric.applyAsLong(route.getValue()));
+        }
+        return all;
+    }
+
+    /**
+     * Numbers of one route, at some moment.
+     * @since 2.0
+     */
+    @ToString
+    public static final class Snapshot {
+        /**
+         * Numbers of requests, by latency buckets.
+         */
+        private final transient long[] buckets;
+
+        /**
+         * Numbers of requests, by statuses.
+         */
+        private final transient Map<Integer, Long> codes;
+
+        /**
+         * Total latency, in milliseconds.
+         */
+        private final transient long total;
+
+        /**
+         * Bytes sent.
+         */
+        private final transient long out;
+
+        /**
+         * Bytes received.
+         */
+        private final transient long in;
+
+        /**
+         * Requests counted against the rate limit.
+         */
+        private final transient long counted;
+
+        /**
+         * Ctor.
+         * @param hist Numbers of requests, by latency buckets
+         * @param statuses Numbers of requests, by statuses
+         * @param millis Total latency, in milliseconds
+         * @param sent Bytes sent
+         * @param received Bytes received
+         * @param cost Requests counted against the rate limit
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Snapshot(final long[] hist, final Map<Integer, Long> statuses,
+            final long millis, final long sent, final long received,
+            final long cost) {
+            this.buckets = hist.clone();
+            this.codes = Collections.unmodifiableMap(statuses);
+            this.total = millis;
+            this.out = sent;
+            this.in = received;
+            this.counted = cost;
+        }
+
+        /**
+         * Number of requests.
+         * @return Number
+         */
+        public long requests() {
+            long sum = 0L;
+            for (final long bucket : this.buckets) {
+                sum += bucket;
+            }
+            return sum;
+        }
+
+        /**
+         * Number of requests that failed with I/O error or status
+         * 400 and above.
+         * @return Number
+         */
+        public long errors() {
+            long sum = 0L;
+            for (final Map.Entry<Integer, Long> code : this.codes.entrySet()) {
+                if (code.getKey() == 0
+                    || code.getKey() >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                    sum += code.getValue();
+                }
+            }
+            return sum;
+        }
+
+        /**
+         * Numbers of requests, by statuses, zero for I/O errors.
+         * @return Numbers
+         */
+        public Map<Integer, Long> statuses() {
+            return this.codes;
+        }
+
+        /**
+         * Mean latency.
+         * @return Milliseconds
+         */
+        public double mean() {
+            final long requests = this.requests();
+            final double mean;
+            if (requests == 0L) {
+                mean = 0.0;
+            } else {
+                mean = (double) this.total / requests;
+            }
+            return mean;
+        }
+
+        /**
+         * Latency quantile, as the upper bound of its histogram bucket.
+         * @param quantile Quantile, for example 0.99
+         * @return Milliseconds, {@link Long#MAX_VALUE} if above all buckets
+         */
+        public long latency(final double quantile) {
+            final long rank = (long) Math.ceil(quantile * this.requests());
+            long seen = 0L;
+            long bound = 0L;
+            for (int idx = 0; idx < this.buckets.length; ++idx) {
+                seen += this.buckets[idx];
+                if (seen >= rank && seen > 0L) {
+                    bound = Metrics.BOUNDS[idx];
+                    break;
+                }
+            }
+            return bound;
+        }
+
+        /**
+         * Bytes sent.
+         * @return Bytes
+         */
+        public long sent() {
+            return this.out;
+        }
+
+        /**
+         * Bytes received.
+         * @return Bytes
+         */
+        public long received() {
+            return this.in;
+        }
+
+        /**
+         * Number of requests counted against the rate limit.
+         * @return Number
+         */
+        public long cost() {
+            return this.counted;
+        }
+    }
+
+    /**
+     * Counters of one route.
+     * @since 2.0
+     */
+    private static final class Counters {
+        /**
+         * Numbers of requests, by latency buckets.
+         */
+        private final transient LongAdder[] buckets;
+
+        /**
+         * Numbers of requests, by statuses.
+         */
+        private final transient ConcurrentMap<Integer, LongAdder> codes;
+
+        /**
+         * Total latency, in milliseconds.
+         */
+        private final transient LongAdder total;
+
+        /**
+         * Bytes sent.
+         */
+        private final transient LongAdder out;
+
+        /**
+         * Bytes received.
+         */
+        private final transient LongAdder in;
+
+        /**
+         * Requests counted against the rate limit.
+         */
+        private final transient LongAdder counted;
+
+        /**
+         * Ctor.
+         */
+        Counters() {
+            this.buckets = new LongAdder[Metrics.BOUNDS.length];
+            for (int idx = 0; idx < this.buckets.length; ++idx) {
+                this.buckets[idx] = new LongAdder();
+            }
+            this.codes = new ConcurrentHashMap<>(0);
+            this.total = new LongAdder();
+            this.out = new LongAdder();
+            this.in = new LongAdder();
+            this.counted = new LongAdder();
+        }
+
+        /**
+         * Add the request.
+         * @param status HTTP status, or zero if there was an I/O error
+         * @param millis Latency, in milliseconds
+         * @param sent Bytes sent
+         * @param received Bytes received
+         * @param cost Was it counted against the rate limit
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        void add(final int status, final long millis, final long sent,
+            final long received, final boolean cost) {
+            int idx = 0;
+            while (millis > Metrics.BOUNDS[idx]) {
+                ++idx;
+            }
+            this.buckets[idx].increment();
+            this.codes.computeIfAbsent(status, key -> new LongAdder())
+                .increment();
+            this.total.add(millis);
+            this.out.add(sent);
+            this.in.add(received);
+            if (cost) {
+                this.counted.increment();
+            }
+        }
+
+        /**
+         * Take a snapshot.
+         * @return Snapshot
+         */
+        Metrics.Snapshot snapshot() {
+            final long[] hist = new long[this.buckets.length];
+            for (int idx = 0; idx < hist.length; ++idx) {
+                hist[idx] = this.buckets[idx].sum();
+            }
+            final Map<Integer, Long> statuses = new TreeMap<>();
+            for (final Map.Entry<Integer, LongAdder> code
+                : this.codes.entrySet()) {
+                statuses.put(code.getKey(), code.getValue().sum());
+            }
+            return new Metrics.Snapshot(
+                hist, statuses, this.total.sum(), this.out.sum(),
+                this.in.sum(), this.counted.sum()
+            );
+        }
+    }
+}
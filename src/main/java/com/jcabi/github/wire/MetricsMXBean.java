@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link Metrics}.
+ *
+ * <p>Every attribute is a table of numbers by routes, for example
+ * {@code GET /repos/{owner}/{repo}/issues}.
+ *
+ * @since 2.0
+ */
+public interface MetricsMXBean {
+
+    /**
+     * Numbers of requests.
+     * @return Numbers, by routes
+     */
+    Map<String, Long> getRequests();
+
+    /**
+     * Numbers of failed requests.
+     * @return Numbers, by routes
+     */
+    Map<String, Long> getErrors();
+
+    /**
+     * Median latencies.
+     * @return Milliseconds, by routes
+     */
+    Map<String, Long> getMedianLatency();
+
+    /**
+     * 99th percentile latencies.
+     * @return Milliseconds, by routes
+     */
+    Map<String, Long> getTailLatency();
+
+    /**
+     * Bytes sent.
+     * @return Bytes, by routes
+     */
+    Map<String, Long> getBytesSent();
+
+    /**
+     * Bytes received.
+     * @return Bytes, by routes
+     */
+    Map<String, Long> getBytesReceived();
+
+    /**
+     * Numbers of requests counted against the rate limit.
+     * @return Numbers, by routes
+     */
+    Map<String, Long> getRateLimitCost();
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.google.common.io.CountingInputStream;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that records latency, status and size of every request
+ * into {@link Metrics}.
+ *
+ * <p>Requests are grouped by their method and {@link Route}. A request is
+ * counted against the rate limit if its response has
+ * the {@code X-RateLimit-Remaining} header and is not
+ * {@code 304 Not Modified}. Sizes of bodies are taken after decompression,
+ * if the wire is on top of {@link DecompressingWire}. The easiest way to
+ * use it is {@link com.jcabi.github.RtGitHub#metered(Metrics)}:
+ *
+ * <pre> Metrics metrics = new Metrics();
+ * GitHub github = new RtGitHub(oauthKey).metered(metrics);</pre>
+ *
+ * @since 2.0
+ */
+@ToString(of = "origin")
+@EqualsAndHashCode(of = { "origin", "metrics" })
+public final class MetricsWire implements Wire {
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Metrics to record into.
+     */
+    private final transient Metrics metrics;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param mtrs Metrics to record into
+     */
+    public MetricsWire(final Wire wire, final Metrics mtrs) {
+        this.origin = wire;
+        this.metrics = mtrs;
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final String route = String.format("%s %s", method, new Route(home));
+        final CountingInputStream body = new CountingInputStream(content);
+        final long start = System.nanoTime();
+        final Response resp;
+        try {
+            resp = this.origin.send(
+                req, home, method, headers, body, connect, read
+            );
+        } catch (final IOException | RuntimeException ex) {
+            this.metrics.record(
+                route, 0, MetricsWire.since(start), body.getCount(), 0L, false
+            );
+            throw ex;
+        }
+        this.metrics.record(
+            route, resp.status(), MetricsWire.since(start), body.getCount(),
+            resp.binary().length,
+            resp.headers().containsKey("X-RateLimit-Remaining")
+                && resp.status() != HttpURLConnection.HTTP_NOT_MODIFIED
+        );
+        return resp;
+    }
+
+    /**
+     * Milliseconds since the given moment.
+     * @param start Moment, from {@link System#nanoTime()}
+     * @return Milliseconds
+     */
+    private static long since(final long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that spreads the remaining requests evenly over the rate limit
+ * window.
+ *
+ * <p>Unlike {@link CarefulWire}, which does nothing until the budget is
+ * almost exhausted and then sleeps until {@code X-RateLimit-Reset}, this
+ * wire delays every request just enough to make the
+ * {@code X-RateLimit-Remaining} requests last until the reset. A few
+ * requests can go in a burst without waiting. All threads using the same
+ * {@link com.jcabi.github.GitHub} share the budget, so the throughput stays
+ * steady instead of stop-and-go:
+ *
+ * <pre> GitHub github = new RtGitHub(
+ *   new RtGitHub(oauthKey).entry().through(PacingWire.class)
+ * );</pre>
+ *
+ * <p>GitHub counts requests to different resources separately, for
+ * example search has its own budget per minute, so the wire keeps a budget
+ * per resource, named as in the {@code X-RateLimit-Resource} header:
+ * {@code core}, {@code search}, {@code code_search} and {@code graphql}.
+ * The budget of a request is chosen by its path, and is updated from
+ * the resource reported in the response. Thus bursts of search requests
+ * don't slow down other requests and vice versa.
+ *
+ * <p>Rate limits observed by all wires of all {@code GitHub} objects
+ * with the same credentials are shared through the {@link Ledger}, so the
+ * budget accounts for requests sent by other objects as well. Until
+ * the first response with rate limit headers arrives, requests are
+ * not delayed.
+ *
+ * @since 2.0
+ */
+@ToString(of = "budgets")
+@EqualsAndHashCode(of = "origin")
+public final class PacingWire implements Wire {
+
+    /**
+     * Default number of requests that can go without waiting.
+     */
+    private static final int BURST = 10;
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Number of requests that can go without waiting.
+     */
+    private final transient int burst;
+
+    /**
+     * Shared budgets, by names of resources.
+     */
+    private final transient ConcurrentMap<String, Budget> budgets;
+
+    /**
+     * Ledger of observed rate limits.
+     */
+    private final transient Ledger ledger;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     */
+    public PacingWire(final Wire wire) {
+        this(wire, PacingWire.BURST);
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param size Number of requests that can go without waiting
+     */
+    public PacingWire(final Wire wire, final int size) {
+        this(wire, size, Ledger.SHARED);
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param size Number of requests that can go without waiting
+     * @param book Ledger of observed rate limits
+     */
+    public PacingWire(final Wire wire, final int size, final Ledger book) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Burst must be positive: %d", size)
+            );
+        }
+        this.origin = wire;
+        this.burst = size;
+        this.budgets = new ConcurrentHashMap<>(0);
+        this.ledger = book;
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final String name = Ledger.resource(home);
+        final Budget budget = this.budget(name);
+        this.ledger.entry(home, Ledger.credential(headers), name)
+            .ifPresent(budget::update);
+        final long delay = budget.reserve(System.currentTimeMillis());
+        if (delay > 0L) {
+            ListenerWire.throttling(delay);
+            try {
+                Activity.sleep(delay);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+        final Response resp = this.origin.send(
+            req, home, method, headers, content, connect, read
+        );
+        this.ledger.record(home, headers, resp);
+        String resource = Ledger.header(resp, "X-RateLimit-Resource");
+        if (resource == null) {
+            resource = name;
+        }
+        this.ledger.entry(home, Ledger.credential(headers), resource)
+            .ifPresent(this.budget(resource)::update);
+        return resp;
+    }
+
+    /**
+     * Budget of the resource.
+     * @param resource Name of the resource
+     * @return Budget
+     */
+    private Budget budget(final String resource) {
+        return this.budgets.computeIfAbsent(
+            resource, name -> new Budget(this.burst)
+        );
+    }
+}
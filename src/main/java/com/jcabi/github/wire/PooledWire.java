@@ -0,0 +1,346 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.http.ImmutableHeader;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.immutable.Array;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.impl.NoConnectionReuseStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * Wire that sends requests through a pool of persistent HTTP connections.
+ *
+ * <p>Unlike {@link com.jcabi.http.request.ApacheRequest}, which creates
+ * a new HTTP client for every request, this wire keeps connections open
+ * and reuses them, according to the {@link Transport} configuration.
+ * Wires with equal configurations share the same pool. Response bodies
+ * are returned as they come, use {@link DecompressingWire} on top of this
+ * wire to get decompressed responses. Request bodies are read into memory
+ * before sending, unless the request has the {@code Content-Length}
+ * or the {@link #SIZE} header: then the body is streamed, so large
+ * uploads don't need a large heap. This is the default transport of
+ * {@link com.jcabi.github.RtGitHub}:
+ *
+ * <pre> Request request = new BaseRequest(
+ *   new PooledWire(new Transport().withMaxPerRoute(64)),
+ *   "https://api.github.com"
+ * );</pre>
+ *
+ * <p>Pools live as long as the JVM, there is one per distinct
+ * {@link Transport}, not one per wire. Call
+ * {@link #shutdown(Transport)} to close the pool of a configuration
+ * which is no longer needed; the next request with it opens a new one.
+ *
+ * @since 2.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@Immutable
+@ToString(of = "transport")
+@EqualsAndHashCode(of = "transport")
+public final class PooledWire implements Wire {
+
+    /**
+     * Content-Length header.
+     */
+    private static final String LENGTH = "Content-Length";
+
+    /**
+     * Header with the length of the content.
+     *
+     * <p>Unlike {@code Content-Length}, it can be set on any request:
+     * other transports, like {@link com.jcabi.http.request.ApacheRequest},
+     * refuse the {@code Content-Length} set by hand. This wire removes
+     * the header and streams the body of that length. Transports which
+     * don't know it, like {@link com.jcabi.http.request.ApacheRequest}
+     * or {@link com.jcabi.http.request.JdkRequest}, send it along, GitHub
+     * ignores it, and the body is read into memory, as usual for them.
+     */
+    public static final String SIZE = "X-Jcabi-Content-Length";
+
+    /**
+     * HTTP clients, one per transport configuration.
+     */
+    private static final ConcurrentMap<Transport, CloseableHttpClient> CLIENTS =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Transport configuration.
+     */
+    private final transient Transport transport;
+
+    /**
+     * Public ctor, with default configuration.
+     */
+    public PooledWire() {
+        this(new Transport());
+    }
+
+    /**
+     * Public ctor.
+     * @param config Transport configuration
+     */
+    public PooledWire(final Transport config) {
+        this.transport = config;
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final HttpEntityEnclosingRequestBase http =
+            new PooledWire.Method(method);
+        http.setURI(URI.create(home));
+        http.setConfig(
+            RequestConfig.custom()
+                .setCircularRedirectsAllowed(false)
+                .setRedirectsEnabled(false)
+                .setConnectTimeout(
+                    PooledWire.timeout(connect, this.transport.connectTimeout())
+                )
+                .setSocketTimeout(
+                    PooledWire.timeout(read, this.transport.readTimeout())
+                )
+                .build()
+        );
+        long length = -1L;
+        for (final Map.Entry<String, String> header : headers) {
+            if (PooledWire.LENGTH.equalsIgnoreCase(header.getKey())
+                || PooledWire.SIZE.equalsIgnoreCase(header.getKey())) {
+                length = PooledWire.length(header.getValue());
+            } else {
+                http.addHeader(header.getKey(), header.getValue());
+            }
+        }
+        http.setEntity(PooledWire.entity(content, length));
+        try (CloseableHttpResponse response = this.client().execute(http)) {
+            return new DefaultResponse(
+                req,
+                response.getStatusLine().getStatusCode(),
+                response.getStatusLine().getReasonPhrase(),
+                PooledWire.headers(response.getAllHeaders()),
+                PooledWire.consume(response.getEntity())
+            );
+        }
+    }
+
+    /**
+     * Close the pool of connections of the configuration, if it is open.
+     * @param config Transport configuration
+     * @throws IOException If fails
+     */
+    public static void shutdown(final Transport config) throws IOException {
+        final CloseableHttpClient client = PooledWire.CLIENTS.remove(config);
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    /**
+     * HTTP client for this transport, shared by equal configurations.
+     * @return Client
+     */
+    private CloseableHttpClient client() {
+        return PooledWire.CLIENTS.computeIfAbsent(
+            this.transport, PooledWire::build
+        );
+    }
+
+    /**
+     * Build a new HTTP client.
+     * @param config Transport configuration
+     * @return Client
+     */
+    private static CloseableHttpClient build(final Transport config) {
+        final PoolingHttpClientConnectionManager pool =
+            new PoolingHttpClientConnectionManager();
+        pool.setDefaultMaxPerRoute(config.maxPerRoute());
+        pool.setMaxTotal(config.maxTotal());
+        final SocketConfig.Builder socket = SocketConfig.custom()
+            .setTcpNoDelay(true)
+            .setSoKeepAlive(true);
+        if (config.socketBuffer() > 0) {
+            socket.setRcvBufSize(config.socketBuffer())
+                .setSndBufSize(config.socketBuffer());
+        }
+        pool.setDefaultSocketConfig(socket.build());
+        final HttpClientBuilder builder = HttpClients.custom()
+            .useSystemProperties()
+            .disableContentCompression()
+            .setConnectionManager(pool);
+        if (config.keepAlive() == 0) {
+            builder.setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE);
+        } else {
+            builder.setKeepAliveStrategy(
+                (response, context) -> {
+                    long duration = DefaultConnectionKeepAliveStrategy.INSTANCE
+                        .getKeepAliveDuration(response, context);
+                    if (duration <= 0L) {
+                        duration = TimeUnit.SECONDS.toMillis(config.keepAlive());
+                    }
+                    return duration;
+                }
+            );
+        }
+        if (config.idleEviction() > 0) {
+            builder.evictExpiredConnections().evictIdleConnections(
+                (long) config.idleEviction(), TimeUnit.SECONDS
+            );
+        }
+        return builder.build();
+    }
+
+    /**
+     * Timeout to use.
+     * @param requested Timeout requested by the request
+     * @param configured Timeout from the transport configuration
+     * @return Timeout in milliseconds, zero for infinite
+     */
+    private static int timeout(final int requested, final int configured) {
+        final int result;
+        if (requested > 0) {
+            result = requested;
+        } else {
+            result = configured;
+        }
+        return result;
+    }
+
+    /**
+     * Length of the content, from the {@code Content-Length} or
+     * {@link #SIZE} header.
+     * @param value Value of the header
+     * @return Length in bytes
+     */
+    private static long length(final String value) {
+        final long length;
+        try {
+            length = Long.parseLong(value.trim());
+        } catch (final NumberFormatException ex) {
+            throw new IllegalArgumentException(
+                String.format("Invalid Content-Length header: \"%s\"", value),
+                ex
+            );
+        }
+        if (length < 0L) {
+            throw new IllegalArgumentException(
+                String.format("Negative Content-Length header: %d", length)
+            );
+        }
+        return length;
+    }
+
+    /**
+     * Create request entity.
+     *
+     * <p>When the length of the content is known from the
+     * {@code Content-Length} or {@link #SIZE} header, the content is streamed to the
+     * connection as it is read, otherwise it is read into memory first.
+     * @param content Content of the request
+     * @param length Length of the content, or negative if unknown
+     * @return Entity
+     * @throws IOException If fails
+     */
+    private static HttpEntity entity(final InputStream content,
+        final long length) throws IOException {
+        final HttpEntity entity;
+        if (length < 0L) {
+            entity = new BufferedHttpEntity(new InputStreamEntity(content));
+        } else {
+            entity = new InputStreamEntity(content, length);
+        }
+        return entity;
+    }
+
+    /**
+     * Fetch body from the entity.
+     * @param entity Entity of the response
+     * @return Body
+     * @throws IOException If fails
+     */
+    private static byte[] consume(final HttpEntity entity) throws IOException {
+        final byte[] body;
+        if (entity == null) {
+            body = new byte[0];
+        } else {
+            body = EntityUtils.toByteArray(entity);
+        }
+        return body;
+    }
+
+    /**
+     * Convert headers of the response.
+     * @param list Apache headers
+     * @return Headers
+     */
+    private static Array<Map.Entry<String, String>> headers(
+        final Header... list
+    ) {
+        final Collection<Map.Entry<String, String>> hdrs = new LinkedList<>();
+        for (final Header header : list) {
+            hdrs.add(new ImmutableHeader(header.getName(), header.getValue()));
+        }
+        return new Array<>(hdrs);
+    }
+
+    /**
+     * HTTP request with an arbitrary method.
+     * @since 2.0
+     */
+    private static final class Method extends HttpEntityEnclosingRequestBase {
+        /**
+         * HTTP method.
+         */
+        private final transient String name;
+
+        /**
+         * Ctor.
+         * @param mtd HTTP method
+         */
+        Method(final String mtd) {
+            super();
+            this.name = mtd;
+        }
+
+        @Override
+        public String getMethod() {
+            return this.name;
+        }
+    }
+}
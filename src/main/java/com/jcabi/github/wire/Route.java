@@ -0,0 +1,163 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.aspects.Immutable;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Route template of the request, without the values of parameters.
+ *
+ * <p>For example, {@code /repos/jcabi/jcabi-github/issues/42?page=2}
+ * becomes {@code /repos/{owner}/{repo}/issues/{n}}, so that all requests
+ * to the same endpoint can be counted together. Numbers become {@code {n}},
+ * SHA-1 hashes become {@code {sha}}, hex ids of gists become
+ * {@code {id}}, names of users, organizations,
+ * labels, branches and so on become {@code {name}}, and the path of
+ * a file in {@code contents} becomes {@code {path}}.
+ *
+ * @since 2.0
+ */
+@Immutable
+@EqualsAndHashCode(of = "template")
+public final class Route {
+
+    /**
+     * Numbers.
+     */
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    /**
+     * SHA-1 hashes.
+     */
+    private static final Pattern SHA = Pattern.compile("[0-9a-f]{40}");
+
+    /**
+     * Ids of gists, 20 or 32 hex digits.
+     */
+    private static final Pattern GIST = Pattern.compile(
+        "[0-9a-f]{20}|[0-9a-f]{32}"
+    );
+
+    /**
+     * Segments followed by a name.
+     */
+    private static final Collection<String> NAMED = new HashSet<>(
+        Arrays.asList(
+            "users", "orgs", "labels", "branches", "teams", "collaborators",
+            "members", "memberships", "assignees", "following", "topics",
+            "tags", "environments", "secrets", "variables", "commits",
+            "compare", "statuses", "trees", "blobs"
+        )
+    );
+
+    /**
+     * Segments followed by a path to the end.
+     */
+    private static final Collection<String> PATHS = new HashSet<>(
+        Arrays.asList("contents", "refs", "ref", "tarball", "zipball")
+    );
+
+    /**
+     * Template.
+     */
+    private final transient String template;
+
+    /**
+     * Public ctor.
+     * @param uri URI of the request
+     */
+    public Route(final String uri) {
+        this.template = Route.normalize(URI.create(uri).getRawPath());
+    }
+
+    /**
+     * Route family, the first two segments of the template, for example
+     * {@code /repos/{owner}} or {@code /search/issues}.
+     * @return Family
+     */
+    public String family() {
+        final String[] parts = this.template.split("/", 4);
+        final String family;
+        if (parts.length < 3) {
+            family = this.template;
+        } else {
+            family = String.format("/%s/%s", parts[1], parts[2]);
+        }
+        return family;
+    }
+
+    @Override
+    public String toString() {
+        return this.template;
+    }
+
+    /**
+     * Normalize the path.
+     * @param path Path
+     * @return Template
+     */
+    private static String normalize(final String path) {
+        String raw = path;
+        if (raw == null || raw.isEmpty()) {
+            raw = "/";
+        }
+        if (raw.startsWith("/api/v3/") || "/api/v3".equals(raw)) {
+            raw = raw.substring("/api/v3".length());
+        }
+        final String[] segments = raw.split("/");
+        final StringBuilder out = new StringBuilder(raw.length());
+        String prev = "";
+        for (int idx = 1; idx < segments.length; ++idx) {
+            final String seg = segments[idx];
+            out.append('/');
+            if (Route.PATHS.contains(prev)) {
+                out.append("{path}");
+                break;
+            }
+            prev = Route.segment(segments[1], prev, seg, idx);
+            out.append(prev);
+        }
+        if (out.length() == 0) {
+            out.append('/');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Template of one segment.
+     * @param first First segment
+     * @param prev Template of the previous segment
+     * @param seg Segment
+     * @param idx Position of the segment, starting from one
+     * @return Template
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static String segment(final String first, final String prev,
+        final String seg, final int idx) {
+        final String result;
+        if (idx == 2 && "repos".equals(first)) {
+            result = "{owner}";
+        } else if (idx == 3 && "repos".equals(first)) {
+            result = "{repo}";
+        } else if ("gists".equals(prev) && Route.GIST.matcher(seg).matches()) {
+            result = "{id}";
+        } else if (Route.NUMBER.matcher(seg).matches()) {
+            result = "{n}";
+        } else if (Route.SHA.matcher(seg).matches()) {
+            result = "{sha}";
+        } else if (Route.NAMED.contains(prev)) {
+            result = "{name}";
+        } else {
+            result = seg;
+        }
+        return result;
+    }
+}
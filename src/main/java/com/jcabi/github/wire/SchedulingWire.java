@@ -0,0 +1,303 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that runs a limited number of requests at once, serving the
+ * requests of higher priority first.
+ *
+ * <p>Requests are tagged with the {@link #HEADER} header, whose value is
+ * the name of {@link SchedulingWire.Priority}, and the wire removes the
+ * header before sending. Untagged requests are
+ * {@link SchedulingWire.Priority#NORMAL}. No more than {@code max}
+ * requests are in flight at once, the others wait in the queue. Waiting
+ * requests are served with weighted fair queuing: every priority gets
+ * a share of the slots proportional to its weight, so interactive
+ * requests overtake a long background crawl, while the crawl still
+ * moves on.
+ *
+ * <p>The easiest way to use it is
+ * {@link com.jcabi.github.RtGitHub#scheduled(int)} together with
+ * {@link com.jcabi.github.RtGitHub#prioritized(SchedulingWire.Priority)}:
+ *
+ * <pre> RtGitHub github = new RtGitHub(oauthKey).scheduled(4);
+ * GitHub crawler = github.prioritized(SchedulingWire.Priority.BACKGROUND);
+ * GitHub ui = github.prioritized(SchedulingWire.Priority.INTERACTIVE);</pre>
+ *
+ * <p>Wires which hold the thread because of rate limits, like
+ * {@link CarefulWire}, {@link PacingWire} and {@link BackoffWire}, must
+ * be above this one. Below it, a request sleeping until the reset would
+ * keep its slot, and a few such requests would block all others, even
+ * the ones whose rate limit is not exhausted:
+ *
+ * <pre> GitHub github = new RtGitHub(
+ *   new RtGitHub(oauthKey).scheduled(4).entry()
+ *     .through(CarefulWire.class, 50)
+ * );</pre>
+ *
+ * <p>A priority which is not one of {@link SchedulingWire.Priority} is
+ * served as {@link SchedulingWire.Priority#NORMAL}.
+ *
+ * @since 2.0
+ */
+@ToString(of = { "max", "running" })
+@EqualsAndHashCode(of = { "origin", "max" })
+public final class SchedulingWire implements Wire {
+
+    /**
+     * Header with the priority of the request.
+     */
+    public static final String HEADER = "X-Jcabi-Priority";
+
+    /**
+     * Default number of requests in flight.
+     */
+    private static final int MAX = 4;
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Maximum number of requests in flight.
+     */
+    private final transient int max;
+
+    /**
+     * Waiting requests, in the order of service.
+     */
+    private final transient PriorityQueue<SchedulingWire.Ticket> queue;
+
+    /**
+     * Finish tags of the last requests, by priorities.
+     */
+    private final transient Map<SchedulingWire.Priority, Double> last;
+
+    /**
+     * Number of requests in flight.
+     */
+    private transient int running;
+
+    /**
+     * Virtual time, the finish tag of the last served request.
+     */
+    private transient double clock;
+
+    /**
+     * Number of requests queued so far.
+     */
+    private transient long serial;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     */
+    public SchedulingWire(final Wire wire) {
+        this(wire, SchedulingWire.MAX);
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param total Maximum number of requests in flight
+     */
+    public SchedulingWire(final Wire wire, final int total) {
+        if (total <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Concurrency must be positive: %d", total)
+            );
+        }
+        this.origin = wire;
+        this.max = total;
+        this.queue = new PriorityQueue<>();
+        this.last = new EnumMap<>(SchedulingWire.Priority.class);
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        SchedulingWire.Priority priority = SchedulingWire.Priority.NORMAL;
+        final Collection<Map.Entry<String, String>> hdrs = new LinkedList<>();
+        for (final Map.Entry<String, String> header : headers) {
+            if (SchedulingWire.HEADER.equalsIgnoreCase(header.getKey())) {
+                priority = SchedulingWire.priority(header.getValue());
+            } else {
+                hdrs.add(header);
+            }
+        }
+        this.acquire(priority);
+        try {
+            return this.origin.send(
+                req, home, method, hdrs, content, connect, read
+            );
+        } finally {
+            this.release();
+        }
+    }
+
+    /**
+     * Priority by its name.
+     * @param name Name of the priority, in any case
+     * @return Priority, NORMAL if the name is unknown
+     */
+    private static SchedulingWire.Priority priority(final String name) {
+        final String upper = name.trim().toUpperCase(Locale.ENGLISH);
+        SchedulingWire.Priority priority = SchedulingWire.Priority.NORMAL;
+        for (final SchedulingWire.Priority known
+            : SchedulingWire.Priority.values()) {
+            if (known.name().equals(upper)) {
+                priority = known;
+                break;
+            }
+        }
+        return priority;
+    }
+
+    /**
+     * Wait for a slot.
+     * @param priority Priority of the request
+     * @throws InterruptedIOException If interrupted while waiting
+     */
+    private void acquire(final SchedulingWire.Priority priority)
+        throws InterruptedIOException {
+        synchronized (this.queue) {
+            final double tag = Math.max(
+                this.clock, this.last.getOrDefault(priority, 0.0)
+            ) + 1.0 / priority.weight();
+            this.last.put(priority, tag);
+            final SchedulingWire.Ticket ticket =
+                new SchedulingWire.Ticket(tag, this.serial);
+            ++this.serial;
+            this.queue.add(ticket);
+            try {
+                while (this.queue.peek() != ticket
+                    || this.running >= this.max) {
+                    this.queue.wait();
+                }
+            } catch (final InterruptedException ex) {
+                this.queue.remove(ticket);
+                this.queue.notifyAll();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ex.getMessage());
+            }
+            this.queue.poll();
+            ++this.running;
+            this.clock = tag;
+            this.queue.notifyAll();
+        }
+    }
+
+    /**
+     * Give the slot back.
+     */
+    private void release() {
+        synchronized (this.queue) {
+            --this.running;
+            this.queue.notifyAll();
+        }
+    }
+
+    /**
+     * Priority of the request.
+     * @since 2.0
+     */
+    public enum Priority {
+        /**
+         * Requests a user is waiting for.
+         */
+        INTERACTIVE(16),
+
+        /**
+         * Untagged requests.
+         */
+        NORMAL(4),
+
+        /**
+         * Crawls and other bulk work.
+         */
+        BACKGROUND(1);
+
+        /**
+         * Share of slots.
+         */
+        private final int share;
+
+        /**
+         * Ctor.
+         * @param weight Share of slots
+         */
+        Priority(final int weight) {
+            this.share = weight;
+        }
+
+        /**
+         * Share of slots, relative to other priorities.
+         * @return Weight
+         */
+        public int weight() {
+            return this.share;
+        }
+    }
+
+    /**
+     * Place of a waiting request in the queue.
+     * @since 2.0
+     */
+    @EqualsAndHashCode
+    private static final class Ticket
+        implements Comparable<SchedulingWire.Ticket> {
+        /**
+         * Virtual finish tag.
+         */
+        private final double tag;
+
+        /**
+         * Order of arrival.
+         */
+        private final long order;
+
+        /**
+         * Ctor.
+         * @param finish Virtual finish tag
+         * @param arrival Order of arrival
+         */
+        Ticket(final double finish, final long arrival) {
+            this.tag = finish;
+            this.order = arrival;
+        }
+
+        @Override
+        public int compareTo(final SchedulingWire.Ticket other) {
+            int cmp = Double.compare(this.tag, other.tag);
+            if (cmp == 0) {
+                cmp = Long.compare(this.order, other.order);
+            }
+            return cmp;
+        }
+    }
+}
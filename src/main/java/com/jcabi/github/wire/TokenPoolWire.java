@@ -0,0 +1,456 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.ImmutableHeader;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that spreads requests over a pool of OAuth tokens.
+ *
+ * <p>Every request goes out with the {@code Authorization} header of the
+ * token that has the most requests remaining, according to the
+ * {@code X-RateLimit-Remaining} and {@code X-RateLimit-Reset} headers of
+ * the previous responses it got. Budgets are kept per resource, named
+ * as in the {@code X-RateLimit-Resource} header, so a token exhausted by
+ * search is still used for {@code core} requests. Tokens that were never
+ * used, or whose limit is already reset, are considered to have full
+ * budget. So the total number of requests per hour grows with the number
+ * of tokens:
+ *
+ * <pre> GitHub github = new RtGitHub(
+ *   new RtGitHub().entry().through(
+ *     TokenPoolWire.class, Arrays.asList("token-1", "token-2")
+ *   )
+ * );</pre>
+ *
+ * <p>When a response has a {@code Link} header with the next page, the
+ * token is pinned to the path of the request, so all pages of the same
+ * listing are fetched with the same token, while it has budget left.
+ * The pin is released with the last page, or a minute after the last
+ * request to the path, if the walk was abandoned before the last page.
+ *
+ * <p>The wire keeps its state, so all requests made from the same
+ * {@link com.jcabi.github.GitHub} share it. Budgets of the tokens are
+ * also recorded into and read from the {@link Ledger}, so requests made
+ * with the same tokens from other objects are taken into account.
+ *
+ * @since 2.0
+ */
+@ToString(of = "tokens")
+@EqualsAndHashCode(of = { "origin", "tokens" })
+public final class TokenPoolWire implements Wire {
+
+    /**
+     * Authorization header.
+     */
+    private static final String HEADER = "Authorization";
+
+    /**
+     * How long a pin lives after the last request to its path, in msec.
+     */
+    private static final long LINGER = TimeUnit.MINUTES.toMillis(1L);
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Tokens.
+     */
+    private final transient List<TokenPoolWire.Token> tokens;
+
+    /**
+     * Tokens pinned to paths of paginated listings.
+     */
+    private final transient ConcurrentMap<String, TokenPoolWire.Pin> pins;
+
+    /**
+     * Ledger of observed rate limits.
+     */
+    private final transient Ledger ledger;
+
+    /**
+     * How long a pin lives after the last request to its path, in msec.
+     */
+    private final transient long linger;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param secrets OAuth tokens
+     */
+    public TokenPoolWire(final Wire wire, final Collection<String> secrets) {
+        this(wire, secrets, Ledger.SHARED);
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param secrets OAuth tokens
+     * @param book Ledger of observed rate limits
+     */
+    public TokenPoolWire(final Wire wire, final Collection<String> secrets,
+        final Ledger book) {
+        this(wire, secrets, book, TokenPoolWire.LINGER);
+    }
+
+    /**
+     * Ctor.
+     * @param wire Original wire
+     * @param secrets OAuth tokens
+     * @param book Ledger of observed rate limits
+     * @param msec How long a pin lives after the last request to its path
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    TokenPoolWire(final Wire wire, final Collection<String> secrets,
+        final Ledger book, final long msec) {
+        if (secrets.isEmpty()) {
+            throw new IllegalArgumentException("At least one token is required");
+        }
+        this.origin = wire;
+        this.tokens = new ArrayList<>(secrets.size());
+        for (final String secret : secrets) {
+            this.tokens.add(new TokenPoolWire.Token(secret));
+        }
+        this.pins = new ConcurrentHashMap<>(0);
+        this.ledger = book;
+        this.linger = msec;
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final String path = URI.create(home).getPath();
+        final String guess = Ledger.resource(home);
+        final TokenPoolWire.Token token = this.pick(home, guess);
+        final Collection<Map.Entry<String, String>> hdrs = new LinkedList<>();
+        for (final Map.Entry<String, String> header : headers) {
+            if (!TokenPoolWire.HEADER.equalsIgnoreCase(header.getKey())) {
+                hdrs.add(header);
+            }
+        }
+        hdrs.add(new ImmutableHeader(TokenPoolWire.HEADER, token.header()));
+        final Response resp = this.origin.send(
+            req, home, method, hdrs, content, connect, read
+        );
+        this.ledger.record(home, hdrs, resp);
+        String resource = Ledger.header(resp, "X-RateLimit-Resource");
+        if (resource == null) {
+            resource = guess;
+        }
+        token.update(
+            resource,
+            Ledger.header(resp, "X-RateLimit-Remaining"),
+            Ledger.header(resp, "X-RateLimit-Reset")
+        );
+        final String link = Ledger.header(resp, "Link");
+        if (link != null && link.contains("rel=\"next\"")) {
+            this.pins.put(
+                path, new TokenPoolWire.Pin(token, System.currentTimeMillis())
+            );
+        } else {
+            this.pins.computeIfPresent(
+                path, (key, pin) -> pin.release(token)
+            );
+        }
+        return resp;
+    }
+
+    /**
+     * Pick the token for the request.
+     * @param home URI of the request
+     * @param resource Name of the resource the request will count against
+     * @return Token
+     */
+    private TokenPoolWire.Token pick(final String home,
+        final String resource) {
+        final String path = URI.create(home).getPath();
+        final long now = System.currentTimeMillis();
+        this.pins.values().removeIf(pin -> pin.stale(now, this.linger));
+        final TokenPoolWire.Pin pinned = this.pins.get(path);
+        TokenPoolWire.Token best = null;
+        if (pinned != null) {
+            best = pinned.token();
+        }
+        synchronized (this.tokens) {
+            for (final TokenPoolWire.Token token : this.tokens) {
+                this.ledger.entry(home, token.header(), resource).ifPresent(
+                    entry -> token.update(resource, entry)
+                );
+            }
+            if (best == null || best.available(resource, now) <= 0) {
+                best = this.tokens.get(0);
+                for (final TokenPoolWire.Token token : this.tokens) {
+                    if (token.available(resource, now)
+                        > best.available(resource, now)) {
+                        best = token;
+                    }
+                }
+            }
+            best.take(resource, now);
+        }
+        return best;
+    }
+
+
+    /**
+     * Token pinned to the path of a paginated listing.
+     * @since 2.0
+     */
+    private static final class Pin {
+        /**
+         * Pinned token.
+         */
+        private final transient TokenPoolWire.Token pinned;
+
+        /**
+         * Time of the last request to the path, in milliseconds.
+         */
+        private final transient long time;
+
+        /**
+         * Ctor.
+         * @param token Pinned token
+         * @param msec Time of the last request to the path
+         */
+        Pin(final TokenPoolWire.Token token, final long msec) {
+            this.pinned = token;
+            this.time = msec;
+        }
+
+        /**
+         * Pinned token.
+         * @return Token
+         */
+        TokenPoolWire.Token token() {
+            return this.pinned;
+        }
+
+        /**
+         * Is it left by an abandoned walk?
+         * @param now Current time, in milliseconds
+         * @param linger How long a pin lives, in milliseconds
+         * @return TRUE if it is
+         */
+        boolean stale(final long now, final long linger) {
+            return now - this.time >= linger;
+        }
+
+        /**
+         * Release the pin, if it is for the token.
+         * @param token Token the last page was fetched with
+         * @return NULL if released, this pin otherwise
+         */
+        TokenPoolWire.Pin release(final TokenPoolWire.Token token) {
+            TokenPoolWire.Pin pin = this;
+            if (this.pinned.equals(token)) {
+                pin = null;
+            }
+            return pin;
+        }
+    }
+
+    /**
+     * Token and its known budgets, by resources.
+     * @since 2.0
+     */
+    @ToString(of = "windows")
+    private static final class Token {
+        /**
+         * OAuth token.
+         */
+        private final transient String key;
+
+        /**
+         * Budgets, by names of resources.
+         */
+        private final transient Map<String, TokenPoolWire.Window> windows;
+
+        /**
+         * Ctor.
+         * @param secret OAuth token
+         */
+        Token(final String secret) {
+            this.key = secret;
+            this.windows = new HashMap<>(0);
+        }
+
+        /**
+         * Value of the Authorization header.
+         * @return Header value
+         */
+        String header() {
+            return String.format("token %s", this.key);
+        }
+
+        /**
+         * Number of requests remaining.
+         * @param resource Name of the resource
+         * @param now Current time, in milliseconds
+         * @return Number of requests
+         */
+        synchronized int available(final String resource, final long now) {
+            return this.window(resource).available(now);
+        }
+
+        /**
+         * Count the request that is about to be sent.
+         * @param resource Name of the resource
+         * @param now Current time, in milliseconds
+         */
+        synchronized void take(final String resource, final long now) {
+            this.window(resource).take(now);
+        }
+
+        /**
+         * Update the budget from the response headers.
+         * @param resource Name of the resource
+         * @param left Value of X-RateLimit-Remaining or NULL
+         * @param when Value of X-RateLimit-Reset or NULL
+         */
+        synchronized void update(final String resource, final String left,
+            final String when) {
+            if (left != null && when != null) {
+                try {
+                    this.window(resource).update(
+                        Integer.parseInt(left.trim()),
+                        TimeUnit.SECONDS.toMillis(Long.parseLong(when.trim()))
+                    );
+                } catch (final NumberFormatException ex) {
+                    this.window(resource).forget();
+                }
+            }
+        }
+
+        /**
+         * Update the budget from the observation recorded in the ledger.
+         * @param resource Name of the resource
+         * @param entry Observation
+         */
+        synchronized void update(final String resource,
+            final Ledger.Entry entry) {
+            this.window(resource).merge(
+                entry.remaining(), TimeUnit.SECONDS.toMillis(entry.reset())
+            );
+        }
+
+        /**
+         * Budget of the resource.
+         * @param resource Name of the resource
+         * @return Budget
+         */
+        private TokenPoolWire.Window window(final String resource) {
+            return this.windows.computeIfAbsent(
+                resource, name -> new TokenPoolWire.Window()
+            );
+        }
+    }
+
+    /**
+     * Budget of one resource in the rate limit window.
+     * @since 2.0
+     */
+    @ToString
+    private static final class Window {
+        /**
+         * Requests remaining, or {@link Integer#MAX_VALUE} if unknown.
+         */
+        private transient int remaining;
+
+        /**
+         * Time of the limit reset, in milliseconds.
+         */
+        private transient long reset;
+
+        /**
+         * Ctor.
+         */
+        Window() {
+            this.remaining = Integer.MAX_VALUE;
+        }
+
+        /**
+         * Number of requests remaining.
+         * @param now Current time, in milliseconds
+         * @return Number of requests
+         */
+        int available(final long now) {
+            final int result;
+            if (now >= this.reset) {
+                result = Integer.MAX_VALUE;
+            } else {
+                result = this.remaining;
+            }
+            return result;
+        }
+
+        /**
+         * Count the request that is about to be sent.
+         * @param now Current time, in milliseconds
+         */
+        void take(final long now) {
+            if (now < this.reset && this.remaining > 0) {
+                --this.remaining;
+            }
+        }
+
+        /**
+         * Replace the budget with the one from the response.
+         * @param left Requests remaining
+         * @param when Time of the limit reset, in milliseconds
+         */
+        void update(final int left, final long when) {
+            this.remaining = left;
+            this.reset = when;
+        }
+
+        /**
+         * Merge the budget with the one observed elsewhere.
+         * @param left Requests remaining
+         * @param when Time of the limit reset, in milliseconds
+         */
+        void merge(final int left, final long when) {
+            if (when == this.reset) {
+                this.remaining = Math.min(this.remaining, left);
+            } else if (when > this.reset) {
+                this.remaining = left;
+                this.reset = when;
+            }
+        }
+
+        /**
+         * Forget the budget, since it is not known any more.
+         */
+        void forget() {
+            this.remaining = Integer.MAX_VALUE;
+            this.reset = 0L;
+        }
+    }
+}
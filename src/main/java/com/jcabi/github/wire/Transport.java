@@ -0,0 +1,278 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.aspects.Immutable;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Configuration of the HTTP transport used by {@link PooledWire}.
+ *
+ * <p>The object is immutable, every {@code with*()} method returns a new
+ * configuration. Equal configurations share the same connection pool,
+ * so it is safe to create many {@link com.jcabi.github.RtGitHub} objects
+ * with the same transport:
+ *
+ * <pre> GitHub github = new RtGitHub(
+ *   oauthKey,
+ *   new Transport()
+ *     .withMaxPerRoute(64)
+ *     .withIdleEviction(10)
+ *     .withReadTimeout(30_000)
+ * );</pre>
+ *
+ * <p>Timeouts set on a {@link com.jcabi.http.Request} with
+ * {@code timeout()} take precedence over the ones configured here.
+ * Zero timeout means "no timeout", zero socket buffer means "operating
+ * system default".
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Transport {
+
+    /**
+     * Maximum number of connections per route.
+     */
+    private final transient int routes;
+
+    /**
+     * Maximum number of connections in total.
+     */
+    private final transient int total;
+
+    /**
+     * Idle time in seconds, after which connections are evicted.
+     */
+    private final transient int idle;
+
+    /**
+     * Keep-alive in seconds, if the server doesn't specify it.
+     */
+    private final transient int alive;
+
+    /**
+     * Size of socket send and receive buffers, in bytes.
+     */
+    private final transient int buffer;
+
+    /**
+     * Connect timeout in milliseconds.
+     */
+    private final transient int connect;
+
+    /**
+     * Read timeout in milliseconds.
+     */
+    private final transient int read;
+
+    /**
+     * Public ctor, with default settings.
+     */
+    public Transport() {
+        // @checkstyle MagicNumber (1 line)
+        this(20, 100, 30, 60, 0, 0, 0);
+    }
+
+    /**
+     * Private ctor.
+     * @param rts Maximum number of connections per route
+     * @param ttl Maximum number of connections in total
+     * @param idl Idle time in seconds, after which connections are evicted
+     * @param alv Keep-alive in seconds, if the server doesn't specify it
+     * @param bfr Size of socket buffers, in bytes
+     * @param cnct Connect timeout in milliseconds
+     * @param rd Read timeout in milliseconds
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+    private Transport(final int rts, final int ttl, final int idl,
+        final int alv, final int bfr, final int cnct, final int rd) {
+        Transport.positive("max per route", rts);
+        Transport.positive("max total", ttl);
+        Transport.notNegative("idle eviction", idl);
+        Transport.notNegative("keep-alive", alv);
+        Transport.notNegative("socket buffer", bfr);
+        Transport.notNegative("connect timeout", cnct);
+        Transport.notNegative("read timeout", rd);
+        this.routes = rts;
+        this.total = ttl;
+        this.idle = idl;
+        this.alive = alv;
+        this.buffer = bfr;
+        this.connect = cnct;
+        this.read = rd;
+    }
+
+    /**
+     * Maximum number of connections per route.
+     * @return Number of connections
+     */
+    public int maxPerRoute() {
+        return this.routes;
+    }
+
+    /**
+     * Maximum number of connections in total.
+     * @return Number of connections
+     */
+    public int maxTotal() {
+        return this.total;
+    }
+
+    /**
+     * Idle time after which pooled connections are evicted.
+     * @return Seconds, zero if idle connections are never evicted
+     */
+    public int idleEviction() {
+        return this.idle;
+    }
+
+    /**
+     * Keep-alive used when the server doesn't send {@code Keep-Alive}.
+     * @return Seconds, zero if connections are never reused
+     */
+    public int keepAlive() {
+        return this.alive;
+    }
+
+    /**
+     * Size of socket send and receive buffers.
+     * @return Bytes, zero for operating system default
+     */
+    public int socketBuffer() {
+        return this.buffer;
+    }
+
+    /**
+     * Connect timeout.
+     * @return Milliseconds, zero for no timeout
+     */
+    public int connectTimeout() {
+        return this.connect;
+    }
+
+    /**
+     * Read timeout.
+     * @return Milliseconds, zero for no timeout
+     */
+    public int readTimeout() {
+        return this.read;
+    }
+
+    /**
+     * Returns a Transport with the given maximum connections per route.
+     * @param max Maximum number of connections per route
+     * @return Transport
+     */
+    public Transport withMaxPerRoute(final int max) {
+        return new Transport(
+            max, Math.max(max, this.total), this.idle, this.alive,
+            this.buffer, this.connect, this.read
+        );
+    }
+
+    /**
+     * Returns a Transport with the given maximum connections in total.
+     * @param max Maximum number of connections in total
+     * @return Transport
+     */
+    public Transport withMaxTotal(final int max) {
+        return new Transport(
+            Math.min(this.routes, max), max, this.idle, this.alive,
+            this.buffer, this.connect, this.read
+        );
+    }
+
+    /**
+     * Returns a Transport with the given idle eviction time.
+     * @param seconds Idle time in seconds, zero to never evict
+     * @return Transport
+     */
+    public Transport withIdleEviction(final int seconds) {
+        return new Transport(
+            this.routes, this.total, seconds, this.alive,
+            this.buffer, this.connect, this.read
+        );
+    }
+
+    /**
+     * Returns a Transport with the given keep-alive.
+     * @param seconds Keep-alive in seconds, zero to disable reuse
+     * @return Transport
+     */
+    public Transport withKeepAlive(final int seconds) {
+        return new Transport(
+            this.routes, this.total, this.idle, seconds,
+            this.buffer, this.connect, this.read
+        );
+    }
+
+    /**
+     * Returns a Transport with the given socket buffers size.
+     * @param bytes Size of socket buffers, zero for system default
+     * @return Transport
+     */
+    public Transport withSocketBuffer(final int bytes) {
+        return new Transport(
+            this.routes, this.total, this.idle, this.alive,
+            bytes, this.connect, this.read
+        );
+    }
+
+    /**
+     * Returns a Transport with the given connect timeout.
+     * @param millis Connect timeout in milliseconds, zero for no timeout
+     * @return Transport
+     */
+    public Transport withConnectTimeout(final int millis) {
+        return new Transport(
+            this.routes, this.total, this.idle, this.alive,
+            this.buffer, millis, this.read
+        );
+    }
+
+    /**
+     * Returns a Transport with the given read timeout.
+     * @param millis Read timeout in milliseconds, zero for no timeout
+     * @return Transport
+     */
+    public Transport withReadTimeout(final int millis) {
+        return new Transport(
+            this.routes, this.total, this.idle, this.alive,
+            this.buffer, this.connect, millis
+        );
+    }
+
+    /**
+     * Make sure the value is positive.
+     * @param name Name of the setting
+     * @param value Value
+     */
+    private static void positive(final String name, final int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(
+                String.format("%s must be positive: %d", name, value)
+            );
+        }
+    }
+
+    /**
+     * Make sure the value is not negative.
+     * @param name Name of the setting
+     * @param value Value
+     */
+    private static void notNegative(final String name, final int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(
+                String.format("%s can't be negative: %d", name, value)
+            );
+        }
+    }
+}
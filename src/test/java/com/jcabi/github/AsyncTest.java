@@ -0,0 +1,151 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.ApacheRequest;
+import com.jcabi.http.request.FakeRequest;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Async}.
+ * @since 2.0
+ */
+@ExtendWith(RandomPort.class)
+final class AsyncTest {
+
+    /**
+     * Async can read JSON in the future.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void readsJson() throws Exception {
+        final RtGitHub github = new RtGitHub(
+            new FakeRequest().withBody("{\"name\":\"octocat\"}")
+        );
+        MatcherAssert.assertThat(
+            "JSON was not read",
+            github.async().json(github.users().get("octocat"))
+                .get().getString("name"),
+            Matchers.equalTo("octocat")
+        );
+    }
+
+    /**
+     * Async can report failure of the call.
+     */
+    @Test
+    void reportsFailure() {
+        final RtGitHub github = new RtGitHub(
+            new FakeRequest().withStatus(HttpURLConnection.HTTP_NOT_FOUND)
+        );
+        final ExecutionException error = Assertions.assertThrows(
+            ExecutionException.class,
+            () -> github.async().json(github.users().get("nobody")).get(),
+            "Failure was not reported"
+        );
+        MatcherAssert.assertThat(
+            "Cause is not I/O error",
+            error.getCause(),
+            Matchers.instanceOf(IOException.class)
+        );
+    }
+
+    /**
+     * Async can iterate pages.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void iteratesPages() throws Exception {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    AsyncTest.page("first")
+                        .withHeader("Link", "</p?page=2>; rel=\"next\"")
+                )
+                .next(AsyncTest.page("second"))
+                .start(RandomPort.port())
+        ) {
+            final Async.Pages<String, JsonObject> pages =
+                new RtGitHub(new FakeRequest()).async().pages(
+                    new RtPagination<>(
+                        new ApacheRequest(container.home()),
+                        object -> object.getString("id")
+                    )
+                );
+            MatcherAssert.assertThat(
+                "First page is wrong",
+                pages.next().get(),
+                Matchers.contains("first")
+            );
+            MatcherAssert.assertThat(
+                "Second page is wrong",
+                pages.next().get(),
+                Matchers.contains("second")
+            );
+            final List<String> end = pages.next().get();
+            MatcherAssert.assertThat(
+                "There are more pages",
+                end,
+                Matchers.empty()
+            );
+            container.stop();
+        }
+    }
+
+    /**
+     * Async can iterate pages fetched by the source of the pagination.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void iteratesPagesOfItsSource() throws Exception {
+        final Async.Pages<String, JsonObject> pages =
+            new RtGitHub(new FakeRequest()).async().pages(
+                new RtValuePagination<String, JsonObject>(
+                    new FakeRequest(),
+                    object -> object.getString("login"),
+                    req -> new RtValuePagination.Page<>(
+                        Collections.singletonList(
+                            Json.createObjectBuilder()
+                                .add("login", "jeff").build()
+                        ),
+                        null
+                    )
+                )
+            );
+        MatcherAssert.assertThat(
+            "Page was not fetched by the source",
+            pages.next().get(),
+            Matchers.contains("jeff")
+        );
+    }
+
+    /**
+     * Create a page with one object.
+     * @param id Identifier of the object
+     * @return Answer
+     */
+    private static MkAnswer.Simple page(final String id) {
+        return new MkAnswer.Simple(
+            HttpURLConnection.HTTP_OK,
+            Json.createArrayBuilder()
+                .add(Json.createObjectBuilder().add("id", id))
+                .build().toString()
+        );
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link FanOut}.
+ * @since 2.0
+ * @checkstyle MagicNumberCheck (200 lines)
+ */
+final class FanOutTest {
+
+    /**
+     * FanOut can run action for all items with bounded concurrency.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void runsAllItemsWithBoundedConcurrency() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final Collection<Integer> items = new ArrayList<>(50);
+        for (int idx = 0; idx < 50; ++idx) {
+            items.add(idx);
+        }
+        final List<Integer> results = new ArrayList<>(50);
+        try (FanOut.Results<Integer> squares = new FanOut<Integer, Integer>(
+            item -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(5L);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                } finally {
+                    running.decrementAndGet();
+                }
+                return item * item;
+            },
+            4
+        ).apply(items)) {
+            while (squares.hasNext()) {
+                results.add(squares.next());
+            }
+        }
+        MatcherAssert.assertThat(
+            "Not all results came back",
+            results,
+            Matchers.hasSize(50)
+        );
+        MatcherAssert.assertThat(
+            "Result is missing",
+            results,
+            Matchers.hasItem(49 * 49)
+        );
+        MatcherAssert.assertThat(
+            "Concurrency was not bounded",
+            peak.get(),
+            Matchers.lessThanOrEqualTo(4)
+        );
+    }
+
+    /**
+     * FanOut can limit concurrency per key.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void limitsConcurrencyPerKey() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        int count = 0;
+        try (FanOut.Results<String> results = new FanOut<String, String>(
+            item -> {
+                if (item.startsWith("a")) {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(5L);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(ex);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                }
+                return item;
+            },
+            Executors.newCachedThreadPool(),
+            8, 1, item -> item.substring(0, 1)
+        ).apply(Arrays.asList("a1", "b1", "a2", "b2", "a3", "a4"))) {
+            while (results.hasNext()) {
+                results.next();
+                ++count;
+            }
+        }
+        MatcherAssert.assertThat(
+            "Not all results came back",
+            count,
+            Matchers.equalTo(6)
+        );
+        MatcherAssert.assertThat(
+            "Concurrency per key was not limited",
+            peak.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * FanOut can propagate failure of the action.
+     */
+    @Test
+    void propagatesFailure() {
+        final FanOut.Results<Integer> results = new FanOut<Integer, Integer>(
+            item -> {
+                if (item == 3) {
+                    throw new IOException("broken");
+                }
+                return item;
+            },
+            2
+        ).apply(Arrays.asList(1, 2, 3, 4, 5));
+        final IllegalStateException error = Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> {
+                while (results.hasNext()) {
+                    results.next();
+                }
+            },
+            "Failure was not propagated"
+        );
+        MatcherAssert.assertThat(
+            "Cause is wrong",
+            error.getCause().getMessage(),
+            Matchers.equalTo("broken")
+        );
+        MatcherAssert.assertThat(
+            "Results were not closed after failure",
+            results.hasNext(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * FanOut can cancel other actions as soon as one fails, before
+     * the failure is taken from the results.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void cancelsOthersWhenFailureHappens() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        try (FanOut.Results<Integer> results = new FanOut<Integer, Integer>(
+            item -> {
+                if (item == 2) {
+                    FanOutTest.await(started);
+                    throw new IOException("broken");
+                }
+                started.countDown();
+                try {
+                    TimeUnit.MINUTES.sleep(1L);
+                } catch (final InterruptedException ex) {
+                    interrupted.countDown();
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+                return item;
+            },
+            2
+        ).apply(Arrays.asList(1, 2))) {
+            MatcherAssert.assertThat(
+                "Running action was not cancelled",
+                interrupted.await(10L, TimeUnit.SECONDS),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "Failure was not reported",
+                results.hasNext(),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    /**
+     * FanOut can run actions on a pool of one thread.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void runsOnSingleThread() throws Exception {
+        final ExecutorService single = Executors.newFixedThreadPool(1);
+        final List<Integer> results = new ArrayList<>(3);
+        try (FanOut.Results<Integer> doubles = new FanOut<Integer, Integer>(
+            item -> item * 2, single, 2, 2, item -> ""
+        ).apply(Arrays.asList(1, 2, 3))) {
+            while (doubles.hasNext()) {
+                results.add(doubles.next());
+            }
+        } finally {
+            single.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "Not all results came back",
+            results,
+            Matchers.containsInAnyOrder(2, 4, 6)
+        );
+    }
+
+    /**
+     * Wait for the latch, so the action fails only after the other one
+     * started, and there is something running to cancel.
+     * @param latch Latch
+     * @throws IOException If interrupted
+     */
+    private static void await(final CountDownLatch latch) throws IOException {
+        try {
+            latch.await(10L, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        }
+    }
+}
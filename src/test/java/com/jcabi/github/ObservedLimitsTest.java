@@ -0,0 +1,154 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.github.wire.Ledger;
+import com.jcabi.http.ImmutableHeader;
+import com.jcabi.http.Request;
+import com.jcabi.http.request.FakeRequest;
+import com.jcabi.http.request.JdkRequest;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link ObservedLimits}.
+ * @since 2.0
+ * @checkstyle MagicNumberCheck (100 lines)
+ */
+final class ObservedLimitsTest {
+
+    /**
+     * ObservedLimits can answer from the ledger.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void answersFromLedger() throws IOException {
+        final Ledger ledger = new Ledger();
+        final Request request = ObservedLimitsTest.request();
+        ObservedLimitsTest.observe(ledger, request, "token abc");
+        MatcherAssert.assertThat(
+            "Limit was not taken from the ledger",
+            new Limit.Smart(
+                new ObservedLimits(
+                    new RtLimits(Mockito.mock(GitHub.class), request),
+                    request, ledger, 60_000L
+                ).get("core")
+            ).remaining(),
+            Matchers.equalTo(4321)
+        );
+    }
+
+    /**
+     * ObservedLimits can fetch limits if nothing was observed.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void fetchesWhenNothingObserved() throws IOException {
+        final Request request = ObservedLimitsTest.request();
+        MatcherAssert.assertThat(
+            "Limit was not fetched",
+            new Limit.Smart(
+                new ObservedLimits(
+                    new RtLimits(Mockito.mock(GitHub.class), request),
+                    request, new Ledger(), 60_000L
+                ).get("core")
+            ).remaining(),
+            Matchers.equalTo(4999)
+        );
+    }
+
+    /**
+     * ObservedLimits can ignore limits observed for other credentials.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void ignoresOtherCredentials() throws IOException {
+        final Ledger ledger = new Ledger();
+        final Request request = ObservedLimitsTest.request();
+        ObservedLimitsTest.observe(ledger, request, "token other");
+        MatcherAssert.assertThat(
+            "Limit of another credential was used",
+            new Limit.Smart(
+                new ObservedLimits(
+                    new RtLimits(Mockito.mock(GitHub.class), request),
+                    request, ledger, 60_000L
+                ).get("core")
+            ).remaining(),
+            Matchers.equalTo(4999)
+        );
+    }
+
+    /**
+     * ObservedLimits can read the credential without a request to
+     * the server.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void readsCredentialOffline() throws IOException {
+        final Ledger ledger = new Ledger();
+        final Request request = new JdkRequest("http://localhost:1/")
+            .header("Authorization", "token offline");
+        ObservedLimitsTest.observe(ledger, request, "token offline");
+        MatcherAssert.assertThat(
+            "Limit was not taken from the ledger",
+            new Limit.Smart(
+                new ObservedLimits(
+                    Mockito.mock(Limits.class), request, ledger, 60_000L
+                ).get("core")
+            ).remaining(),
+            Matchers.equalTo(4321)
+        );
+    }
+
+    /**
+     * Record the observation of 4321 requests remaining.
+     * @param ledger Ledger
+     * @param request Request
+     * @param credential Credential of the observation
+     * @throws IOException If fails
+     */
+    private static void observe(final Ledger ledger, final Request request,
+        final String credential) throws IOException {
+        ledger.record(
+            request.uri().get().toString(),
+            Collections.singletonList(
+                new ImmutableHeader("Authorization", credential)
+            ),
+            new FakeRequest()
+                .withHeader("X-RateLimit-Limit", "5000")
+                .withHeader("X-RateLimit-Remaining", "4321")
+                .withHeader(
+                    "X-RateLimit-Reset",
+                    String.valueOf(
+                        TimeUnit.MILLISECONDS.toSeconds(
+                            System.currentTimeMillis()
+                        ) + 600L
+                    )
+                )
+                .fetch()
+        );
+    }
+
+    /**
+     * Request, which returns rate limits.
+     * @return Request
+     */
+    private static Request request() {
+        return new FakeRequest()
+            .withBody(
+                String.join(
+                    "",
+                    "{\"resources\":{\"core\":{\"limit\":5000,",
+                    "\"remaining\":4999,\"reset\":1372700873}}}"
+                )
+            )
+            .header("Authorization", "token abc");
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.ApacheRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link RtArchive}.
+ * @since 2.0
+ * @checkstyle MultipleStringLiteralsCheck (300 lines)
+ */
+@ExtendWith(RandomPort.class)
+final class RtArchiveTest {
+
+    /**
+     * Name longer than fits into the tar header.
+     */
+    private static final String LONG = String.join(
+        "", Collections.nCopies(30, "long")
+    );
+
+    /**
+     * RtArchive can save the tarball to the file.
+     * @param dir Temporary directory
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    void savesTarballToFile(@TempDir final Path dir) throws Exception {
+        final byte[] body = RtArchiveTest.tarball();
+        try (MkContainer container = new MkGrizzlyContainer().next(
+            new MkAnswer.Simple(HttpURLConnection.HTTP_OK).withBody(body)
+        ).start(RandomPort.port())) {
+            final Path file = dir.resolve("repo.tar.gz");
+            final long bytes = new RtArchive(
+                new ApacheRequest(container.home()), RtArchiveTest.repo(),
+                RtArchive.TARBALL, "master"
+            ).save(file);
+            MatcherAssert.assertThat(
+                "Wrong number of bytes saved",
+                bytes,
+                Matchers.equalTo((long) body.length)
+            );
+            MatcherAssert.assertThat(
+                "Wrong content saved",
+                Files.readAllBytes(file),
+                Matchers.equalTo(body)
+            );
+            MatcherAssert.assertThat(
+                "Wrong path requested",
+                container.take().uri().getPath(),
+                Matchers.equalTo("/repos/jeff/demo/tarball/master")
+            );
+        }
+    }
+
+    /**
+     * RtArchive can read entries of the tarball one by one, skipping
+     * the content which isn't read.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    void readsEntriesOfTarball() throws Exception {
+        try (MkContainer container = new MkGrizzlyContainer().next(
+            new MkAnswer.Simple(HttpURLConnection.HTTP_OK)
+                .withBody(RtArchiveTest.tarball())
+        ).start(RandomPort.port())) {
+            final List<String> paths = new LinkedList<>();
+            final List<String> contents = new LinkedList<>();
+            try (Archive.Entries entries = new RtArchive(
+                new ApacheRequest(container.home()), RtArchiveTest.repo(),
+                RtArchive.TARBALL, "v1.0"
+            ).entries()) {
+                while (entries.hasNext()) {
+                    final Archive.Entry entry = entries.next();
+                    paths.add(entry.path());
+                    if (entry.path().endsWith(".txt")) {
+                        contents.add(
+                            IOUtils.toString(
+                                entry.content(), StandardCharsets.UTF_8
+                            )
+                        );
+                    }
+                }
+            }
+            MatcherAssert.assertThat(
+                "Wrong entries read",
+                paths,
+                Matchers.contains(
+                    "demo-a1b2c3/", "demo-a1b2c3/skipped.bin",
+                    "demo-a1b2c3/hello.txt",
+                    String.format("demo-a1b2c3/%s.txt", RtArchiveTest.LONG)
+                )
+            );
+            MatcherAssert.assertThat(
+                "Wrong content read",
+                contents,
+                Matchers.contains("Hello, world!", "long")
+            );
+        }
+    }
+
+    /**
+     * RtArchive can read entries of the zipball one by one.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    void readsEntriesOfZipball() throws Exception {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(body)) {
+            zip.putNextEntry(new ZipEntry("demo-a1b2c3/"));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("demo-a1b2c3/README.md"));
+            zip.write("# Demo".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        try (MkContainer container = new MkGrizzlyContainer().next(
+            new MkAnswer.Simple(HttpURLConnection.HTTP_OK)
+                .withBody(body.toByteArray())
+        ).start(RandomPort.port())) {
+            try (Archive.Entries entries = new RtArchive(
+                new ApacheRequest(container.home()), RtArchiveTest.repo(),
+                RtArchive.ZIPBALL, "master"
+            ).entries()) {
+                MatcherAssert.assertThat(
+                    "Directory is not first",
+                    entries.next().directory(),
+                    Matchers.is(true)
+                );
+                final Archive.Entry file = entries.next();
+                MatcherAssert.assertThat(
+                    "Wrong file path",
+                    file.path(),
+                    Matchers.equalTo("demo-a1b2c3/README.md")
+                );
+                MatcherAssert.assertThat(
+                    "Wrong file content",
+                    IOUtils.toString(file.content(), StandardCharsets.UTF_8),
+                    Matchers.equalTo("# Demo")
+                );
+                MatcherAssert.assertThat(
+                    "Extra entries found",
+                    entries.hasNext(),
+                    Matchers.is(false)
+                );
+            }
+            MatcherAssert.assertThat(
+                "Wrong path requested",
+                container.take().uri().getPath(),
+                Matchers.equalTo("/repos/jeff/demo/zipball/master")
+            );
+        }
+    }
+
+    /**
+     * RtArchive can report a broken PAX header as an I/O problem.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    void reportsBrokenPaxHeader() throws Exception {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(body)) {
+            RtArchiveTest.entry(
+                gzip, "PaxHeaders/broken", 'x', "many path=broken.txt\n"
+            );
+            RtArchiveTest.entry(gzip, "broken.txt", '0', "broken");
+            gzip.write(new byte[1024]);
+        }
+        try (MkContainer container = new MkGrizzlyContainer().next(
+            new MkAnswer.Simple(HttpURLConnection.HTTP_OK)
+                .withBody(body.toByteArray())
+        ).start(RandomPort.port())) {
+            try (Archive.Entries entries = new RtArchive(
+                new ApacheRequest(container.home()), RtArchiveTest.repo(),
+                RtArchive.TARBALL, "master"
+            ).entries()) {
+                MatcherAssert.assertThat(
+                    "Broken PAX header was not reported as I/O problem",
+                    Assertions.assertThrows(
+                        IllegalStateException.class, entries::hasNext
+                    ).getCause(),
+                    Matchers.instanceOf(IOException.class)
+                );
+            }
+        }
+    }
+
+    /**
+     * Repo to archive.
+     * @return Repo
+     */
+    private static Repo repo() {
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.doReturn(new Coordinates.Simple("jeff", "demo"))
+            .when(repo).coordinates();
+        return repo;
+    }
+
+    /**
+     * Gzipped tarball, like the one GitHub makes.
+     * @return Bytes
+     * @throws IOException If fails
+     */
+    private static byte[] tarball() throws IOException {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(body)) {
+            RtArchiveTest.entry(
+                gzip, "pax_global_header", 'g', "52 comment=a1b2c3\n"
+            );
+            RtArchiveTest.entry(gzip, "demo-a1b2c3/", '5', "");
+            RtArchiveTest.entry(
+                gzip, "demo-a1b2c3/skipped.bin", '0',
+                String.join("", Collections.nCopies(700, "x"))
+            );
+            RtArchiveTest.entry(
+                gzip, "demo-a1b2c3/hello.txt", '0', "Hello, world!"
+            );
+            final String path = String.format(
+                "path=demo-a1b2c3/%s.txt\n", RtArchiveTest.LONG
+            );
+            RtArchiveTest.entry(
+                gzip, "PaxHeaders/long", 'x',
+                String.format("%d %s", path.length() + 4, path)
+            );
+            RtArchiveTest.entry(gzip, "demo-a1b2c3/long", '0', "long");
+            gzip.write(new byte[1024]);
+        }
+        return body.toByteArray();
+    }
+
+    /**
+     * Write the entry of the tar.
+     * @param out Where to write
+     * @param name Name
+     * @param type Type of the entry
+     * @param content Content
+     * @throws IOException If fails
+     */
+    private static void entry(final GZIPOutputStream out, final String name,
+        final char type, final String content) throws IOException {
+        final byte[] data = content.getBytes(StandardCharsets.UTF_8);
+        final byte[] header = new byte[512];
+        final byte[] path = name.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(path, 0, header, 0, path.length);
+        final byte[] size = String.format("%011o", data.length)
+            .getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(size, 0, header, 124, size.length);
+        header[156] = (byte) type;
+        final byte[] magic = "ustar\u000000"
+            .getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(magic, 0, header, 257, magic.length);
+        out.write(header);
+        out.write(data);
+        out.write(new byte[(512 - data.length % 512) % 512]);
+    }
+}
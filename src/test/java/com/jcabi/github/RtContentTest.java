@@ -14,9 +14,11 @@ import com.jcabi.http.request.ApacheRequest;
 import com.jcabi.http.request.FakeRequest;
 import jakarta.json.Json;
 import jakarta.ws.rs.core.HttpHeaders;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import org.apache.commons.io.IOUtils;
 import org.hamcrest.MatcherAssert;
@@ -132,6 +134,26 @@ final class RtContentTest {
         }
     }
 
+    @Test
+    void writesRawContentToChannel() throws IOException {
+        final String raw = "the streamed \u20ac";
+        try (MkContainer container = new MkGrizzlyContainer().next(
+            new MkAnswer.Simple(HttpURLConnection.HTTP_OK, raw)
+        ).start(RandomPort.port())) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            new RtContent(
+                new ApacheRequest(container.home()),
+                RtContentTest.repo(),
+                "stream"
+            ).raw(Channels.newChannel(out));
+            MatcherAssert.assertThat(
+                "Wrong content written",
+                new String(out.toByteArray(), StandardCharsets.UTF_8),
+                Matchers.is(raw)
+            );
+        }
+    }
+
     /**
      * Mock repo for GhIssue creation.
      * @return The mock repo.
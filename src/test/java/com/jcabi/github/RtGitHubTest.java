@@ -4,6 +4,7 @@
  */
 package com.jcabi.github;
 
+import com.jcabi.github.wire.Transport;
 import com.jcabi.http.request.FakeRequest;
 import java.io.IOException;
 import org.hamcrest.MatcherAssert;
@@ -136,4 +137,15 @@ final class RtGitHubTest {
             Matchers.equalTo(new RtGitHub(new FakeRequest()))
         );
     }
+
+    @Test
+    void equalsWithSameTransport() {
+        MatcherAssert.assertThat(
+            "GitHubs with equal transports are not equal",
+            new RtGitHub("token", new Transport().withMaxPerRoute(8)),
+            Matchers.equalTo(
+                new RtGitHub("token", new Transport().withMaxPerRoute(8))
+            )
+        );
+    }
 }
@@ -5,24 +5,31 @@
 package com.jcabi.github;
 
 import com.jcabi.github.mock.MkGitHub;
+import com.jcabi.github.wire.Ledger;
 import com.jcabi.http.Request;
 import com.jcabi.http.mock.MkAnswer;
 import com.jcabi.http.mock.MkContainer;
 import com.jcabi.http.mock.MkGrizzlyContainer;
 import com.jcabi.http.mock.MkQuery;
+import com.jcabi.http.mock.MkQueryMatchers;
 import com.jcabi.http.request.ApacheRequest;
 import com.jcabi.http.request.FakeRequest;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.HttpHeaders;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.io.IOUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 /**
@@ -171,6 +178,245 @@ final class RtReleaseAssetTest {
         }
     }
 
+    /**
+     * RtReleaseAsset can save raw content to a file, following the
+     * redirect to another host without the credentials.
+     * @param dir Temporary directory
+     * @throws Exception If a problem occurs.
+     */
+    @Test
+    void savesRawAssetToFile(@TempDir final Path dir) throws Exception {
+        try (
+            MkContainer storage = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "binary")
+            ).start(RandomPort.port());
+            MkContainer api = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_MOVED_TEMP)
+                    .withHeader(
+                        HttpHeaders.LOCATION,
+                        storage.home().toString().replace(
+                            "localhost", "127.0.0.1"
+                        )
+                    )
+            ).start(RandomPort.port())
+        ) {
+            final Path file = dir.resolve("asset.bin");
+            final long bytes = new RtReleaseAsset(
+                new ApacheRequest(api.home())
+                    .header(HttpHeaders.AUTHORIZATION, "token secret"),
+                RtReleaseAssetTest.release(),
+                5
+            ).raw(file);
+            MatcherAssert.assertThat(
+                "Wrong number of bytes saved",
+                bytes,
+                Matchers.equalTo(6L)
+            );
+            MatcherAssert.assertThat(
+                "Wrong content saved",
+                new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+                Matchers.equalTo("binary")
+            );
+            MatcherAssert.assertThat(
+                "Credentials were sent to another host",
+                storage.take().headers(),
+                Matchers.not(Matchers.hasKey(HttpHeaders.AUTHORIZATION))
+            );
+        }
+    }
+
+    /**
+     * RtReleaseAsset can record the rate limit of the download, which
+     * doesn't go through the wires.
+     * @param dir Temporary directory
+     * @throws Exception If a problem occurs.
+     */
+    @Test
+    void recordsRateLimitOfDownload(@TempDir final Path dir)
+        throws Exception {
+        try (
+            MkContainer storage = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "binary")
+            ).start(RandomPort.port());
+            MkContainer api = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_MOVED_TEMP)
+                    .withHeader(HttpHeaders.LOCATION, storage.home().toString())
+                    .withHeader("X-RateLimit-Limit", "5000")
+                    .withHeader("X-RateLimit-Remaining", "4321")
+                    .withHeader("X-RateLimit-Reset", "1700000000")
+            ).start(RandomPort.port())
+        ) {
+            new RtReleaseAsset(
+                new ApacheRequest(api.home())
+                    .header(HttpHeaders.AUTHORIZATION, "token download"),
+                RtReleaseAssetTest.release(),
+                6
+            ).raw(dir.resolve("limited.bin"));
+            MatcherAssert.assertThat(
+                "Rate limit of the download was not recorded",
+                Ledger.SHARED.entry(
+                    api.home().toString(), "token download", "core"
+                ).get().remaining(),
+                Matchers.equalTo(4321)
+            );
+        }
+    }
+
+    /**
+     * RtReleaseAsset can resume the download of the unchanged asset.
+     * @param dir Temporary directory
+     * @throws Exception If a problem occurs.
+     */
+    @Test
+    void resumesDownload(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("big.bin");
+        Files.write(file, "hello ".getBytes(StandardCharsets.UTF_8));
+        Files.write(
+            dir.resolve("big.bin.etag"),
+            "\"v1\"".getBytes(StandardCharsets.UTF_8)
+        );
+        try (
+            MkContainer container = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_PARTIAL, "world")
+                    .withHeader("Content-Range", "bytes 6-10/11")
+                    .withHeader(HttpHeaders.ETAG, "\"v1\"")
+            ).start(RandomPort.port())
+        ) {
+            MatcherAssert.assertThat(
+                "Wrong size of the file",
+                new RtReleaseAsset(
+                    new ApacheRequest(container.home()),
+                    RtReleaseAssetTest.release(),
+                    6
+                ).download(file),
+                Matchers.equalTo(11L)
+            );
+            final MkQuery query = container.take();
+            MatcherAssert.assertThat(
+                "Range was not requested",
+                query.headers().get("Range"),
+                Matchers.contains("bytes=6-")
+            );
+            MatcherAssert.assertThat(
+                "ETag was not checked",
+                query.headers().get("If-Range"),
+                Matchers.contains("\"v1\"")
+            );
+        }
+        MatcherAssert.assertThat(
+            "Segments were not joined",
+            new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+            Matchers.equalTo("hello world")
+        );
+        MatcherAssert.assertThat(
+            "ETag was not removed",
+            Files.exists(dir.resolve("big.bin.etag")),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * RtReleaseAsset can start the download again if the asset changed.
+     * @param dir Temporary directory
+     * @throws Exception If a problem occurs.
+     */
+    @Test
+    void restartsDownloadOfChangedAsset(@TempDir final Path dir)
+        throws Exception {
+        final Path file = dir.resolve("changed.bin");
+        Files.write(file, "stale content".getBytes(StandardCharsets.UTF_8));
+        Files.write(
+            dir.resolve("changed.bin.etag"),
+            "\"v1\"".getBytes(StandardCharsets.UTF_8)
+        );
+        try (
+            MkContainer container = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "fresh")
+                    .withHeader(HttpHeaders.ETAG, "\"v2\"")
+            ).start(RandomPort.port())
+        ) {
+            new RtReleaseAsset(
+                new ApacheRequest(container.home()),
+                RtReleaseAssetTest.release(),
+                7
+            ).download(file);
+        }
+        MatcherAssert.assertThat(
+            "Stale content was kept",
+            new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+            Matchers.equalTo("fresh")
+        );
+    }
+
+    /**
+     * RtReleaseAsset can download segments of the asset concurrently.
+     * @param dir Temporary directory
+     * @throws Exception If a problem occurs.
+     */
+    @Test
+    void downloadsSegmentsConcurrently(@TempDir final Path dir)
+        throws Exception {
+        final Path file = dir.resolve("segmented.bin");
+        final AtomicLong progress = new AtomicLong();
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    RtReleaseAssetTest.segment("0", "bytes 0-0/10"),
+                    MkQueryMatchers.hasHeader(
+                        "Range", Matchers.contains("bytes=0-0")
+                    )
+                )
+                .next(
+                    RtReleaseAssetTest.segment("01234", "bytes 0-4/10"),
+                    MkQueryMatchers.hasHeader(
+                        "Range", Matchers.contains("bytes=0-4")
+                    )
+                )
+                .next(
+                    RtReleaseAssetTest.segment("56789", "bytes 5-9/10"),
+                    MkQueryMatchers.hasHeader(
+                        "Range", Matchers.contains("bytes=5-9")
+                    )
+                )
+                .start(RandomPort.port())
+        ) {
+            MatcherAssert.assertThat(
+                "Wrong size of the file",
+                new RtReleaseAsset(
+                    new ApacheRequest(container.home()),
+                    RtReleaseAssetTest.release(),
+                    8
+                ).download(
+                    file, 2,
+                    (done, total) -> progress.accumulateAndGet(done, Math::max)
+                ),
+                Matchers.equalTo(10L)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Segments were not written in place",
+            new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+            Matchers.equalTo("0123456789")
+        );
+        MatcherAssert.assertThat(
+            "Progress was not reported",
+            progress.get(),
+            Matchers.equalTo(10L)
+        );
+    }
+
+    /**
+     * Answer with a segment of the asset.
+     * @param body Body of the segment
+     * @param range Content-Range of the segment
+     * @return Answer
+     */
+    private static MkAnswer segment(final String body, final String range) {
+        return new MkAnswer.Simple(HttpURLConnection.HTTP_PARTIAL, body)
+            .withHeader("Content-Range", range)
+            .withHeader(HttpHeaders.ETAG, "\"s1\"");
+    }
+
     /**
      * This method returns a Release for testing.
      * @return Release to be used for test.
@@ -5,18 +5,37 @@
 package com.jcabi.github;
 
 import com.jcabi.github.mock.MkGitHub;
+import com.jcabi.github.wire.PooledWire;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.mock.MkQuery;
+import com.jcabi.http.request.ApacheRequest;
+import com.jcabi.http.request.BaseRequest;
+import com.jcabi.http.request.DefaultResponse;
 import com.jcabi.http.request.FakeRequest;
+import com.jcabi.immutable.Array;
+import jakarta.ws.rs.core.HttpHeaders;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.commons.io.IOUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 /**
  * Test case for {@link RtReleaseAssets}.
  * @since 0.8
  */
+@ExtendWith(RandomPort.class)
 final class RtReleaseAssetsTest {
 
     /**
@@ -56,6 +75,90 @@ final class RtReleaseAssetsTest {
         );
     }
 
+    /**
+     * RtRelease can upload a release asset from a file, with its length.
+     * @param dir Temporary directory
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    void uploadReleaseAssetFromFile(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("app.zip");
+        Files.write(file, "zipped".getBytes(StandardCharsets.UTF_8));
+        final AtomicReference<String> length = new AtomicReference<>();
+        final AtomicReference<String> sent = new AtomicReference<>();
+        final ReleaseAssets assets = new RtReleaseAssets(
+            new BaseRequest(
+                (req, home, method, headers, content, connect, read) -> {
+                    for (final Map.Entry<String, String> header : headers) {
+                        if (PooledWire.SIZE.equals(header.getKey())) {
+                            length.set(header.getValue());
+                        }
+                    }
+                    sent.set(IOUtils.toString(content, StandardCharsets.UTF_8));
+                    return new DefaultResponse(
+                        req, HttpURLConnection.HTTP_CREATED, "Created",
+                        new Array<>(),
+                        "{\"id\":7}".getBytes(StandardCharsets.UTF_8)
+                    );
+                },
+                "https://api.github.com"
+            ),
+            RtReleaseAssetsTest.release()
+        );
+        MatcherAssert.assertThat(
+            "Wrong asset uploaded",
+            assets.upload(file, "application/zip", "app.zip").number(),
+            Matchers.is(7)
+        );
+        MatcherAssert.assertThat(
+            "Length was not sent",
+            length.get(),
+            Matchers.is("6")
+        );
+        MatcherAssert.assertThat(
+            "Content was not sent",
+            sent.get(),
+            Matchers.is("zipped")
+        );
+    }
+
+    /**
+     * RtRelease can upload a release asset from a file through
+     * the Apache HTTP client, which refuses Content-Length set by hand.
+     * @param dir Temporary directory
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    void uploadsFileThroughApacheClient(@TempDir final Path dir)
+        throws Exception {
+        final Path file = dir.resolve("notes.txt");
+        Files.write(file, "release notes".getBytes(StandardCharsets.UTF_8));
+        try (MkContainer container = new MkGrizzlyContainer().next(
+            new MkAnswer.Simple(HttpURLConnection.HTTP_CREATED, "{\"id\":9}")
+        ).start(RandomPort.port())) {
+            MatcherAssert.assertThat(
+                "Wrong asset uploaded",
+                new RtReleaseAssets(
+                    new ApacheRequest(container.home()),
+                    RtReleaseAssetsTest.release(),
+                    container.home().toString()
+                ).upload(file, "text/plain", "notes.txt").number(),
+                Matchers.is(9)
+            );
+            final MkQuery query = container.take();
+            MatcherAssert.assertThat(
+                "Content was not sent",
+                query.body(),
+                Matchers.is("release notes")
+            );
+            MatcherAssert.assertThat(
+                "Wrong Content-Length sent",
+                query.headers().get(HttpHeaders.CONTENT_LENGTH),
+                Matchers.contains("13")
+            );
+        }
+    }
+
     /**
      * RtRelease can get a single release asset.
      * @throws Exception if something goes wrong.
@@ -37,4 +37,39 @@ final class RtSearchPaginationTest {
         );
     }
 
+    @Test
+    void readsTotalCountAndIncompleteResults() throws Exception {
+        final Search.Results<String> results = new RtSearchPagination<>(
+            new FakeRequest().withBody(
+                Json.createObjectBuilder()
+                    .add("total_count", 42)
+                    .add("incomplete_results", true)
+                    .add(
+                        "extra", Json.createObjectBuilder().add(
+                            "items", Json.createArrayBuilder().add(1)
+                        )
+                    )
+                    .add(
+                        "items", Json.createArrayBuilder().add(
+                            Json.createObjectBuilder().add("name", "first")
+                        )
+                    )
+                    .build().toString()
+            ),
+            "/search/path", "keywords", "sort", "order",
+            object -> object.getString("name")
+        );
+        MatcherAssert.assertThat(
+            "Wrong total count",
+            results.total(), Matchers.equalTo(42L)
+        );
+        MatcherAssert.assertThat(
+            "Not incomplete",
+            results.incomplete(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Wrong items",
+            results, Matchers.contains("first")
+        );
+    }
 }
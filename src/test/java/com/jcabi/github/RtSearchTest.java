@@ -135,6 +135,221 @@ final class RtSearchTest {
         }
     }
 
+    /**
+     * RtSearch can make contents of code search hits without fetching
+     * them, until they are read.
+     * @throws IOException If something goes wrong
+     */
+    @Test
+    void makesContentsWithoutFetchingThem() throws IOException {
+        final JsonObject hit = RtSearchTest.content(
+            "src/main.js",
+            "main.js",
+            // @checkstyle LineLength (1 line)
+            "https://api.github.com/repos/user/repo/contents/src/main.js?ref=a1b2c3"
+        ).build();
+        try (
+            MkContainer container = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(RtSearchTest.search(hit).toString())
+            ).next(new MkAnswer.Simple(hit.toString()))
+                .start(RandomPort.port())
+        ) {
+            final Content content = new RtGitHub(
+                new ApacheRequest(container.home())
+            ).search().codes("main", "indexed", Search.Order.DESC)
+                .iterator().next();
+            MatcherAssert.assertThat(
+                "Wrong path of content",
+                content.path(),
+                Matchers.equalTo("src/main.js")
+            );
+            MatcherAssert.assertThat(
+                "Content was fetched before it was read",
+                container.queries(),
+                Matchers.equalTo(1)
+            );
+            MatcherAssert.assertThat(
+                "Wrong content read",
+                content.json().getString("name"),
+                Matchers.equalTo("main.js")
+            );
+            container.take();
+            MatcherAssert.assertThat(
+                "Content was read at the wrong ref",
+                container.take().uri().toString(),
+                Matchers.endsWith(
+                    "/repos/user/repo/contents/src/main.js?ref=a1b2c3"
+                )
+            );
+        }
+    }
+
+    /**
+     * RtSearch can give repos, issues and users with the JSON of their
+     * hits, without fetching them again.
+     * @throws IOException If something goes wrong
+     */
+    @Test
+    void preloadsJsonOfHits() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(
+                    RtSearchTest.search(
+                        Json.createObjectBuilder()
+                            .add("full_name", "user/repo")
+                            .add("description", "Demo repo")
+                            .build()
+                    ).toString()
+                )
+            ).next(
+                new MkAnswer.Simple(
+                    RtSearchTest.search(
+                        Json.createObjectBuilder()
+                            .add(
+                                "url",
+                                // @checkstyle LineLength (1 line)
+                                "https://api.github.com/repos/user/repo/issues/7"
+                            )
+                            .add("number", 7)
+                            .add("title", "Demo issue")
+                            .build()
+                    ).toString()
+                )
+            ).next(
+                new MkAnswer.Simple(
+                    RtSearchTest.search(
+                        Json.createObjectBuilder()
+                            .add("login", "jeff")
+                            .add("avatar_url", "https://example.com/jeff.png")
+                            .build()
+                    ).toString()
+                )
+            ).start(RandomPort.port())
+        ) {
+            final Search search = new RtGitHub(
+                new ApacheRequest(container.home())
+            ).search();
+            MatcherAssert.assertThat(
+                "Wrong repo description",
+                new Repo.Smart(
+                    search.repos("demo", "stars", Search.Order.DESC)
+                        .iterator().next()
+                ).description(),
+                Matchers.equalTo("Demo repo")
+            );
+            MatcherAssert.assertThat(
+                "Wrong issue title",
+                new Issue.Smart(
+                    search.issues(
+                        "demo", "created", Search.Order.DESC,
+                        new EnumMap<>(Search.Qualifier.class)
+                    ).iterator().next()
+                ).title(),
+                Matchers.equalTo("Demo issue")
+            );
+            MatcherAssert.assertThat(
+                "Wrong user avatar",
+                new User.Smart(
+                    search.users("jeff", "joined", Search.Order.DESC)
+                        .iterator().next()
+                ).avatarUrl().toString(),
+                Matchers.equalTo("https://example.com/jeff.png")
+            );
+            MatcherAssert.assertThat(
+                "Hits were fetched again",
+                container.queries(),
+                Matchers.equalTo(3)
+            );
+        }
+    }
+
+    /**
+     * RtSearch can fetch the user when the hit doesn't have the key.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void fetchesUserForMissingKeys() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(
+                    RtSearchTest.search(
+                        Json.createObjectBuilder()
+                            .add("login", "jeff")
+                            .add("avatar_url", "https://example.com/jeff.png")
+                            .build()
+                    ).toString()
+                )
+            ).next(
+                new MkAnswer.Simple(
+                    Json.createObjectBuilder()
+                        .add("login", "jeff")
+                        .add("name", "Jeff Lebowski")
+                        .add("avatar_url", "https://example.com/old.png")
+                        .build()
+                        .toString()
+                )
+            ).start(RandomPort.port())
+        ) {
+            final User.Smart user = new User.Smart(
+                new RtGitHub(new ApacheRequest(container.home())).search()
+                    .users("jeff", "joined", Search.Order.DESC)
+                    .iterator().next()
+            );
+            MatcherAssert.assertThat(
+                "Wrong user avatar",
+                user.avatarUrl().toString(),
+                Matchers.equalTo("https://example.com/jeff.png")
+            );
+            MatcherAssert.assertThat(
+                "Wrong user name",
+                user.name(),
+                Matchers.equalTo("Jeff Lebowski")
+            );
+            MatcherAssert.assertThat(
+                "User was fetched more than once",
+                container.queries(),
+                Matchers.equalTo(2)
+            );
+        }
+    }
+
+    /**
+     * RtSearch can print and compare the JSON of the user found without
+     * fetching the user.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void printsUserWithoutFetching() throws IOException {
+        final JsonObject hit = Json.createObjectBuilder()
+            .add("login", "walter")
+            .build();
+        try (
+            MkContainer container = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(RtSearchTest.search(hit).toString())
+            ).start(RandomPort.port())
+        ) {
+            final JsonObject json = new RtGitHub(
+                new ApacheRequest(container.home())
+            ).search().users("walter", "joined", Search.Order.DESC)
+                .iterator().next().json();
+            MatcherAssert.assertThat(
+                "Wrong JSON printed",
+                json.toString(),
+                Matchers.equalTo(hit.toString())
+            );
+            MatcherAssert.assertThat(
+                "JSON is not equal to the hit",
+                json.equals(hit) && json.hashCode() == hit.hashCode(),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "User was fetched",
+                container.queries(),
+                Matchers.equalTo(1)
+            );
+        }
+    }
+
     /**
      * RtSearch can read non-unicode.
      */
@@ -0,0 +1,180 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.mock;
+
+import com.jcabi.github.Archive;
+import com.jcabi.github.Repo;
+import jakarta.json.Json;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import javax.xml.bind.DatatypeConverter;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link MkArchive}.
+ * @since 2.0
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+final class MkArchiveTest {
+
+    /**
+     * MkArchive can list entries of the contents at the ref.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    void listsEntriesOfContents() throws Exception {
+        final Repo repo = MkArchiveTest.repo();
+        final List<String> paths = new LinkedList<>();
+        String text = "";
+        try (Archive.Entries entries = repo.tarball("master").entries()) {
+            while (entries.hasNext()) {
+                final Archive.Entry entry = entries.next();
+                paths.add(entry.path().substring(entry.path().indexOf('/')));
+                if (entry.path().endsWith("Main.java")) {
+                    text = IOUtils.toString(
+                        entry.content(), StandardCharsets.UTF_8
+                    );
+                }
+            }
+        }
+        MatcherAssert.assertThat(
+            "Wrong entries listed",
+            paths,
+            Matchers.contains(
+                "/", "/README.md", "/src/", "/src/Main.java"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Wrong content of the entry",
+            text,
+            Matchers.equalTo("class Main {}")
+        );
+    }
+
+    /**
+     * MkArchive can make a tarball that tar understands.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    void makesTarball() throws Exception {
+        final byte[] header = new byte[512];
+        final byte[] data = new byte[8];
+        try (InputStream tar = new GZIPInputStream(
+            MkArchiveTest.repo().tarball("master").raw()
+        )) {
+            IOUtils.readFully(tar, header);
+            IOUtils.readFully(tar, header);
+            IOUtils.readFully(tar, data);
+        }
+        MatcherAssert.assertThat(
+            "Wrong path of the entry",
+            new String(header, 0, 100, StandardCharsets.UTF_8),
+            Matchers.containsString("README.md")
+        );
+        MatcherAssert.assertThat(
+            "Wrong magic of the header",
+            new String(header, 257, 5, StandardCharsets.US_ASCII),
+            Matchers.equalTo("ustar")
+        );
+        long sum = 0L;
+        for (int idx = 0; idx < header.length; ++idx) {
+            if (idx >= 148 && idx < 156) {
+                sum += ' ';
+            } else {
+                sum += header[idx] & 0xff;
+            }
+        }
+        MatcherAssert.assertThat(
+            "Wrong checksum of the header",
+            Long.parseLong(
+                new String(header, 148, 6, StandardCharsets.US_ASCII), 8
+            ),
+            Matchers.equalTo(sum)
+        );
+        MatcherAssert.assertThat(
+            "Wrong content of the entry",
+            new String(data, StandardCharsets.UTF_8),
+            Matchers.equalTo("# Readme")
+        );
+    }
+
+    /**
+     * MkArchive can save a zipball.
+     * @param dir Temporary directory
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    void savesZipball(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("repo.zip");
+        final long size = MkArchiveTest.repo().zipball("master").save(file);
+        MatcherAssert.assertThat(
+            "Wrong number of bytes saved",
+            size,
+            Matchers.equalTo(Files.size(file))
+        );
+        final List<String> names = new LinkedList<>();
+        try (ZipInputStream zip = new ZipInputStream(
+            Files.newInputStream(file)
+        )) {
+            ZipEntry entry = zip.getNextEntry();
+            while (entry != null) {
+                names.add(entry.getName());
+                entry = zip.getNextEntry();
+            }
+        }
+        MatcherAssert.assertThat(
+            "Wrong entries saved",
+            names,
+            Matchers.hasItem(Matchers.endsWith("/src/Main.java"))
+        );
+    }
+
+    /**
+     * Repo with a few files.
+     * @return Repo
+     * @throws IOException If fails
+     */
+    private static Repo repo() throws IOException {
+        final Repo repo = new MkGitHub().randomRepo();
+        MkArchiveTest.file(repo, "README.md", "# Readme");
+        MkArchiveTest.file(repo, "src/Main.java", "class Main {}");
+        return repo;
+    }
+
+    /**
+     * Create the file in the repo.
+     * @param repo Repo
+     * @param path Path
+     * @param text Content
+     * @throws IOException If fails
+     */
+    private static void file(final Repo repo, final String path,
+        final String text) throws IOException {
+        repo.contents().create(
+            Json.createObjectBuilder()
+                .add("path", path)
+                .add("message", "add")
+                .add(
+                    "content",
+                    DatatypeConverter.printBase64Binary(
+                        text.getBytes(StandardCharsets.UTF_8)
+                    )
+                )
+                .build()
+        );
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.request.FakeRequest;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Activity}.
+ * @since 2.0
+ * @checkstyle MagicNumberCheck (100 lines)
+ */
+final class ActivityTest {
+
+    /**
+     * Activity can count threads held by CarefulWire.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void countsSleepingThreads() throws Exception {
+        final Activity activity = new Activity()
+            .register("ActivityTest.countsSleepingThreads");
+        final Request request = new FakeRequest()
+            .withHeader("X-RateLimit-Remaining", "0")
+            .withHeader(
+                "X-RateLimit-Reset",
+                String.valueOf(
+                    TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())
+                        + 2L
+                )
+            )
+            .through(CarefulWire.class, 1)
+            .through(ActivityWire.class, activity);
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        final Future<?> done = service.submit(
+            () -> {
+                request.fetch();
+                return null;
+            }
+        );
+        long sleeping = 0L;
+        for (int attempt = 0; attempt < 100 && sleeping == 0L; ++attempt) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+            sleeping = activity.getSleeping();
+        }
+        MatcherAssert.assertThat(
+            "Sleeping thread was not counted",
+            sleeping,
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            "Request in flight was not counted",
+            activity.getInFlight(),
+            Matchers.equalTo(1L)
+        );
+        done.get();
+        service.shutdown();
+        MatcherAssert.assertThat(
+            "Request is still in flight",
+            activity.getInFlight(),
+            Matchers.equalTo(0L)
+        );
+        MatcherAssert.assertThat(
+            "Remaining limit is not visible",
+            activity.getRemaining().values(),
+            Matchers.not(Matchers.empty())
+        );
+    }
+
+    /**
+     * Activity can show remaining limits by hashes of credentials.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void showsRemainingByHashes() throws IOException {
+        final Ledger ledger = new Ledger();
+        final Activity activity = new Activity(ledger);
+        new FakeRequest()
+            .withHeader("X-RateLimit-Remaining", "42")
+            .withHeader("X-RateLimit-Reset", "1372700873")
+            .header("Authorization", "token secret")
+            .through(LedgerWire.class, ledger)
+            .through(ActivityWire.class, activity)
+            .fetch();
+        MatcherAssert.assertThat(
+            "Remaining limit is not shown by the hash",
+            activity.getRemaining(),
+            Matchers.hasEntry(
+                String.format(
+                    "%s localhost core",
+                    Ledger.hash("token secret").substring(0, 8)
+                ),
+                42L
+            )
+        );
+    }
+
+    /**
+     * Activity can count coalescing misses.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void countsCoalescing() throws IOException {
+        final Activity activity = new Activity(new Ledger());
+        new FakeRequest()
+            .through(CoalescingWire.class)
+            .through(ActivityWire.class, activity)
+            .fetch();
+        MatcherAssert.assertThat(
+            "Miss was not counted",
+            activity.getCoalescingMisses(),
+            Matchers.equalTo(1L)
+        );
+    }
+}
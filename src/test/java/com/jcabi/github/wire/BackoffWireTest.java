@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.ImmutableHeader;
+import com.jcabi.http.Request;
+import com.jcabi.http.Wire;
+import com.jcabi.http.request.BaseRequest;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.immutable.Array;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link BackoffWire}.
+ * @since 2.0
+ * @checkstyle MagicNumberCheck (200 lines)
+ */
+final class BackoffWireTest {
+
+    /**
+     * BackoffWire can retry server errors.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void retriesServerErrors() throws IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        MatcherAssert.assertThat(
+            "Server error was not retried",
+            BackoffWireTest.request(
+                calls, HttpURLConnection.HTTP_BAD_GATEWAY, new LinkedList<>(), ""
+            ).fetch().status(),
+            Matchers.equalTo(HttpURLConnection.HTTP_OK)
+        );
+        MatcherAssert.assertThat(
+            "Wrong number of attempts",
+            calls.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    /**
+     * BackoffWire can honor Retry-After of a secondary rate limit.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void honorsRetryAfter() throws IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Collection<Map.Entry<String, String>> headers = new LinkedList<>();
+        headers.add(new ImmutableHeader("Retry-After", "1"));
+        final long start = System.currentTimeMillis();
+        BackoffWireTest.request(
+            calls, HttpURLConnection.HTTP_FORBIDDEN, headers,
+            "You have exceeded a secondary rate limit"
+        ).fetch();
+        MatcherAssert.assertThat(
+            "Retry-After was not honored",
+            System.currentTimeMillis() - start,
+            Matchers.greaterThanOrEqualTo(1000L)
+        );
+    }
+
+    /**
+     * BackoffWire can return non-retryable responses at once.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void doesNotRetryClientErrors() throws IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        MatcherAssert.assertThat(
+            "Client error was not returned",
+            BackoffWireTest.request(
+                calls, HttpURLConnection.HTTP_FORBIDDEN, new LinkedList<>(),
+                "Resource not accessible by integration"
+            ).fetch().status(),
+            Matchers.equalTo(HttpURLConnection.HTTP_FORBIDDEN)
+        );
+        MatcherAssert.assertThat(
+            "Client error was retried",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * BackoffWire can retry non-idempotent requests only when they
+     * are rejected by the rate limit.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void retriesPostOnlyOnRateLimit() throws IOException {
+        final AtomicInteger failed = new AtomicInteger();
+        MatcherAssert.assertThat(
+            "POST was retried after server error",
+            BackoffWireTest.request(
+                failed, HttpURLConnection.HTTP_BAD_GATEWAY, new LinkedList<>(),
+                ""
+            ).method(Request.POST).fetch().status(),
+            Matchers.equalTo(HttpURLConnection.HTTP_BAD_GATEWAY)
+        );
+        final AtomicInteger limited = new AtomicInteger();
+        MatcherAssert.assertThat(
+            "POST was not retried after rate limit",
+            BackoffWireTest.request(
+                limited, 429, new LinkedList<>(),
+                "You have exceeded a secondary rate limit"
+            ).method(Request.POST).fetch().status(),
+            Matchers.equalTo(HttpURLConnection.HTTP_OK)
+        );
+    }
+
+    /**
+     * BackoffWire can give up after all attempts.
+     */
+    @Test
+    void givesUpAfterAllAttempts() {
+        final AtomicInteger calls = new AtomicInteger();
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new BaseRequest(
+                (req, home, method, headers, content, connect, read) -> {
+                    calls.incrementAndGet();
+                    throw new IOException("connection reset");
+                },
+                "http://localhost/"
+            ).through(BackoffWire.class, 3, 10L, 50L).fetch(),
+            "I/O error was not thrown"
+        );
+        MatcherAssert.assertThat(
+            "Wrong number of attempts",
+            calls.get(),
+            Matchers.equalTo(3)
+        );
+    }
+
+    /**
+     * Request, which fails once and then succeeds.
+     * @param calls Counter of calls
+     * @param status Status of the failure
+     * @param headers Headers of the failure
+     * @param body Body of the failure
+     * @return Request
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static Request request(final AtomicInteger calls, final int status,
+        final Collection<Map.Entry<String, String>> headers,
+        final String body) {
+        final Wire wire = (req, home, method, hdrs, content, connect, read) -> {
+            final DefaultResponse resp;
+            if (calls.incrementAndGet() == 1) {
+                resp = new DefaultResponse(
+                    req, status, "Failure", new Array<>(headers),
+                    body.getBytes(StandardCharsets.UTF_8)
+                );
+            } else {
+                resp = new DefaultResponse(
+                    req, HttpURLConnection.HTTP_OK, "OK",
+                    new Array<>(new LinkedList<>()), new byte[0]
+                );
+            }
+            return resp;
+        };
+        return new BaseRequest(wire, "http://localhost/")
+            .through(BackoffWire.class, 3, 10L, 50L);
+    }
+}
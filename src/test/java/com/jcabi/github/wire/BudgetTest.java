@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Budget}.
+ * @since 2.0
+ * @checkstyle MagicNumberCheck (100 lines)
+ */
+final class BudgetTest {
+
+    /**
+     * Budget can let a burst go and then pace requests.
+     */
+    @Test
+    void pacesAfterBurst() {
+        final Budget budget = new Budget(2);
+        budget.update(new Ledger.Entry(0, 10, 10L, 0L));
+        MatcherAssert.assertThat(
+            "First request was delayed",
+            budget.reserve(0L),
+            Matchers.equalTo(0L)
+        );
+        MatcherAssert.assertThat(
+            "Second request was delayed",
+            budget.reserve(0L),
+            Matchers.equalTo(0L)
+        );
+        MatcherAssert.assertThat(
+            "Third request was not paced",
+            budget.reserve(0L),
+            Matchers.greaterThan(0L)
+        );
+    }
+
+    /**
+     * Budget can ignore stale headers of the previous window.
+     */
+    @Test
+    void ignoresPreviousWindow() {
+        final Budget budget = new Budget(1);
+        budget.update(new Ledger.Entry(0, 1, 100L, 0L));
+        budget.update(new Ledger.Entry(0, 5000, 50L, 0L));
+        budget.reserve(0L);
+        MatcherAssert.assertThat(
+            "Stale headers were used",
+            budget.reserve(0L),
+            Matchers.equalTo(100_000L)
+        );
+    }
+
+    /**
+     * Budget can hold every request until the reset, when the window
+     * is exhausted.
+     */
+    @Test
+    void waitsForResetWhenExhausted() {
+        final Budget budget = new Budget(3);
+        budget.update(new Ledger.Entry(0, 0, 10L, 0L));
+        MatcherAssert.assertThat(
+            "First request didn't wait for the reset",
+            budget.reserve(1000L),
+            Matchers.equalTo(9000L)
+        );
+        MatcherAssert.assertThat(
+            "Second request didn't wait for the reset",
+            budget.reserve(4000L),
+            Matchers.equalTo(6000L)
+        );
+        MatcherAssert.assertThat(
+            "Request after the reset was delayed",
+            budget.reserve(10_000L),
+            Matchers.equalTo(0L)
+        );
+    }
+}
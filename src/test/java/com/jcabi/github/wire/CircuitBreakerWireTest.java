@@ -0,0 +1,293 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.request.BaseRequest;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.immutable.Array;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.LinkedList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link CircuitBreakerWire}.
+ * @since 2.0
+ * @checkstyle MagicNumberCheck (400 lines)
+ */
+final class CircuitBreakerWireTest {
+
+    /**
+     * CircuitBreakerWire can fail fast after too many failures.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void failsFastWhenOpen() throws IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Request request = CircuitBreakerWireTest.request(
+            calls, new AtomicInteger(HttpURLConnection.HTTP_UNAVAILABLE)
+        );
+        for (int idx = 0; idx < 4; ++idx) {
+            request.fetch();
+        }
+        Assertions.assertThrows(
+            CircuitBreakerWire.Open.class,
+            request::fetch,
+            "Circuit was not open"
+        );
+        MatcherAssert.assertThat(
+            "Request went to the network while open",
+            calls.get(),
+            Matchers.equalTo(4)
+        );
+    }
+
+    /**
+     * CircuitBreakerWire can close after a successful probe.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void closesAfterSuccessfulProbe() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger status =
+            new AtomicInteger(HttpURLConnection.HTTP_BAD_GATEWAY);
+        final Request request = CircuitBreakerWireTest.request(calls, status);
+        for (int idx = 0; idx < 4; ++idx) {
+            request.fetch();
+        }
+        TimeUnit.MILLISECONDS.sleep(150L);
+        status.set(HttpURLConnection.HTTP_OK);
+        request.fetch();
+        MatcherAssert.assertThat(
+            "Circuit was not closed after the probe",
+            request.fetch().status(),
+            Matchers.equalTo(HttpURLConnection.HTTP_OK)
+        );
+    }
+
+    /**
+     * CircuitBreakerWire can open again after a failed probe.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void reopensAfterFailedProbe() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Request request = CircuitBreakerWireTest.request(
+            calls, new AtomicInteger(HttpURLConnection.HTTP_INTERNAL_ERROR)
+        );
+        for (int idx = 0; idx < 4; ++idx) {
+            request.fetch();
+        }
+        TimeUnit.MILLISECONDS.sleep(150L);
+        request.fetch();
+        Assertions.assertThrows(
+            CircuitBreakerWire.Open.class,
+            request::fetch,
+            "Circuit was not open again"
+        );
+        MatcherAssert.assertThat(
+            "Wrong number of requests sent",
+            calls.get(),
+            Matchers.equalTo(5)
+        );
+    }
+
+    /**
+     * CircuitBreakerWire can keep route families apart.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void keepsFamiliesApart() throws IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Request request = CircuitBreakerWireTest.request(
+            calls, new AtomicInteger(HttpURLConnection.HTTP_UNAVAILABLE)
+        );
+        for (int idx = 0; idx < 4; ++idx) {
+            request.fetch();
+        }
+        MatcherAssert.assertThat(
+            "Other family was blocked",
+            request.uri().set(URI.create("http://localhost/users/jeff"))
+                .back().fetch().status(),
+            Matchers.equalTo(HttpURLConnection.HTTP_UNAVAILABLE)
+        );
+    }
+
+    /**
+     * CircuitBreakerWire can ignore time the thread was held by rate limits.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void ignoresThrottledTime() throws IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Request request = new BaseRequest(
+            (req, home, method, headers, content, connect, read) -> {
+                calls.incrementAndGet();
+                try {
+                    Activity.sleep(150L);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+                return new DefaultResponse(
+                    req, HttpURLConnection.HTTP_OK, "",
+                    new Array<>(new LinkedList<>()), new byte[0]
+                );
+            },
+            "http://localhost/repos/jcabi/jcabi-github/issues"
+        ).through(CircuitBreakerWire.class, 2, 0.5, 100L, 10_000L);
+        for (int idx = 0; idx < 3; ++idx) {
+            request.fetch();
+        }
+        MatcherAssert.assertThat(
+            "Throttled calls were counted as slow",
+            calls.get(),
+            Matchers.equalTo(3)
+        );
+    }
+
+    /**
+     * CircuitBreakerWire can ignore runtime exceptions.
+     */
+    @Test
+    void ignoresRuntimeExceptions() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Request request = new BaseRequest(
+            (req, home, method, headers, content, connect, read) -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("bug");
+            },
+            "http://localhost/repos/jcabi/jcabi-github/issues"
+        ).through(CircuitBreakerWire.class, 2, 0.5, 10_000L, 10_000L);
+        for (int idx = 0; idx < 3; ++idx) {
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                request::fetch,
+                "Runtime exception was not thrown"
+            );
+        }
+        MatcherAssert.assertThat(
+            "Runtime exceptions opened the circuit",
+            calls.get(),
+            Matchers.equalTo(3)
+        );
+    }
+
+    /**
+     * CircuitBreakerWire can judge the half-open breaker only by its probe,
+     * not by a call that was sent before the breaker opened.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void judgesOnlyByProbe() throws Exception {
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        final CountDownLatch stale = new CountDownLatch(1);
+        final AtomicReference<Future<?>> first = new AtomicReference<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final Request request = new BaseRequest(
+            (req, home, method, headers, content, connect, read) -> {
+                final int call = calls.incrementAndGet();
+                final int status;
+                try {
+                    if (call == 1) {
+                        stale.await();
+                        status = HttpURLConnection.HTTP_OK;
+                    } else if (call == 6) {
+                        stale.countDown();
+                        first.get().get();
+                        status = HttpURLConnection.HTTP_UNAVAILABLE;
+                    } else {
+                        status = HttpURLConnection.HTTP_UNAVAILABLE;
+                    }
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                } catch (final ExecutionException ex) {
+                    throw new IOException(ex);
+                }
+                return new DefaultResponse(
+                    req, status, "", new Array<>(new LinkedList<>()),
+                    new byte[0]
+                );
+            },
+            "http://localhost/repos/jcabi/jcabi-github/issues"
+        ).through(CircuitBreakerWire.class, 4, 0.5, 10_000L, 100L);
+        try {
+            first.set(service.submit(() -> request.fetch()));
+            while (calls.get() == 0) {
+                TimeUnit.MILLISECONDS.sleep(10L);
+            }
+            for (int idx = 0; idx < 4; ++idx) {
+                request.fetch();
+            }
+            TimeUnit.MILLISECONDS.sleep(150L);
+            request.fetch();
+            Assertions.assertThrows(
+                CircuitBreakerWire.Open.class,
+                request::fetch,
+                "Stale call closed the circuit"
+            );
+        } finally {
+            stale.countDown();
+            service.shutdownNow();
+        }
+    }
+
+    /**
+     * CircuitBreakerWire can reject invalid arguments.
+     */
+    @Test
+    void rejectsInvalidArguments() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new CircuitBreakerWire(
+                (req, home, method, headers, content, connect, read) -> null,
+                4, 0.5, 0L, 100L
+            ),
+            "Zero latency was accepted"
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new CircuitBreakerWire(
+                (req, home, method, headers, content, connect, read) -> null,
+                4, 0.5, 100L, -1L
+            ),
+            "Negative pause was accepted"
+        );
+    }
+
+    /**
+     * Request through the breaker, with a window of four calls.
+     * @param calls Counter of calls
+     * @param status Status to respond with
+     * @return Request
+     */
+    private static Request request(final AtomicInteger calls,
+        final AtomicInteger status) {
+        return new BaseRequest(
+            (req, home, method, headers, content, connect, read) -> {
+                calls.incrementAndGet();
+                return new DefaultResponse(
+                    req, status.get(), "",
+                    new Array<>(new LinkedList<>()), new byte[0]
+                );
+            },
+            "http://localhost/repos/jcabi/jcabi-github/issues"
+        ).through(CircuitBreakerWire.class, 4, 0.5, 10_000L, 100L);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.request.BaseRequest;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.immutable.Array;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link CoalescingWire}.
+ * @since 2.0
+ * @checkstyle MagicNumberCheck (200 lines)
+ */
+final class CoalescingWireTest {
+
+    /**
+     * CoalescingWire can share one response among identical requests.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void sharesResponseAmongConcurrentRequests() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Request request = CoalescingWireTest.slow(calls)
+            .through(CoalescingWire.class);
+        final int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final Collection<Future<String>> bodies = new ArrayList<>(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            bodies.add(
+                service.submit(
+                    () -> {
+                        start.await();
+                        return request.fetch().body();
+                    }
+                )
+            );
+        }
+        start.countDown();
+        for (final Future<String> body : bodies) {
+            MatcherAssert.assertThat(
+                "Body is wrong",
+                body.get(),
+                Matchers.equalTo("shared")
+            );
+        }
+        service.shutdown();
+        MatcherAssert.assertThat(
+            "Requests were not coalesced",
+            calls.get(),
+            Matchers.lessThan(threads)
+        );
+    }
+
+    /**
+     * CoalescingWire can send sequential requests separately.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void sendsSequentialRequestsSeparately() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Request request = CoalescingWireTest.slow(calls)
+            .through(CoalescingWire.class);
+        request.fetch();
+        request.fetch();
+        request.method(Request.POST).fetch();
+        MatcherAssert.assertThat(
+            "Requests were coalesced",
+            calls.get(),
+            Matchers.equalTo(3)
+        );
+    }
+
+    /**
+     * CoalescingWire can give the failure of the shared request to all
+     * the requests that waited for it.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void sharesFailureAmongConcurrentRequests() throws Exception {
+        final Request request = new BaseRequest(
+            (req, home, method, headers, content, connect, read) -> {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(200L);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+                throw new SocketTimeoutException("too slow");
+            },
+            "http://localhost/repos/jcabi/jcabi-github"
+        ).through(CoalescingWire.class);
+        final int threads = 4;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final Collection<Future<Throwable>> errors = new ArrayList<>(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            errors.add(
+                service.submit(
+                    () -> {
+                        start.await();
+                        return Assertions.assertThrows(
+                            IOException.class, request::fetch
+                        );
+                    }
+                )
+            );
+        }
+        start.countDown();
+        for (final Future<Throwable> error : errors) {
+            MatcherAssert.assertThat(
+                "Failure was not rethrown as it is",
+                error.get(),
+                Matchers.instanceOf(SocketTimeoutException.class)
+            );
+        }
+        service.shutdown();
+    }
+
+    /**
+     * Request to a slow wire, which counts calls.
+     * @param calls Counter of calls
+     * @return Request
+     */
+    private static Request slow(final AtomicInteger calls) {
+        return new BaseRequest(
+            (req, home, method, headers, content, connect, read) -> {
+                calls.incrementAndGet();
+                try {
+                    TimeUnit.MILLISECONDS.sleep(200L);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+                return new DefaultResponse(
+                    req, HttpURLConnection.HTTP_OK, "OK", new Array<>(),
+                    "shared".getBytes(StandardCharsets.UTF_8)
+                );
+            },
+            "http://localhost/repos/jcabi/jcabi-github"
+        );
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.github.RandomPort;
+import com.jcabi.http.Response;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.BaseRequest;
+import com.jcabi.http.request.FakeRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link DecompressingWire}.
+ * @since 2.0
+ */
+@ExtendWith(RandomPort.class)
+final class DecompressingWireTest {
+
+    /**
+     * JSON to compress.
+     */
+    private static final String JSON = "{\"name\":\"jcabi-github\"}";
+
+    /**
+     * DecompressingWire can inflate gzip response.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void inflatesGzipResponse() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(DecompressingWireTest.JSON.getBytes(StandardCharsets.UTF_8));
+        }
+        final Response response = new FakeRequest()
+            .withHeader("Content-Encoding", "gzip")
+            .withBody(bytes.toByteArray())
+            .through(DecompressingWire.class)
+            .fetch();
+        MatcherAssert.assertThat(
+            "Body was not inflated",
+            response.body(),
+            Matchers.equalTo(DecompressingWireTest.JSON)
+        );
+        MatcherAssert.assertThat(
+            "Content-Encoding was not removed",
+            response.headers(),
+            Matchers.not(Matchers.hasKey("Content-Encoding"))
+        );
+    }
+
+    /**
+     * DecompressingWire can inflate deflate response.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void inflatesDeflateResponse() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream deflate = new DeflaterOutputStream(bytes)) {
+            deflate.write(DecompressingWireTest.JSON.getBytes(StandardCharsets.UTF_8));
+        }
+        MatcherAssert.assertThat(
+            "Body was not inflated",
+            new FakeRequest()
+                .withHeader("Content-Encoding", "deflate")
+                .withBody(bytes.toByteArray())
+                .through(DecompressingWire.class)
+                .fetch()
+                .body(),
+            Matchers.equalTo(DecompressingWireTest.JSON)
+        );
+    }
+
+    /**
+     * DecompressingWire can leave plain response as is.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void leavesPlainResponseAlone() throws IOException {
+        MatcherAssert.assertThat(
+            "Plain body was changed",
+            new FakeRequest()
+                .withBody(DecompressingWireTest.JSON)
+                .through(DecompressingWire.class)
+                .fetch()
+                .body(),
+            Matchers.equalTo(DecompressingWireTest.JSON)
+        );
+    }
+
+    /**
+     * DecompressingWire can ask for compressed response.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void advertisesCompression() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "{}"))
+                .start(RandomPort.port())
+        ) {
+            new BaseRequest(new PooledWire(), container.home().toString())
+                .through(DecompressingWire.class)
+                .fetch();
+            MatcherAssert.assertThat(
+                "Accept-Encoding was not sent",
+                container.take().headers().get("Accept-Encoding"),
+                Matchers.hasItem("gzip, deflate")
+            );
+            container.stop();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.request.BaseRequest;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.http.request.FakeRequest;
+import com.jcabi.immutable.Array;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link HedgingWire}.
+ * @since 2.0
+ * @checkstyle MagicNumberCheck (200 lines)
+ */
+final class HedgingWireTest {
+
+    /**
+     * HedgingWire can send a slow GET request again.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void hedgesSlowRequest() throws IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Request request = HedgingWireTest.request(
+            calls, 0.1, new Ledger()
+        );
+        for (int idx = 0; idx < 20; ++idx) {
+            request.fetch();
+        }
+        final long start = System.currentTimeMillis();
+        MatcherAssert.assertThat(
+            "Response was not returned",
+            request.fetch().status(),
+            Matchers.equalTo(HttpURLConnection.HTTP_OK)
+        );
+        MatcherAssert.assertThat(
+            "Slow request was not hedged",
+            System.currentTimeMillis() - start,
+            Matchers.lessThan(1_000L)
+        );
+        MatcherAssert.assertThat(
+            "Wrong number of requests sent",
+            calls.get(),
+            Matchers.equalTo(22)
+        );
+    }
+
+    /**
+     * HedgingWire can stay within the share of repeated requests.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void staysWithinBudget() throws IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Request request = HedgingWireTest.request(
+            calls, 0.01, new Ledger()
+        );
+        for (int idx = 0; idx < 21; ++idx) {
+            request.fetch();
+        }
+        MatcherAssert.assertThat(
+            "Request was hedged beyond the budget",
+            calls.get(),
+            Matchers.equalTo(21)
+        );
+    }
+
+    /**
+     * HedgingWire can stop hedging when little of the rate limit is left.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void sparesLowRateLimit() throws IOException {
+        final Ledger ledger = new Ledger();
+        ledger.record(
+            "http://localhost/repos/jcabi/jcabi-github",
+            new LinkedList<>(),
+            new FakeRequest()
+                .withHeader("X-RateLimit-Limit", "5000")
+                .withHeader("X-RateLimit-Remaining", "400")
+                .withHeader(
+                    "X-RateLimit-Reset",
+                    String.valueOf(
+                        TimeUnit.MILLISECONDS.toSeconds(
+                            System.currentTimeMillis()
+                        ) + 600L
+                    )
+                )
+                .fetch()
+        );
+        final AtomicInteger calls = new AtomicInteger();
+        final Request request = HedgingWireTest.request(calls, 0.1, ledger);
+        for (int idx = 0; idx < 21; ++idx) {
+            request.fetch();
+        }
+        MatcherAssert.assertThat(
+            "Request was hedged on low rate limit",
+            calls.get(),
+            Matchers.equalTo(21)
+        );
+    }
+
+    /**
+     * HedgingWire can leave other methods alone.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void doesNotHedgePosts() throws IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Request request = HedgingWireTest.request(
+            calls, 1.0, new Ledger()
+        ).method(Request.POST);
+        for (int idx = 0; idx < 21; ++idx) {
+            request.fetch();
+        }
+        MatcherAssert.assertThat(
+            "POST request was hedged",
+            calls.get(),
+            Matchers.equalTo(21)
+        );
+    }
+
+    /**
+     * HedgingWire can send from the thread of the caller when it can't
+     * hedge anyway.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void sendsFromCallerWithoutHedging() throws IOException {
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final Request request = new BaseRequest(
+            (req, home, method, headers, content, connect, read) -> {
+                threads.add(Thread.currentThread());
+                return new DefaultResponse(
+                    req, HttpURLConnection.HTTP_OK, "OK",
+                    new Array<>(new LinkedList<>()), new byte[0]
+                );
+            },
+            "http://localhost/repos/jcabi/jcabi-github"
+        ).through(HedgingWire.class, 0.9, 0.5, new Ledger());
+        for (int idx = 0; idx < 25; ++idx) {
+            request.fetch();
+        }
+        MatcherAssert.assertThat(
+            "Request was sent from another thread",
+            threads,
+            Matchers.everyItem(Matchers.is(Thread.currentThread()))
+        );
+    }
+
+    /**
+     * Request, whose 21st call takes two seconds and others take
+     * a few milliseconds.
+     * @param calls Counter of calls
+     * @param share Maximum share of repeated requests
+     * @param ledger Ledger of rate limits
+     * @return Request
+     */
+    private static Request request(final AtomicInteger calls,
+        final double share, final Ledger ledger) {
+        return new BaseRequest(
+            (req, home, method, headers, content, connect, read) -> {
+                final long delay;
+                if (calls.incrementAndGet() == 21) {
+                    delay = TimeUnit.SECONDS.toMillis(2L);
+                } else {
+                    delay = 5L;
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(delay);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+                return new DefaultResponse(
+                    req, HttpURLConnection.HTTP_OK, "OK",
+                    new Array<>(new LinkedList<>()), new byte[0]
+                );
+            },
+            "http://localhost/repos/jcabi/jcabi-github"
+        ).through(HedgingWire.class, 0.9, share, ledger);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.ImmutableHeader;
+import com.jcabi.http.Response;
+import com.jcabi.http.request.FakeRequest;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Ledger}.
+ * @since 2.0
+ */
+final class LedgerTest {
+
+    /**
+     * URI of requests.
+     */
+    private static final String HOME = "https://api.github.com/user";
+
+    /**
+     * Ledger can record limits by credentials and resources.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void recordsByCredentialAndResource() throws IOException {
+        final Ledger ledger = new Ledger();
+        final Collection<Map.Entry<String, String>> headers =
+            Collections.singletonList(
+                new ImmutableHeader("Authorization", "token secret")
+            );
+        ledger.record(
+            LedgerTest.HOME, headers, LedgerTest.response("search", "25", "100")
+        );
+        MatcherAssert.assertThat(
+            "Remaining number was not recorded",
+            ledger.entry(LedgerTest.HOME, "token secret", "search")
+                .get().remaining(),
+            Matchers.equalTo(25)
+        );
+        MatcherAssert.assertThat(
+            "Limit was recorded for another resource",
+            ledger.entry(LedgerTest.HOME, "token secret", "core").isPresent(),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "Limit was recorded for another credential",
+            ledger.entry(LedgerTest.HOME, "", "search").isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Ledger can keep the smallest remaining number in the same window.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void keepsSmallestRemaining() throws IOException {
+        final Ledger ledger = new Ledger();
+        final Collection<Map.Entry<String, String>> headers =
+            Collections.emptyList();
+        ledger.record(
+            LedgerTest.HOME, headers, LedgerTest.response("core", "10", "100")
+        );
+        ledger.record(
+            LedgerTest.HOME, headers, LedgerTest.response("core", "12", "100")
+        );
+        ledger.record(
+            LedgerTest.HOME, headers, LedgerTest.response("core", "4000", "50")
+        );
+        MatcherAssert.assertThat(
+            "Late response overrode the ledger",
+            ledger.entry(LedgerTest.HOME, "", "core").get().remaining(),
+            Matchers.equalTo(10)
+        );
+        ledger.record(
+            LedgerTest.HOME, headers, LedgerTest.response("core", "4999", "200")
+        );
+        MatcherAssert.assertThat(
+            "New window was not recorded",
+            ledger.entry(LedgerTest.HOME, "", "core").get().remaining(),
+            Matchers.equalTo(4999)
+        );
+    }
+
+    /**
+     * Ledger can keep limits of hosts apart and ignore broken headers.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void recordsByHostAndIgnoresBrokenHeaders() throws IOException {
+        final Ledger ledger = new Ledger();
+        final Collection<Map.Entry<String, String>> headers =
+            Collections.emptyList();
+        ledger.record(
+            "https://git.example.com/api/v3/user", headers,
+            LedgerTest.response("core", "7", "100")
+        );
+        ledger.record(
+            LedgerTest.HOME, headers, LedgerTest.response("core", "soon", "")
+        );
+        MatcherAssert.assertThat(
+            "Broken headers or another host were recorded",
+            ledger.entry(LedgerTest.HOME, "", "core").isPresent(),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "Limit of the host was not recorded",
+            ledger.entry("git.example.com", "", "core").get().remaining(),
+            Matchers.equalTo(7)
+        );
+    }
+
+    /**
+     * Ledger can guess the resource from the path of the request, when
+     * the response doesn't name it.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void guessesResourceFromPath() throws IOException {
+        final Ledger ledger = new Ledger();
+        final String home = "https://api.github.com/search/issues?q=test";
+        ledger.record(
+            home, Collections.emptyList(),
+            new FakeRequest()
+                .withHeader("X-RateLimit-Remaining", "29")
+                .withHeader("X-RateLimit-Reset", "100")
+                .fetch()
+        );
+        MatcherAssert.assertThat(
+            "Limit was not recorded for the search resource",
+            ledger.entry(home, "", "search").get().remaining(),
+            Matchers.equalTo(29)
+        );
+    }
+
+    /**
+     * Response with rate limit headers.
+     * @param resource Resource
+     * @param remaining Remaining number of requests
+     * @param reset Time of reset
+     * @return Response
+     * @throws IOException If fails
+     */
+    private static Response response(final String resource,
+        final String remaining, final String reset) throws IOException {
+        return new FakeRequest()
+            .withHeader("X-RateLimit-Resource", resource)
+            .withHeader("X-RateLimit-Limit", "5000")
+            .withHeader("X-RateLimit-Remaining", remaining)
+            .withHeader("X-RateLimit-Reset", reset)
+            .fetch();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.request.FakeRequest;
+import java.io.IOException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LedgerWire}.
+ * @since 2.0
+ */
+final class LedgerWireTest {
+
+    /**
+     * LedgerWire can record rate limit headers.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void recordsHeaders() throws IOException {
+        final Ledger ledger = new Ledger();
+        new FakeRequest()
+            .withHeader("X-RateLimit-Resource", "graphql")
+            .withHeader("X-RateLimit-Remaining", "42")
+            .withHeader("X-RateLimit-Reset", "1372700873")
+            .header("Authorization", "token xyz")
+            .through(LedgerWire.class, ledger)
+            .fetch();
+        MatcherAssert.assertThat(
+            "Headers were not recorded",
+            ledger.entry("localhost", "token xyz", "graphql").get().remaining(),
+            Matchers.equalTo(42)
+        );
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import com.jcabi.http.request.BaseRequest;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.immutable.Array;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ListenerWire}.
+ * @since 2.0
+ */
+final class ListenerWireTest {
+
+    /**
+     * ListenerWire can report start, retry and response.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void reportsLifecycle() throws IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Wire wire = (req, home, method, headers, content, connect, read) -> {
+            final int status;
+            if (calls.incrementAndGet() == 1) {
+                status = HttpURLConnection.HTTP_UNAVAILABLE;
+            } else {
+                status = HttpURLConnection.HTTP_OK;
+            }
+            return new DefaultResponse(
+                req, status, "", new Array<>(new LinkedList<>()), new byte[0]
+            );
+        };
+        final ListenerWireTest.Recording listener =
+            new ListenerWireTest.Recording();
+        new BaseRequest(wire, "http://localhost/repos/a/b")
+            .through(BackoffWire.class, 2, 10L, 20L)
+            .through(ListenerWire.class, listener)
+            .fetch();
+        MatcherAssert.assertThat(
+            "Events are wrong",
+            listener.events(),
+            Matchers.contains(
+                "start GET /repos/{owner}/{repo}",
+                "retry 1",
+                "response 200"
+            )
+        );
+    }
+
+    /**
+     * ListenerWire can report errors.
+     */
+    @Test
+    void reportsErrors() {
+        final ListenerWireTest.Recording listener =
+            new ListenerWireTest.Recording();
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new BaseRequest(
+                (req, home, method, headers, content, connect, read) -> {
+                    throw new IOException("broken");
+                },
+                "http://localhost/user"
+            ).through(ListenerWire.class, listener).fetch(),
+            "Error was swallowed"
+        );
+        MatcherAssert.assertThat(
+            "Error was not reported",
+            listener.events(),
+            Matchers.hasItem("error broken")
+        );
+    }
+
+    /**
+     * ListenerWire can report runtime errors.
+     */
+    @Test
+    void reportsRuntimeErrors() {
+        final ListenerWireTest.Recording listener =
+            new ListenerWireTest.Recording();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new BaseRequest(
+                (req, home, method, headers, content, connect, read) -> {
+                    throw new IllegalStateException("unexpected");
+                },
+                "http://localhost/user"
+            ).through(ListenerWire.class, listener).fetch(),
+            "Runtime error was swallowed"
+        );
+        MatcherAssert.assertThat(
+            "Runtime error was not reported",
+            listener.events(),
+            Matchers.hasItem("error unexpected")
+        );
+    }
+
+    /**
+     * Listener that records events.
+     * @since 2.0
+     */
+    private static final class Recording implements Listener {
+        /**
+         * Events.
+         */
+        private final transient List<String> list =
+            new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onStart(final Listener.Call call) {
+            this.list.add(
+                String.format("start %s %s", call.method(), call.route())
+            );
+        }
+
+        @Override
+        public void onResponse(final Listener.Call call,
+            final Response response) {
+            this.list.add(String.format("response %d", response.status()));
+        }
+
+        @Override
+        public void onRetry(final Listener.Call call, final int attempt,
+            final long delay) {
+            this.list.add(String.format("retry %d", attempt));
+        }
+
+        @Override
+        public void onThrottle(final Listener.Call call, final long delay) {
+            this.list.add("throttle");
+        }
+
+        @Override
+        public void onError(final Listener.Call call, final Exception error) {
+            this.list.add(String.format("error %s", error.getMessage()));
+        }
+
+        /**
+         * Recorded events.
+         * @return Events
+         */
+        Collection<String> events() {
+            return this.list;
+        }
+    }
+}
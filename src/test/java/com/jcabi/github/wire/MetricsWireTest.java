@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.request.BaseRequest;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.http.request.FakeRequest;
+import com.jcabi.immutable.Array;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.SequenceInputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MetricsWire}.
+ * @since 2.0
+ */
+final class MetricsWireTest {
+
+    /**
+     * MetricsWire can record requests by routes.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void recordsRequestsByRoutes() throws IOException {
+        final Metrics metrics = new Metrics();
+        final Request request = new FakeRequest()
+            .withStatus(HttpURLConnection.HTTP_NOT_FOUND)
+            .withHeader("X-RateLimit-Remaining", "10")
+            .withBody("{}")
+            .through(MetricsWire.class, metrics);
+        request.uri().set(URI.create("http://localhost/repos/a/b/issues/1"))
+            .back().fetch();
+        request.uri().set(URI.create("http://localhost/repos/c/d/issues/2"))
+            .back().fetch();
+        final Metrics.Snapshot snapshot = metrics.snapshot()
+            .get("GET /repos/{owner}/{repo}/issues/{n}");
+        MatcherAssert.assertThat(
+            "Requests were not counted",
+            snapshot.requests(),
+            Matchers.equalTo(2L)
+        );
+        MatcherAssert.assertThat(
+            "Errors were not counted",
+            snapshot.errors(),
+            Matchers.equalTo(2L)
+        );
+        MatcherAssert.assertThat(
+            "Bytes were not counted",
+            snapshot.received(),
+            Matchers.equalTo(4L)
+        );
+        MatcherAssert.assertThat(
+            "Rate limit cost was not counted",
+            snapshot.cost(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    /**
+     * MetricsWire can count bytes sent as the wire reads them.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void countsBytesAsTheyAreRead() throws IOException {
+        final Metrics metrics = new Metrics();
+        new BaseRequest(
+            (req, home, method, headers, content, connect, read) -> {
+                IOUtils.toByteArray(content);
+                return new DefaultResponse(
+                    req, HttpURLConnection.HTTP_CREATED, "Created",
+                    new Array<>(), new byte[0]
+                );
+            },
+            "http://localhost/gists"
+        ).method(Request.POST).through(MetricsWire.class, metrics).fetch(
+            new SequenceInputStream(
+                new ByteArrayInputStream(new byte[10]),
+                new ByteArrayInputStream(new byte[5])
+            )
+        );
+        MatcherAssert.assertThat(
+            "Bytes sent were not counted",
+            metrics.snapshot().get("POST /gists").sent(),
+            Matchers.equalTo(15L)
+        );
+    }
+
+    /**
+     * Metrics can be registered in JMX.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void exposesThroughJmx() throws IOException {
+        final Metrics metrics = new Metrics().register("MetricsWireTest");
+        new FakeRequest().through(MetricsWire.class, metrics).fetch();
+        MatcherAssert.assertThat(
+            "Requests are not visible",
+            metrics.getRequests().values(),
+            Matchers.contains(1L)
+        );
+        MatcherAssert.assertThat(
+            "Latency is not visible",
+            metrics.getTailLatency().size(),
+            Matchers.equalTo(1)
+        );
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.request.FakeRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link PacingWire}.
+ * @since 2.0
+ * @checkstyle MagicNumberCheck (100 lines)
+ */
+final class PacingWireTest {
+
+    /**
+     * PacingWire can spread remaining requests until the reset.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void spreadsRequestsOverWindow() throws IOException {
+        final Request request = new FakeRequest()
+            .withStatus(HttpURLConnection.HTTP_OK)
+            .withHeader("X-RateLimit-Remaining", "2")
+            .withHeader(
+                "X-RateLimit-Reset",
+                String.valueOf(
+                    TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())
+                        + 3L
+                )
+            )
+            .through(PacingWire.class, 1, new Ledger());
+        final long start = System.currentTimeMillis();
+        request.fetch();
+        request.fetch();
+        request.fetch();
+        MatcherAssert.assertThat(
+            "Requests were not paced",
+            System.currentTimeMillis() - start,
+            Matchers.greaterThanOrEqualTo(900L)
+        );
+    }
+
+    /**
+     * PacingWire can send requests without delay if there is no limit.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void doesNotDelayWithoutLimit() throws IOException {
+        final Request request = new FakeRequest()
+            .withStatus(HttpURLConnection.HTTP_OK)
+            .through(PacingWire.class, 1, new Ledger());
+        final long start = System.currentTimeMillis();
+        for (int idx = 0; idx < 10; ++idx) {
+            request.fetch();
+        }
+        MatcherAssert.assertThat(
+            "Requests were delayed",
+            System.currentTimeMillis() - start,
+            Matchers.lessThan(1000L)
+        );
+    }
+
+    /**
+     * PacingWire can keep separate budgets per resource.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void keepsBudgetsPerResource() throws IOException {
+        final Request request = new FakeRequest()
+            .withStatus(HttpURLConnection.HTTP_OK)
+            .withHeader("X-RateLimit-Resource", "search")
+            .withHeader("X-RateLimit-Remaining", "0")
+            .withHeader(
+                "X-RateLimit-Reset",
+                String.valueOf(
+                    TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())
+                        + 60L
+                )
+            )
+            .uri().path("/search/issues").back()
+            .through(PacingWire.class, 1, new Ledger());
+        request.fetch();
+        final long start = System.currentTimeMillis();
+        request.uri().set(URI.create("http://localhost/user")).back()
+            .fetch();
+        MatcherAssert.assertThat(
+            "Core request was delayed by search budget",
+            System.currentTimeMillis() - start,
+            Matchers.lessThan(1000L)
+        );
+    }
+
+    /**
+     * PacingWire can ignore rate limit headers it can't parse.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void ignoresBrokenHeaders() throws IOException {
+        MatcherAssert.assertThat(
+            "Response with broken headers was not returned",
+            new FakeRequest()
+                .withStatus(HttpURLConnection.HTTP_OK)
+                .withHeader("X-RateLimit-Remaining", "plenty")
+                .withHeader("X-RateLimit-Reset", "soon")
+                .through(PacingWire.class, 1, new Ledger())
+                .fetch()
+                .status(),
+            Matchers.equalTo(HttpURLConnection.HTTP_OK)
+        );
+    }
+}
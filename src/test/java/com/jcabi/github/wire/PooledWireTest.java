@@ -0,0 +1,175 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.github.RandomPort;
+import com.jcabi.http.Request;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.mock.MkQuery;
+import com.jcabi.http.request.BaseRequest;
+import com.jcabi.http.response.RestResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link PooledWire}.
+ * @since 2.0
+ */
+@ExtendWith(RandomPort.class)
+final class PooledWireTest {
+
+    /**
+     * PooledWire can send requests and read responses.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void sendsRequestsThroughPool() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "first")
+                        .withHeader("X-Test", "yes")
+                )
+                .next(new MkAnswer.Simple(HttpURLConnection.HTTP_CREATED, "second"))
+                .start(RandomPort.port())
+        ) {
+            final Request request = new BaseRequest(
+                new PooledWire(new Transport().withMaxPerRoute(2)),
+                container.home().toString()
+            );
+            MatcherAssert.assertThat(
+                "First response body is wrong",
+                request.header("Accept", "text/plain").fetch()
+                    .as(RestResponse.class)
+                    .assertStatus(HttpURLConnection.HTTP_OK)
+                    .assertHeader("X-Test", "yes")
+                    .body(),
+                Matchers.equalTo("first")
+            );
+            MatcherAssert.assertThat(
+                "Second response body is wrong",
+                request.method(Request.POST).body().set("hello").back()
+                    .fetch()
+                    .as(RestResponse.class)
+                    .assertStatus(HttpURLConnection.HTTP_CREATED)
+                    .body(),
+                Matchers.equalTo("second")
+            );
+            MatcherAssert.assertThat(
+                "Header was not sent",
+                container.take().headers().get("Accept"),
+                Matchers.hasItem("text/plain")
+            );
+            final MkQuery post = container.take();
+            MatcherAssert.assertThat(
+                "Body was not sent",
+                post.body(),
+                Matchers.equalTo("hello")
+            );
+            container.stop();
+        }
+    }
+
+    /**
+     * PooledWire can stream the body of the known length.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void streamsBodyOfKnownLength() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(new MkAnswer.Simple(HttpURLConnection.HTTP_CREATED))
+                .start(RandomPort.port())
+        ) {
+            new BaseRequest(new PooledWire(), container.home().toString())
+                .method(Request.POST)
+                .header("Content-Length", 5)
+                .fetch(
+                    new ByteArrayInputStream(
+                        "hello, world".getBytes(StandardCharsets.UTF_8)
+                    )
+                );
+            final MkQuery post = container.take();
+            MatcherAssert.assertThat(
+                "Body was not streamed",
+                post.body(),
+                Matchers.equalTo("hello")
+            );
+            MatcherAssert.assertThat(
+                "Length was not sent once",
+                post.headers().get("Content-Length"),
+                Matchers.contains("5")
+            );
+            container.stop();
+        }
+    }
+
+    /**
+     * PooledWire can reject the invalid length of the body.
+     */
+    @Test
+    void rejectsInvalidContentLength() {
+        MatcherAssert.assertThat(
+            "Wrong message",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new BaseRequest(new PooledWire(), "http://localhost/")
+                    .method(Request.POST)
+                    .header("Content-Length", "five")
+                    .fetch()
+            ).getMessage(),
+            Matchers.containsString("five")
+        );
+    }
+
+    /**
+     * PooledWire can open a new pool after the old one is shut down.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void reopensPoolAfterShutdown() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK))
+                .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK))
+                .start(RandomPort.port())
+        ) {
+            final Transport transport = new Transport().withMaxPerRoute(3);
+            final Request request = new BaseRequest(
+                new PooledWire(transport), container.home().toString()
+            );
+            request.fetch();
+            PooledWire.shutdown(transport);
+            MatcherAssert.assertThat(
+                "Request after shutdown failed",
+                request.fetch().status(),
+                Matchers.equalTo(HttpURLConnection.HTTP_OK)
+            );
+            PooledWire.shutdown(transport);
+            container.stop();
+        }
+    }
+
+    /**
+     * PooledWire can be compared by its transport.
+     */
+    @Test
+    void comparesByTransport() {
+        MatcherAssert.assertThat(
+            "Wires with equal transports are not equal",
+            new PooledWire(new Transport().withReadTimeout(1)),
+            Matchers.equalTo(new PooledWire(new Transport().withReadTimeout(1)))
+        );
+    }
+}
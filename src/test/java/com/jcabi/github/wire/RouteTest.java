@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Route}.
+ * @since 2.0
+ */
+final class RouteTest {
+
+    @Test
+    void replacesOwnerRepoAndNumber() {
+        MatcherAssert.assertThat(
+            "Template is wrong",
+            new Route(
+                "https://api.github.com/repos/jcabi/jcabi-github/issues/42?page=2"
+            ).toString(),
+            Matchers.equalTo("/repos/{owner}/{repo}/issues/{n}")
+        );
+    }
+
+    @Test
+    void replacesPathOfContent() {
+        MatcherAssert.assertThat(
+            "Template is wrong",
+            new Route(
+                "https://api.github.com/repos/a/b/contents/src/main/Foo.java"
+            ).toString(),
+            Matchers.equalTo("/repos/{owner}/{repo}/contents/{path}")
+        );
+    }
+
+    @Test
+    void replacesNames() {
+        MatcherAssert.assertThat(
+            "Template is wrong",
+            new Route("https://api.github.com/repos/a/users/labels/bug")
+                .toString(),
+            Matchers.equalTo("/repos/{owner}/{repo}/labels/{name}")
+        );
+    }
+
+    @Test
+    void replacesShaOnEnterprise() {
+        MatcherAssert.assertThat(
+            "Template is wrong",
+            new Route(
+                String.join(
+                    "",
+                    "https://example.com/api/v3/repos/a/b/git/commits/",
+                    "0123456789abcdef0123456789abcdef01234567"
+                )
+            ).toString(),
+            Matchers.equalTo("/repos/{owner}/{repo}/git/commits/{sha}")
+        );
+    }
+
+    @Test
+    void replacesGistIds() {
+        MatcherAssert.assertThat(
+            "Template is wrong",
+            new Route(
+                "https://api.github.com/gists/aa5a315d61ae9438b18d/comments/7"
+            ).toString(),
+            Matchers.equalTo("/gists/{id}/comments/{n}")
+        );
+    }
+
+    @Test
+    void findsFamily() {
+        MatcherAssert.assertThat(
+            "Family is wrong",
+            new Route("https://api.github.com/search/code?q=x").family(),
+            Matchers.equalTo("/search/code")
+        );
+    }
+}
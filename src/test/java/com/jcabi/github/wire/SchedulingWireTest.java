@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.request.BaseRequest;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.immutable.Array;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link SchedulingWire}.
+ * @since 2.0
+ * @checkstyle MagicNumberCheck (200 lines)
+ */
+final class SchedulingWireTest {
+
+    /**
+     * SchedulingWire can serve interactive requests first.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void servesInteractiveFirst() throws Exception {
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final CountDownLatch gate = new CountDownLatch(1);
+        final Request request = new BaseRequest(
+            (req, home, method, headers, content, connect, read) -> {
+                order.add(URI.create(home).getPath());
+                try {
+                    gate.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+                return new DefaultResponse(
+                    req, HttpURLConnection.HTTP_OK, "OK",
+                    new Array<>(new LinkedList<>()), new byte[0]
+                );
+            },
+            "http://localhost/"
+        ).through(SchedulingWire.class, 1);
+        final Callable<Response> crawl = request
+            .header(SchedulingWire.HEADER, SchedulingWire.Priority.BACKGROUND)
+            .uri().set(URI.create("http://localhost/crawl")).back()::fetch;
+        final Callable<Response> view = request
+            .header(SchedulingWire.HEADER, SchedulingWire.Priority.INTERACTIVE)
+            .uri().set(URI.create("http://localhost/view")).back()::fetch;
+        final ExecutorService threads = Executors.newCachedThreadPool();
+        try {
+            for (int idx = 0; idx < 4; ++idx) {
+                threads.submit(crawl);
+                TimeUnit.MILLISECONDS.sleep(100L);
+            }
+            threads.submit(view);
+            TimeUnit.MILLISECONDS.sleep(200L);
+            gate.countDown();
+        } finally {
+            threads.shutdown();
+            threads.awaitTermination(5L, TimeUnit.SECONDS);
+        }
+        MatcherAssert.assertThat(
+            "Interactive request was not served first",
+            order,
+            Matchers.contains("/crawl", "/view", "/crawl", "/crawl", "/crawl")
+        );
+    }
+
+    /**
+     * SchedulingWire can remove the priority header.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void removesPriorityHeader() throws IOException {
+        final Collection<String> names = new CopyOnWriteArrayList<>();
+        new BaseRequest(
+            (req, home, method, headers, content, connect, read) -> {
+                for (final Map.Entry<String, String> header : headers) {
+                    names.add(header.getKey());
+                }
+                return new DefaultResponse(
+                    req, HttpURLConnection.HTTP_OK, "OK",
+                    new Array<>(new LinkedList<>()), new byte[0]
+                );
+            },
+            "http://localhost/"
+        ).through(SchedulingWire.class)
+            .header(SchedulingWire.HEADER, "interactive")
+            .header("Accept", "application/json")
+            .fetch();
+        MatcherAssert.assertThat(
+            "Priority header was sent",
+            names,
+            Matchers.contains("Accept")
+        );
+    }
+
+    /**
+     * SchedulingWire can serve the request of unknown priority.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void servesUnknownPriorityAsNormal() throws IOException {
+        MatcherAssert.assertThat(
+            "Request of unknown priority failed",
+            new BaseRequest(
+                (req, home, method, headers, content, connect, read) ->
+                    new DefaultResponse(
+                        req, HttpURLConnection.HTTP_OK, "OK",
+                        new Array<>(new LinkedList<>()), new byte[0]
+                    ),
+                "http://localhost/"
+            ).through(SchedulingWire.class)
+                .header(SchedulingWire.HEADER, "urgent")
+                .fetch()
+                .status(),
+            Matchers.equalTo(HttpURLConnection.HTTP_OK)
+        );
+    }
+}
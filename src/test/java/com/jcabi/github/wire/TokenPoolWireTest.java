@@ -0,0 +1,204 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.ImmutableHeader;
+import com.jcabi.http.Request;
+import com.jcabi.http.Wire;
+import com.jcabi.http.request.BaseRequest;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.immutable.Array;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link TokenPoolWire}.
+ * @since 2.0
+ */
+final class TokenPoolWireTest {
+
+    /**
+     * TokenPoolWire can route requests to the token with most budget.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void routesToHealthiestToken() throws IOException {
+        final Request request = TokenPoolWireTest.request(false);
+        MatcherAssert.assertThat(
+            "First token was not used first",
+            request.fetch().body(),
+            Matchers.equalTo("token poor")
+        );
+        MatcherAssert.assertThat(
+            "Unused token was not used next",
+            request.fetch().body(),
+            Matchers.equalTo("token rich")
+        );
+        MatcherAssert.assertThat(
+            "Token with most budget was not used",
+            request.fetch().body(),
+            Matchers.equalTo("token rich")
+        );
+    }
+
+    /**
+     * TokenPoolWire can keep the token for all pages of a listing.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void pinsTokenForPagination() throws IOException {
+        final Request request = TokenPoolWireTest.request(true);
+        request.uri().path("/issues").back().fetch();
+        MatcherAssert.assertThat(
+            "Token was not pinned to the listing",
+            request.uri().path("/issues").queryParam("page", 2).back()
+                .fetch().body(),
+            Matchers.equalTo("token poor")
+        );
+        MatcherAssert.assertThat(
+            "Token was pinned to another path",
+            request.uri().path("/pulls").back().fetch().body(),
+            Matchers.equalTo("token rich")
+        );
+    }
+
+    /**
+     * TokenPoolWire can release the pin when the walk is abandoned.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void releasesPinOfAbandonedWalk() throws IOException {
+        final Request request = new BaseRequest(
+            new TokenPoolWire(
+                TokenPoolWireTest.echo(true), Arrays.asList("poor", "rich"),
+                new Ledger(), 0L
+            ),
+            "http://localhost/issues"
+        );
+        request.fetch();
+        MatcherAssert.assertThat(
+            "Pin of the abandoned walk was not released",
+            request.fetch().body(),
+            Matchers.equalTo("token rich")
+        );
+    }
+
+    /**
+     * TokenPoolWire can keep budgets of resources apart.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void keepsBudgetsPerResource() throws IOException {
+        final String reset = String.valueOf(
+            TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 60L
+        );
+        final Wire wire = (req, home, method, headers, content, connect, read) -> {
+            final Collection<Map.Entry<String, String>> hdrs = new LinkedList<>();
+            if (home.contains("/search/")) {
+                hdrs.add(new ImmutableHeader("X-RateLimit-Resource", "search"));
+                hdrs.add(new ImmutableHeader("X-RateLimit-Remaining", "0"));
+            } else {
+                hdrs.add(new ImmutableHeader("X-RateLimit-Remaining", "100"));
+            }
+            hdrs.add(new ImmutableHeader("X-RateLimit-Reset", reset));
+            return new DefaultResponse(
+                req, HttpURLConnection.HTTP_OK, "OK", new Array<>(hdrs),
+                TokenPoolWireTest.auth(headers).getBytes(StandardCharsets.UTF_8)
+            );
+        };
+        final Request request = new BaseRequest(wire, "http://localhost/")
+            .through(
+                TokenPoolWire.class, Arrays.asList("first", "second"),
+                new Ledger()
+            );
+        request.uri().path("/search/issues").back().fetch();
+        MatcherAssert.assertThat(
+            "Token with exhausted search was used for search",
+            request.uri().path("/search/issues").back().fetch().body(),
+            Matchers.equalTo("token second")
+        );
+        MatcherAssert.assertThat(
+            "Token with exhausted search was not used for core",
+            request.uri().path("/user").back().fetch().body(),
+            Matchers.equalTo("token first")
+        );
+    }
+
+    /**
+     * Request through the pool of two tokens, which echoes the
+     * Authorization header.
+     * @param paginated Add Link header with the next page
+     * @return Request
+     */
+    private static Request request(final boolean paginated) {
+        return new BaseRequest(
+            TokenPoolWireTest.echo(paginated), "http://localhost/"
+        )
+            .header("Authorization", "token single")
+            .through(
+                TokenPoolWire.class, Arrays.asList("poor", "rich"), new Ledger()
+            );
+    }
+
+    /**
+     * Wire which echoes the Authorization header, with less budget
+     * for the poor token.
+     * @param paginated Add Link header with the next page
+     * @return Wire
+     */
+    private static Wire echo(final boolean paginated) {
+        final String reset = String.valueOf(
+            TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 60L
+        );
+        return (req, home, method, headers, content, connect, read) -> {
+            final String auth = TokenPoolWireTest.auth(headers);
+            final String remaining;
+            if (auth.endsWith("poor")) {
+                remaining = "10";
+            } else {
+                remaining = "100";
+            }
+            final Collection<Map.Entry<String, String>> hdrs = new LinkedList<>();
+            hdrs.add(new ImmutableHeader("X-RateLimit-Remaining", remaining));
+            hdrs.add(new ImmutableHeader("X-RateLimit-Reset", reset));
+            if (paginated) {
+                hdrs.add(
+                    new ImmutableHeader(
+                        "Link", String.format("<%s?page=2>; rel=\"next\"", home)
+                    )
+                );
+            }
+            return new DefaultResponse(
+                req, HttpURLConnection.HTTP_OK, "OK", new Array<>(hdrs),
+                auth.getBytes(StandardCharsets.UTF_8)
+            );
+        };
+    }
+
+    /**
+     * Value of the Authorization header.
+     * @param headers Headers of the request
+     * @return Value or empty string
+     */
+    private static String auth(
+        final Collection<Map.Entry<String, String>> headers) {
+        String auth = "";
+        for (final Map.Entry<String, String> header : headers) {
+            if ("Authorization".equals(header.getKey())) {
+                auth = header.getValue();
+            }
+        }
+        return auth;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Transport}.
+ * @since 2.0
+ * @checkstyle MagicNumberCheck (200 lines)
+ */
+final class TransportTest {
+
+    /**
+     * Transport can change its settings without mutating itself.
+     */
+    @Test
+    void changesSettingsImmutably() {
+        final Transport origin = new Transport();
+        final Transport changed = origin
+            .withMaxPerRoute(64)
+            .withIdleEviction(5)
+            .withSocketBuffer(65_536)
+            .withConnectTimeout(1_000)
+            .withReadTimeout(2_000)
+            .withKeepAlive(10);
+        MatcherAssert.assertThat(
+            "Original transport was mutated",
+            origin,
+            Matchers.equalTo(new Transport())
+        );
+        MatcherAssert.assertThat(
+            "Max per route was not changed",
+            changed.maxPerRoute(),
+            Matchers.equalTo(64)
+        );
+        MatcherAssert.assertThat(
+            "Read timeout was not changed",
+            changed.readTimeout(),
+            Matchers.equalTo(2_000)
+        );
+        MatcherAssert.assertThat(
+            "Socket buffer was not changed",
+            changed.socketBuffer(),
+            Matchers.equalTo(65_536)
+        );
+    }
+
+    /**
+     * Transport can keep total pool size not less than per route size.
+     */
+    @Test
+    void keepsTotalNotLessThanPerRoute() {
+        MatcherAssert.assertThat(
+            "Total was not raised to per route",
+            new Transport().withMaxTotal(10).withMaxPerRoute(30).maxTotal(),
+            Matchers.equalTo(30)
+        );
+        MatcherAssert.assertThat(
+            "Per route was not lowered to total",
+            new Transport().withMaxTotal(5).maxPerRoute(),
+            Matchers.equalTo(5)
+        );
+    }
+
+    /**
+     * Transport can reject invalid settings.
+     */
+    @Test
+    void rejectsInvalidSettings() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Transport().withMaxPerRoute(0),
+            "Zero connections per route was accepted"
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Transport().withReadTimeout(-1),
+            "Negative timeout was accepted"
+        );
+    }
+}